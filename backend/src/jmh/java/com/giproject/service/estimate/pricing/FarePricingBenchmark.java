@@ -0,0 +1,98 @@
+package com.giproject.service.estimate.pricing;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.giproject.dto.fees.FeesBasicDTO;
+import com.giproject.dto.fees.FeesExtraDTO;
+import com.giproject.service.fees.FareSnapshot;
+
+/**
+ * 요금 계산 엔진 벤치마크.
+ *
+ * - quoteSingle: 견적 한 건 (중량 이름 조회 + 추가요금 마스크 + 계산)
+ * - quoteBatch: 같은 중량/추가요금으로 경로 후보 N건 일괄 계산
+ * - bigDecimalBaseline: 기존 방식(BigDecimal 곱셈/합산)으로 N건 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FarePricingBenchmark {
+
+	private static final List<String> WEIGHTS = List.of("0.5톤", "1톤", "2톤", "3톤", "4톤", "5톤이상");
+	private static final List<String> EXTRAS = List.of("냉동식품", "유제품", "위험물", "파손주의");
+
+	@Param({ "1000", "10000" })
+	int candidates;
+
+	FareTable table;
+	List<FeesBasicDTO> basics;
+	double[] distancesKm;
+	int[] totals;
+	List<String> notes = List.of("냉동식품", "파손주의");
+
+	@Setup
+	public void setUp() {
+		basics = new ArrayList<>();
+		for (int i = 0; i < WEIGHTS.size(); i++) {
+			basics.add(FeesBasicDTO.builder()
+					.weight(WEIGHTS.get(i))
+					.ratePerKm(BigDecimal.valueOf(1200 + i * 350L))
+					.initialCharge(BigDecimal.valueOf(50000 + i * 15000L))
+					.build());
+		}
+		List<FeesExtraDTO> extras = new ArrayList<>();
+		for (int i = 0; i < EXTRAS.size(); i++) {
+			extras.add(FeesExtraDTO.builder()
+					.extraChargeTitle(EXTRAS.get(i))
+					.extraCharge(BigDecimal.valueOf(10000 + i * 5000L))
+					.build());
+		}
+		table = FareTable.compile(new FareSnapshot(1, "\"bench\"", basics, extras,
+				WEIGHTS, EXTRAS, Map.of(), Map.of()));
+
+		distancesKm = new double[candidates];
+		for (int i = 0; i < candidates; i++) {
+			distancesKm[i] = ThreadLocalRandom.current().nextDouble(3, 450);
+		}
+		totals = new int[candidates];
+	}
+
+	@Benchmark
+	public int quoteSingle() {
+		int weightClass = table.weightClass("2톤");
+		return table.totalCost(weightClass, distancesKm[0], table.extrasMask(notes));
+	}
+
+	@Benchmark
+	public int[] quoteBatch() {
+		table.totalCosts(table.weightClass("2톤"), table.extrasMask(notes), distancesKm, totals);
+		return totals;
+	}
+
+	@Benchmark
+	public int[] bigDecimalBaseline() {
+		FeesBasicDTO fee = basics.stream().filter(f -> f.getWeight().equals("2톤")).findFirst().orElseThrow();
+		BigDecimal extra = BigDecimal.valueOf(10000).add(BigDecimal.valueOf(25000));
+		for (int i = 0; i < distancesKm.length; i++) {
+			totals[i] = fee.getInitialCharge()
+					.add(fee.getRatePerKm().multiply(BigDecimal.valueOf(distancesKm[i])))
+					.add(extra)
+					.intValue();
+		}
+		return totals;
+	}
+}
@@ -0,0 +1,30 @@
+package com.giproject.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정 클래스
+ *
+ * - 인메모리 인덱스 만료 정리 등 주기 작업(@Scheduled) 활성화
+ * - 기본 스케줄러는 스레드 1개라, 위치 저장(5초)이나 예약 요금표 적용이 길어지면 1초 위치 전송과 SSE 하트비트가 밀린다.
+ *   작업끼리 서로 기다리지 않도록 풀을 둔다 (같은 작업은 fixedDelay/cron 이라 겹쳐 돌지 않음)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	private static final int POOL_SIZE = 4;
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(POOL_SIZE);
+		scheduler.setThreadNamePrefix("scheduled-");
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(10);
+		return scheduler;
+	}
+}
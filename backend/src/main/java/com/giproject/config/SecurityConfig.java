@@ -120,7 +120,7 @@ public class SecurityConfig {
                                  "/g2i4/uploads/**","/g2i4/mypage/**","/g2i4/user/**","/g2i4/cargo/**","/g2i4/member/**","/g2i4/qna/**","/api/**").permitAll()
 
                 // 예시: 특정 권한 필요
-                .requestMatchers("/g2i4/estimate/list").hasAuthority("ROLE_DRIVER")
+                .requestMatchers("/g2i4/estimate/list", "/g2i4/estimate/list/cursor", "/g2i4/estimate/list/nearby", "/g2i4/estimate/stream").hasAuthority("ROLE_DRIVER")
 
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
@@ -6,6 +6,7 @@ import com.giproject.entity.cargo.Cargo;
 import com.giproject.entity.cargo.CargoOwner;
 import com.giproject.repository.cargo.CargoOwnerRepository;
 import com.giproject.repository.cargo.CargoRepository;
+import com.giproject.service.estimate.matching.DriverCapacityStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +23,7 @@ public class CargoController {
 
     private final CargoRepository cargoRepository;
     private final CargoOwnerRepository cargoOwnerRepository;
+    private final DriverCapacityStore driverCapacityStore;
 
     // userinfo와 동일한 방식으로 '절대경로' 고정
     private static final Path UPLOAD_ROOT = Paths.get("../uploads").toAbsolutePath().normalize();
@@ -52,6 +54,7 @@ public class CargoController {
             cargo.setCargoOwner(owner);
 
             Cargo saved = cargoRepository.save(cargo);
+            driverCapacityStore.evict(cargoId);
             return ResponseEntity.ok(saved);
         } catch (Exception e) {
             e.printStackTrace();
@@ -73,6 +76,9 @@ public class CargoController {
             cargo.setCargoCapacity(dto.getWeight());
 
             Cargo updated = cargoRepository.save(cargo);
+            if (updated.getCargoOwner() != null) {
+                driverCapacityStore.evict(updated.getCargoOwner().getCargoId());
+            }
             return ResponseEntity.ok(updated);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("차량 수정 실패: " + e.getMessage());
@@ -86,6 +92,9 @@ public class CargoController {
     public ResponseEntity<?> deleteCargo(@PathVariable("cargoNo") Integer cargoNo) {
         try {
             // 물리 파일까지 지우고 싶으면 여기서 cargoImage 읽어서 파일 삭제 로직 추가 가능
+            cargoRepository.findById(cargoNo)
+                    .map(Cargo::getCargoOwner)
+                    .ifPresent(owner -> driverCapacityStore.evict(owner.getCargoId()));
             cargoRepository.deleteById(cargoNo);
             return ResponseEntity.ok("삭제 성공");
         } catch (Exception e) {
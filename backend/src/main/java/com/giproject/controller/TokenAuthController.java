@@ -331,6 +331,15 @@ public class TokenAuthController {
 
     @Data static class RefreshReq { private String refreshToken; }
 
+    /* ===== 4-1) SSE 구독용 단기 토큰 ===== (EventSource 는 헤더를 못 보내 URL 에 토큰이 실리므로 액세스 토큰 대신 발급) */
+    @PostMapping("/stream-token")
+    public ResponseEntity<?> streamToken(@RequestHeader(value = "Authorization", required = false) String authHeader) {
+        if (authHeader == null || authHeader.isBlank())
+            return error("UNAUTHORIZED","인증 정보가 없거나 만료되었습니다.",HttpStatus.UNAUTHORIZED);
+        String access = jwtService.resolveToken(authHeader, null);
+        return ResponseEntity.ok(Map.of("streamToken", jwtService.createStreamToken(access)));
+    }
+
     /* ===== 5) 로그아웃 ===== */
     @PostMapping("/logout")
     public ResponseEntity<?> logout() { return ResponseEntity.ok(Map.of("ok",true)); }
@@ -28,8 +28,9 @@ public class AdminDeliveryController {
 
     @GetMapping("/all") // New endpoint
     public ResponseEntity<List<DeliveryDetailDTO>> getAllDeliveries(@RequestParam(value = "status", defaultValue = "ALL") String status,
-                                                                    @RequestParam(value = "keyword", defaultValue = "") String keyword) {
-        List<DeliveryDetailDTO> allDeliveries = adminDeliveryService.getAllDeliveries(status, keyword);
+                                                                    @RequestParam(value = "keyword", defaultValue = "") String keyword,
+                                                                    @RequestParam(value = "region", required = false) String region) {
+        List<DeliveryDetailDTO> allDeliveries = adminDeliveryService.getAllDeliveries(status, keyword, region);
         return ResponseEntity.ok(allDeliveries);
     }
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 import com.giproject.dto.delivery.DeliveryDTO;
@@ -26,17 +27,19 @@ public class DeliveryController {
 	}
 	
 	@PutMapping("/changeintransit")
-	public ResponseEntity<DeliveryDTO> changeInTransit(@RequestBody DeliveryDTO deliveryDTO) {
+	public ResponseEntity<DeliveryDTO> changeInTransit(@RequestBody DeliveryDTO deliveryDTO,
+			@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
 		Long no = deliveryDTO.getDeliveryNo();
-		DeliveryDTO dto = deliveryService.changeStatusInTransit(no);
+		DeliveryDTO dto = deliveryService.changeStatusInTransit(no, idempotencyKey);
 		
 		return ResponseEntity.ok(dto);
 	}
 	
 	@PutMapping("/changecomplete")
-	public ResponseEntity<DeliveryDTO> changeCompleted(@RequestBody DeliveryDTO deliveryDTO){
+	public ResponseEntity<DeliveryDTO> changeCompleted(@RequestBody DeliveryDTO deliveryDTO,
+			@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey){
 		Long no = deliveryDTO.getDeliveryNo();
-		DeliveryDTO dto = deliveryService.changeStatusCompleted(no);
+		DeliveryDTO dto = deliveryService.changeStatusCompleted(no, idempotencyKey);
 		
 		return ResponseEntity.ok(dto);
 	}
@@ -0,0 +1,63 @@
+package com.giproject.controller.delivery;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.giproject.dto.delivery.TrackingDTO;
+import com.giproject.security.JwtService;
+import com.giproject.service.delivery.DeliveryTracker;
+import com.giproject.service.delivery.EtaService;
+import com.giproject.service.delivery.TrackingStreamPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 화주용 배송 위치 조회. paidlist 를 다시 부르지 않고 스트림으로 위치/도착 예정을 받는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/g2i4/delivery/tracking")
+public class DeliveryTrackingController {
+
+	private final TrackingStreamPublisher trackingStreamPublisher;
+	private final DeliveryTracker deliveryTracker;
+	private final EtaService etaService;
+	private final JwtService jwtService;
+
+	@GetMapping("/{matchingNo}")
+	public ResponseEntity<TrackingDTO.Position> latest(@PathVariable("matchingNo") Long matchingNo,
+			@RequestHeader(value = "Authorization", required = false) String authHeader) {
+		// 없거나 잘못된/만료된 토큰은 파싱 예외(500)가 아니라 401
+		String memId = jwtService.getUsername(jwtService.resolveToken(authHeader, null));
+		return ResponseEntity.ok(trackingStreamPublisher.latest(memId, matchingNo));
+	}
+
+	// 웹은 EventSource 라 헤더 대신 ?stream_token= (POST /api/auth/stream-token 으로 받은 단기 토큰) 으로 보낸다
+	@GetMapping(value = "/{matchingNo}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@PathVariable("matchingNo") Long matchingNo,
+			@RequestHeader(value = "Authorization", required = false) String authHeader,
+			@RequestParam(value = JwtService.STREAM_TOKEN_PARAM, required = false) String streamToken) {
+		String memId = jwtService.getUsername(jwtService.resolveToken(authHeader, streamToken));
+		return trackingStreamPublisher.subscribe(memId, matchingNo);
+	}
+
+	// 운영 확인용 카운터 (위치 수집, 도착 예정 통계, 연결 수)
+	@GetMapping("/stats")
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("tracker", deliveryTracker.stats());
+		stats.put("eta", etaService.stats());
+		stats.put("connections", trackingStreamPublisher.connectionCount());
+		return stats;
+	}
+}
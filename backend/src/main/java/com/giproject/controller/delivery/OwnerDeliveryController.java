@@ -7,6 +7,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.giproject.dto.delivery.DeliveryRowDTO;
+import com.giproject.dto.delivery.TrackingDTO;
+import com.giproject.service.delivery.DeliveryTracker;
 import com.giproject.service.delivery.OwnerDeliveryService;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class OwnerDeliveryController {
 
     private final OwnerDeliveryService service;
+    private final DeliveryTracker deliveryTracker;
 
     // 미결제
     @GetMapping("/unpaid")
@@ -41,18 +44,29 @@ public class OwnerDeliveryController {
 
     // 배송 완료 처리
     @PostMapping("/{matchingNo}/complete")
-    public ResponseEntity<Void> complete(@PathVariable("matchingNo") Long matchingNo, Principal principal) {
+    public ResponseEntity<Void> complete(@PathVariable("matchingNo") Long matchingNo, Principal principal,
+                                         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         String cargoId = principal.getName();
-        service.completeByMatchingNo(matchingNo, cargoId);
+        service.completeByMatchingNo(matchingNo, cargoId, idempotencyKey);
         return ResponseEntity.noContent().build();
     }
     
     @PostMapping("/{matchingNo}/in_transit")
     public ResponseEntity<Void> startTransit(@PathVariable("matchingNo") Long matchingNo,
-                                             Principal principal) {
+                                             Principal principal,
+                                             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         String cargoId = principal.getName();
-        service.markInTransit(matchingNo, cargoId);
+        service.markInTransit(matchingNo, cargoId, idempotencyKey);
         return ResponseEntity.noContent().build();
     }
+
+    // 배송중 위치 수집: 앱이 모아 둔 위치를 한 번에 보낸다 (메모리에 반영 후 주기적으로 일괄 저장)
+    @PostMapping("/{matchingNo}/locations")
+    public ResponseEntity<TrackingDTO.IngestResult> locations(@PathVariable("matchingNo") Long matchingNo,
+                                                             @RequestBody List<TrackingDTO.Ping> pings,
+                                                             Principal principal) {
+        String cargoId = principal.getName();
+        return ResponseEntity.accepted().body(deliveryTracker.ingest(cargoId, matchingNo, pings));
+    }
     
 }
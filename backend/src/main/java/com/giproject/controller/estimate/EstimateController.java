@@ -1,22 +1,31 @@
 package com.giproject.controller.estimate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.giproject.dto.estimate.EstimateDTO;
+import com.giproject.dto.estimate.QuoteBatchDTO;
 import com.giproject.dto.fees.FeesBasicDTO;
 import com.giproject.dto.fees.FeesExtraDTO;
+import com.giproject.dto.matching.MatchingBatchResultDTO;
 import com.giproject.dto.matching.MatchingDTO;
 import com.giproject.dto.matching.PageRequestDTO;
 import com.giproject.dto.matching.PageResponseDTO;
@@ -24,8 +33,10 @@ import com.giproject.entity.cargo.CargoOwner;
 import com.giproject.repository.cargo.CargoOwnerRepository;
 import com.giproject.security.JwtService;
 import com.giproject.service.estimate.EstimateService;
+import com.giproject.service.estimate.matching.MatchingFeedPublisher;
 import com.giproject.service.estimate.matching.MatchingService;
-import com.giproject.service.mail.MailService;
+import com.giproject.service.estimate.pricing.FarePricingEngine;
+import com.giproject.service.fees.FareSnapshot;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -40,16 +51,19 @@ public class EstimateController {
 	private final MatchingService matchingService;
 	private final CargoOwnerRepository cargoOwnerRepository;
 	private final JwtService jwtService;
-	private final MailService mailService;
+	private final MatchingFeedPublisher matchingFeedPublisher;
+	private final FarePricingEngine farePricingEngine;
 	@PostMapping("/")
 	public Map<String, Long> register(@RequestBody EstimateDTO dto,  @RequestHeader("Authorization") String authHeader) {
 		String token = authHeader.replace("Bearer ","");
 		String memId = jwtService.getUsername(token);
 		dto.setMemberId(memId);
 		System.out.println(memId);
+		estimateService.resolveLocation(dto);
 		Long eno = estimateService.sendEstimate(dto);
 		log.info("Received DTO: {}", eno);
-		return Map.of("RESULT", eno);
+		// 저장된 금액은 운송 시작 시각 요금표로 서버가 다시 계산한 값. 화면 금액과 다르면 클라이언트가 안내
+		return Map.of("RESULT", eno, "totalCost", (long) dto.getTotalCost());
 
 	}
 
@@ -60,6 +74,36 @@ public class EstimateController {
 		return matchingService.getList(dto,cargoId);
 	}
 
+	// 커서 페이징: 응답의 nextCursor 를 다음 요청의 cursor 로 넘긴다
+	@GetMapping("/list/cursor")
+	public PageResponseDTO<MatchingDTO> getEstimateListByCursor(PageRequestDTO dto,@RequestHeader("Authorization") String authHeader) {
+		String token = authHeader.replace("Bearer ","");
+		String cargoId = jwtService.getUsername(token);
+		return matchingService.getListByCursor(dto,cargoId);
+	}
+
+	// 근거리 피드: 기사 현재 위치에서 출발지가 가까운 순
+	@GetMapping("/list/nearby")
+	public List<MatchingDTO> getNearbyEstimateList(@RequestParam("lat") double lat, @RequestParam("lng") double lng,
+			@RequestParam(value = "size", defaultValue = "10") int size, @RequestHeader("Authorization") String authHeader) {
+		String token = authHeader.replace("Bearer ","");
+		String cargoId = jwtService.getUsername(token);
+		return matchingService.getNearbyList(cargoId, lat, lng, size);
+	}
+
+	// 신규 견적/철회 실시간 수신 (SSE). 최초 목록은 /list 로 받고 이후 변경분만 받는다
+	// 웹은 EventSource 라 헤더 대신 ?stream_token= (POST /api/auth/stream-token 으로 받은 단기 토큰) 으로 보낸다
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamEstimateList(@RequestHeader(value = "Authorization", required = false) String authHeader,
+			@RequestParam(value = JwtService.STREAM_TOKEN_PARAM, required = false) String streamToken) {
+		String token = jwtService.resolveToken(authHeader, streamToken);
+		String cargoId = jwtService.getUsername(token);
+		if (!cargoOwnerRepository.existsById(cargoId)) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "운전기사만 접근 가능합니다");
+		}
+		return matchingFeedPublisher.subscribe(cargoId);
+	}
+
 	@PostMapping("/subpath/rejected")
 	public ResponseEntity<Map<String, String>> reject(@RequestBody Map<String, Long> eno,@RequestHeader("Authorization") String authHeader) {
 		String token = authHeader.replace("Bearer ","");
@@ -80,11 +124,26 @@ public class EstimateController {
 		String cargoId = jwtService.getUsername(token);
 		CargoOwner cargoOwner = cargoOwnerRepository.findById(cargoId).get();
 		System.out.println(cargoId+estimateNo+"--------------------------------------------------");
-		Long mcno=matchingService.acceptMatching(estimateNo, cargoOwner);
-		mailService.acceptedMail(mcno);
+		matchingService.acceptMatching(estimateNo, cargoOwner); // 수락 메일은 커밋 후 MatchingMailListener 가 보낸다
 		return ResponseEntity.ok().body(Map.of("result", "accepted"));
 	}
 
+	// 일괄 거절: {"estimateNos": [1, 2, 3]} → 견적별 결과
+	@PostMapping("/subpath/rejected/batch")
+	public ResponseEntity<MatchingBatchResultDTO> rejectBatch(@RequestBody Map<String, List<Long>> body,@RequestHeader("Authorization") String authHeader) {
+		String token = authHeader.replace("Bearer ","");
+		String cargoId = jwtService.getUsername(token);
+		return ResponseEntity.ok(matchingService.rejectMatchings(body.get("estimateNos"), cargoId));
+	}
+
+	// 일괄 수락: 다른 기사님이 먼저 수락한 건은 conflict 로 돌려주고 나머지는 수락
+	@PostMapping("/subpath/accepted/batch")
+	public ResponseEntity<MatchingBatchResultDTO> acceptBatch(@RequestBody Map<String, List<Long>> body,@RequestHeader("Authorization") String authHeader) {
+		String token = authHeader.replace("Bearer ","");
+		String cargoId = jwtService.getUsername(token);
+		return ResponseEntity.ok(matchingService.acceptMatchings(body.get("estimateNos"), cargoId));
+	}
+
 	@GetMapping("/subpath/savelist")
 	public ResponseEntity<List<EstimateDTO>> getSaveEstimat() {
 		// Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -158,15 +217,26 @@ public class EstimateController {
 
 	       return ResponseEntity.ok(dtoList);
 	   }
-	@PostMapping("/subpath/searchfeesbasic")
-	public ResponseEntity<List<FeesBasicDTO>> getFeesBasic(){
-		System.out.println(estimateService.searchFees());
-		return ResponseEntity.ok(estimateService.searchFees());
+	// 견적 비교: 여러 경로/중량 후보를 한 번에 서버 요금표로 계산 (최대 10,000건)
+	@PostMapping("/subpath/quote/batch")
+	public ResponseEntity<QuoteBatchDTO.Response> quoteBatch(@RequestBody QuoteBatchDTO.Request request) {
+		return ResponseEntity.ok(farePricingEngine.quoteAll(request));
+	}
+
+	// 요금표는 스냅샷 버전을 ETag 로 내려준다. GET 재요청 시 If-None-Match 가 같으면 304.
+	// at(운송 시작 시각)을 주면 그 시각에 적용될 요금표 (예약된 요금 변경 반영, 견적 등록 시 서버 계산과 같은 기준)
+	@RequestMapping(value = "/subpath/searchfeesbasic", method = {RequestMethod.GET, RequestMethod.POST})
+	public ResponseEntity<List<FeesBasicDTO>> getFeesBasic(
+			@RequestParam(name = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at){
+		FareSnapshot snapshot = estimateService.fareSnapshot(at);
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(snapshot.etag()).body(snapshot.basics());
 	}
 	
-	@PostMapping("/subpath/searchfeesextra")
-	public ResponseEntity<List<FeesExtraDTO>> getFeesExtra(){
-		return ResponseEntity.ok(estimateService.searchExtra());
+	@RequestMapping(value = "/subpath/searchfeesextra", method = {RequestMethod.GET, RequestMethod.POST})
+	public ResponseEntity<List<FeesExtraDTO>> getFeesExtra(
+			@RequestParam(name = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at){
+		FareSnapshot snapshot = estimateService.fareSnapshot(at);
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(snapshot.etag()).body(snapshot.extras());
 	}
 	
 }
@@ -1,24 +1,39 @@
 package com.giproject.controller.fees;
 
-import com.giproject.dto.fees.FeesBasicDTO;
-import com.giproject.entity.fees.FeesBasic;
-import com.giproject.entity.fees.FeesExtra;
-import com.giproject.repository.fees.FeesBasicRepository;
-import com.giproject.repository.fees.FeesExtraRepository;
+import com.giproject.dto.fees.FareImportResultDTO;
+import com.giproject.dto.fees.FareScheduleDTO;
+import com.giproject.dto.fees.FareSimulationDTO;
+import com.giproject.security.AuthzUtil;
+import com.giproject.service.estimate.pricing.FareImpactSimulator;
+import com.giproject.service.fees.FareScheduleService;
+import com.giproject.service.fees.FareSnapshot;
+import com.giproject.service.fees.FareSnapshotHolder;
 import com.giproject.service.fees.FeesBasicService;
+import com.giproject.service.fees.FeesBulkService;
+import com.giproject.service.fees.FeesExtraService;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+
+import java.math.BigDecimal;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,9 +41,12 @@ import java.util.stream.Collectors;
 //@CrossOrigin(origins = { "http://localhost:3000", "http://localhost:3002" })
 public class FeesAdminController {
 
-	private final FeesBasicRepository feesBasicRepository;
-	private final FeesExtraRepository feesExtraRepository;
 	private final FeesBasicService basicService;
+	private final FeesExtraService extraService;
+	private final FareSnapshotHolder fareSnapshotHolder;
+	private final FareImpactSimulator fareImpactSimulator;
+	private final FeesBulkService feesBulkService;
+	private final FareScheduleService fareScheduleService;
 
 	private static final List<String> BASIC_ROWS_DEFAULT = List.of("0.5톤", "1톤", "2톤", "3톤", "4톤", "5톤이상");
 	private static final List<String> BASIC_COLS = List.of("거리별 요금", "기본 요금");
@@ -40,13 +58,6 @@ public class FeesAdminController {
 		return s == null ? "" : s.trim();
 	}
 
-	private static List<List<String>> blankGrid(int r, int c) {
-		List<List<String>> g = new ArrayList<>();
-		for (int i = 0; i < r; i++)
-			g.add(new ArrayList<>(Collections.nCopies(c, "")));
-		return g;
-	}
-
 	private static List<String> mergedDistinct(List<String> defaults, List<String> fromDb) {
 		LinkedHashSet<String> s = new LinkedHashSet<>();
 		defaults.forEach(v -> s.add(trim(v)));
@@ -66,63 +77,38 @@ public class FeesAdminController {
 		return "";
 	}
 
-	// ===== 행 목록 =====
+	// ===== 행 목록 ===== (조회는 모두 요금표 스냅샷에서)
 	@GetMapping("/basic/rows")
 	public List<String> getBasicRows() {
-		return mergedDistinct(BASIC_ROWS_DEFAULT, feesBasicRepository.findDistinctWeights());
+		return mergedDistinct(BASIC_ROWS_DEFAULT, fareSnapshotHolder.current().basicRows());
 	}
 
 	@GetMapping("/extra/rows")
 	public List<String> getExtraRows() {
-		return mergedDistinct(EXTRA_ROWS_DEFAULT, feesExtraRepository.findDistinctTitles());
+		return mergedDistinct(EXTRA_ROWS_DEFAULT, fareSnapshotHolder.current().extraRows());
 	}
 
-	// ===== 통합 조회 =====
+	// ===== 통합 조회 ===== (스냅샷 버전 ETag, If-None-Match 일치 시 304, at 을 주면 그 시각에 적용될 요금표)
 	@GetMapping("/basic/full")
-	public Map<String, Object> basicFull() {
-		List<String> rows = getBasicRows();
-		List<List<String>> grid = blankGrid(rows.size(), BASIC_COLS.size());
-		Map<String, FeesBasic> map = new HashMap<>();
-		for (FeesBasic fb : feesBasicRepository.findAll()) {
-			map.put(trim(fb.getWeight()), fb);
-		}
-		for (int r = 0; r < rows.size(); r++) {
-			String w = trim(rows.get(r));
-			FeesBasic fb = map.get(w);
-			String perKm = fb != null && fb.getRatePerKm() != null
-					? fb.getRatePerKm().stripTrailingZeros().toPlainString()
-					: "";
-			String base = fb != null && fb.getInitialCharge() != null
-					? fb.getInitialCharge().stripTrailingZeros().toPlainString()
-					: "";
-			grid.get(r).set(0, perKm);
-			grid.get(r).set(1, base);
-		}
-		return Map.of("rows", rows, "columns", BASIC_COLS, "grid", grid);
+	public ResponseEntity<Map<String, Object>> basicFull(
+			@RequestParam(name = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+		FareSnapshot snapshot = fareSnapshotHolder.at(at);
+		List<String> rows = mergedDistinct(BASIC_ROWS_DEFAULT, snapshot.basicRows());
+		Map<String, Object> body = Map.of("rows", rows, "columns", BASIC_COLS, "grid", snapshot.basicGrid(rows));
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(snapshot.etag()).body(body);
 	}
 
 	@GetMapping("/extra/full")
-	public Map<String, Object> extraFull() {
-		List<String> rows = getExtraRows();
-		List<List<String>> grid = blankGrid(rows.size(), EXTRA_COLS.size());
-		Map<String, FeesExtra> map = new HashMap<>();
-		for (FeesExtra fe : feesExtraRepository.findAll()) {
-			map.put(trim(fe.getExtraChargeTitle()), fe);
-		}
-		for (int r = 0; r < rows.size(); r++) {
-			String t = trim(rows.get(r));
-			FeesExtra fe = map.get(t);
-			String price = fe != null && fe.getExtraCharge() != null
-					? fe.getExtraCharge().stripTrailingZeros().toPlainString()
-					: "";
-			grid.get(r).set(0, price);
-		}
-		return Map.of("rows", rows, "columns", EXTRA_COLS, "grid", grid);
+	public ResponseEntity<Map<String, Object>> extraFull(
+			@RequestParam(name = "at", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+		FareSnapshot snapshot = fareSnapshotHolder.at(at);
+		List<String> rows = mergedDistinct(EXTRA_ROWS_DEFAULT, snapshot.extraRows());
+		Map<String, Object> body = Map.of("rows", rows, "columns", EXTRA_COLS, "grid", snapshot.extraGrid(rows));
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(snapshot.etag()).body(body);
 	}
 
-	// ===== 셀 저장 =====
+	// ===== 셀 저장 ===== (저장은 서비스에서, 커밋 후 스냅샷 교체)
 	@PostMapping("/basic")
-	@Transactional
 	public ResponseEntity<Void> upsertBasic(@RequestBody SaveRequest req) {
 		String weight = trim(req.getCategory());
 		String col = trim(req.getDistance());
@@ -130,19 +116,11 @@ public class FeesAdminController {
 		if (weight.isEmpty() || !BASIC_COLS.contains(col) || price < 0)
 			return ResponseEntity.badRequest().build();
 
-		FeesBasic row = feesBasicRepository.findByWeight(weight).orElseGet(() -> FeesBasic.builder().weight(weight)
-				.ratePerKm(BigDecimal.ZERO).initialCharge(BigDecimal.ZERO).build());
-		if ("거리별 요금".equals(col))
-			row.setRatePerKm(BigDecimal.valueOf(price));
-		else
-			row.setInitialCharge(BigDecimal.valueOf(price));
-		row.setUpdatedAt(LocalDateTime.now());
-		feesBasicRepository.save(row);
+		basicService.saveCell(weight, col, BigDecimal.valueOf(price));
 		return ResponseEntity.ok().build();
 	}
 
 	@PostMapping("/extra")
-	@Transactional
 	public ResponseEntity<Void> upsertExtra(@RequestBody SaveRequest req) {
 		String title = trim(req.getCategory());
 		String col = trim(req.getDistance());
@@ -150,61 +128,102 @@ public class FeesAdminController {
 		if (title.isEmpty() || !EXTRA_COLS.contains(col) || price < 0)
 			return ResponseEntity.badRequest().build();
 
-		FeesExtra row = feesExtraRepository.findByExtraChargeTitle(title)
-				.orElseGet(() -> FeesExtra.builder().extraChargeTitle(title).extraCharge(BigDecimal.ZERO).build());
-		row.setExtraCharge(BigDecimal.valueOf(price));
-		row.setUpdatedAt(LocalDateTime.now());
-		feesExtraRepository.save(row);
+		extraService.saveCell(title, BigDecimal.valueOf(price));
 		return ResponseEntity.ok().build();
 	}
 
 	// ===== 행 추가 =====
 	@PostMapping("/basic/rows")
-	@Transactional
 	public ResponseEntity<Void> addBasicRow(@RequestBody RowRequest req) {
 		String weight = trim(req.getName());
 		if (weight.isEmpty())
 			return ResponseEntity.badRequest().build();
-		feesBasicRepository.findByWeight(weight).orElseGet(() -> {
-			FeesBasic fb = FeesBasic.builder().weight(weight).ratePerKm(BigDecimal.ZERO).initialCharge(BigDecimal.ZERO)
-					.updatedAt(LocalDateTime.now()).build();
-			return feesBasicRepository.save(fb);
-		});
+		basicService.addRow(weight);
 		return ResponseEntity.ok().build();
 	}
 
 	@PostMapping("/extra/rows")
-	@Transactional
 	public ResponseEntity<Void> addExtraRow(@RequestBody RowRequest req) {
 		String title = trim(req.getName());
 		if (title.isEmpty())
 			return ResponseEntity.badRequest().build();
-		feesExtraRepository.findByExtraChargeTitle(title).orElseGet(() -> {
-			FeesExtra fe = FeesExtra.builder().extraChargeTitle(title).extraCharge(BigDecimal.ZERO)
-					.updatedAt(LocalDateTime.now()).build();
-			return feesExtraRepository.save(fe);
-		});
+		extraService.addRow(title);
 		return ResponseEntity.ok().build();
 	}
 
 	// ===== 행 삭제 =====
 	@DeleteMapping("/basic/rows")
-	@Transactional
 	public ResponseEntity<Void> deleteBasicRowParam(@RequestParam Map<String, String> params) {
 		String key = trim(firstNonEmpty(params.get("weight"), params.get("name")));
 		if (key.isEmpty())
 			return ResponseEntity.badRequest().build();
-		feesBasicRepository.deleteByWeight(key);
+		basicService.deleteRow(key);
 		return ResponseEntity.noContent().build();
 	}
 
 	@DeleteMapping("/extra/rows")
-	@Transactional
 	public ResponseEntity<Void> deleteExtraRowParam(@RequestParam Map<String, String> params) {
 		String key = trim(firstNonEmpty(params.get("title"), params.get("name")));
 		if (key.isEmpty())
 			return ResponseEntity.badRequest().build();
-		feesExtraRepository.deleteByExtraChargeTitle(key);
+		extraService.deleteRow(key);
+		return ResponseEntity.noContent().build();
+	}
+
+	// ===== 요금 변경 시뮬레이션 ===== (저장하지 않고 최근 N개월 견적으로 매출 변화만 계산)
+	@PostMapping("/simulate")
+	public ResponseEntity<FareSimulationDTO.Response> simulate(@RequestBody FareSimulationDTO.Request req, Authentication auth) {
+		AuthzUtil.assertAdmin(auth);
+		return ResponseEntity.ok(fareImpactSimulator.simulate(req));
+	}
+
+	// ===== CSV 일괄 가져오기/내보내기 ===== (검증 실패 시 400 + 행별 오류, 아무것도 저장하지 않음)
+	// /g2i4/admin/** 는 permitAll 이라 여기서 관리자 권한을 확인 (요금표는 서버가 청구하는 금액)
+	@PostMapping("/import")
+	public ResponseEntity<FareImportResultDTO> importCsv(@RequestPart("file") MultipartFile file,
+			@RequestParam(name = "replace", defaultValue = "false") boolean replace, Authentication auth) throws IOException {
+		AuthzUtil.assertAdmin(auth);
+		FareImportResultDTO result = feesBulkService.importCsv(file.getInputStream(), replace);
+		if (!result.getErrors().isEmpty()) {
+			return ResponseEntity.badRequest().body(result);
+		}
+		result.setVersion(fareSnapshotHolder.current().version());
+		return ResponseEntity.ok(result);
+	}
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportCsv(Authentication auth) {
+		AuthzUtil.assertAdmin(auth);
+		StreamingResponseBody body = out -> {
+			Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+			feesBulkService.exportCsv(writer);
+		};
+		return ResponseEntity.ok()
+				.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename("fees.csv").build().toString())
+				.body(body);
+	}
+
+	// ===== 요금표 예약 ===== (CSV 형식은 가져오기와 같음, effectiveFrom 부터 적용. 관리자만)
+	@GetMapping("/schedules")
+	public List<FareScheduleDTO> getSchedules(Authentication auth) {
+		AuthzUtil.assertAdmin(auth);
+		return fareScheduleService.list();
+	}
+
+	@PostMapping("/schedules")
+	public FareScheduleDTO createSchedule(@RequestPart("file") MultipartFile file,
+			@RequestParam("effectiveFrom") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime effectiveFrom,
+			@RequestParam(name = "note", required = false) String note, Authentication auth) throws IOException {
+		AuthzUtil.assertAdmin(auth);
+		return fareScheduleService.create(new String(file.getBytes(), StandardCharsets.UTF_8), effectiveFrom, note);
+	}
+
+	@DeleteMapping("/schedules/{id}")
+	public ResponseEntity<Void> cancelSchedule(@PathVariable("id") Long id, Authentication auth) {
+		AuthzUtil.assertAdmin(auth);
+		fareScheduleService.cancel(id);
 		return ResponseEntity.noContent().build();
 	}
 
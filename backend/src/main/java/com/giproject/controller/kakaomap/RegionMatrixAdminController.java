@@ -0,0 +1,30 @@
+package com.giproject.controller.kakaomap;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.giproject.security.AuthzUtil;
+import com.giproject.service.kakaomap.RegionMatrixStore;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/g2i4/admin/region-matrix")
+public class RegionMatrixAdminController {
+
+	private final RegionMatrixStore regionMatrixStore;
+
+	// 과거 견적 거리로 지역 간 거리 행렬 파일 재생성 (요청 처리와 무관한 관리 작업)
+	@PostMapping("/rebuild")
+	public Map<String, Object> rebuild(Authentication auth) throws IOException {
+		// /g2i4/admin/** 는 permitAll 이라 여기서 관리자 권한을 확인
+		AuthzUtil.assertAdmin(auth);
+		return regionMatrixStore.rebuild();
+	}
+}
@@ -1,13 +1,16 @@
 package com.giproject.controller.owner;
 
 import com.giproject.dto.owner.MonthlyRevenueDTO;
+import com.giproject.dto.owner.RevenueSeriesDTO;
 import com.giproject.security.JwtService;
 import com.giproject.service.owner.OwnerMetricsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -28,10 +31,7 @@ public class OwnerMetricsController {
         return authHeader; // 혹시 "Bearer " 없이 토큰만 올 때 대비
     }
 
-    @GetMapping("/revenue/monthly")
-    public List<MonthlyRevenueDTO> monthlyRevenue(
-            @RequestHeader(value = "Authorization", required = false) String authHeader) {
-
+    private String resolveCargoId(String authHeader) {
         String token = resolveToken(authHeader);
         if (!jwtService.validate(token)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired token");
@@ -39,9 +39,25 @@ public class OwnerMetricsController {
 
         // ⚠️ JwtService.generateAccessToken 에서 subject = authentication.getName()
         // 차주 로그인 시 이 값이 cargoId 가 되도록 보장되어 있어야 함!
-        String cargoId = jwtService.getUsername(token);
+        return jwtService.getUsername(token);
+    }
 
-        return service.monthlyRevenue(cargoId);
+    @GetMapping("/revenue/monthly")
+    public List<MonthlyRevenueDTO> monthlyRevenue(
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        return service.monthlyRevenue(resolveCargoId(authHeader));
+    }
+
+    // 일/주/월 매출 추이 + 전년 동기 비교 (from/to 생략 시 최근 30일/12주/12개월)
+    @GetMapping("/revenue")
+    public RevenueSeriesDTO revenue(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(name = "unit", defaultValue = "month") String unit,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return service.revenue(resolveCargoId(authHeader), unit, from, to);
     }
 
     // 선택: 디버그/수동 확인용 엔드포인트 (토큰 말고 쿼리스트링으로 cargoId 지정)
@@ -0,0 +1,29 @@
+package com.giproject.controller.owner;
+
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.giproject.security.AuthzUtil;
+import com.giproject.service.owner.DriverRevenueRollup;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/g2i4/admin/revenue")
+public class RevenueRollupAdminController {
+
+	private final DriverRevenueRollup driverRevenueRollup;
+
+	// 배송 원본으로 기사 매출 집계 테이블 재생성 (데이터 보정 후 등 관리 작업)
+	@PostMapping("/rebuild")
+	public Map<String, Object> rebuild(Authentication auth) {
+		// /g2i4/admin/** 는 permitAll 이라 여기서 관리자 권한을 확인
+		AuthzUtil.assertAdmin(auth);
+		return driverRevenueRollup.rebuild();
+	}
+}
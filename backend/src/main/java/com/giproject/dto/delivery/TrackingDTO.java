@@ -0,0 +1,55 @@
+package com.giproject.dto.delivery;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 배송중 기사 위치 수집 / 화주 실시간 추적.
+ */
+public class TrackingDTO {
+
+	/** 기사 앱이 보내는 위치 한 건. 앱은 여러 건을 모아 한 번에 보낸다 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Ping {
+		private double lat;
+		private double lng;
+		private Double speedKmh;   // 단말이 준 속도 (없으면 직전 위치로 계산)
+		private Long recordedAt;   // 측정 시각 epoch ms (없으면 서버 수신 시각)
+	}
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class IngestResult {
+		private int accepted;
+		private int dropped;       // 범위 밖 좌표, 이전 위치보다 오래된 측정
+	}
+
+	/** 화주에게 보내는 최신 위치 + 도착 예정 */
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Position {
+		private Long matchingNo;
+		private Long deliveryNo;
+		private double lat;
+		private double lng;
+		private Double speedKmh;
+		private LocalDateTime recordedAt;
+		private Double remainingKm;   // 도착지 좌표를 모르면 null
+		private Long etaSeconds;
+		private LocalDateTime etaAt;
+	}
+}
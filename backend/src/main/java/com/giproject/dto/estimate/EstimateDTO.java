@@ -1,8 +1,12 @@
 package com.giproject.dto.estimate;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import com.giproject.entity.delivery.DeliveryStatus;
 
 import lombok.AllArgsConstructor;
@@ -38,8 +42,22 @@ public class EstimateDTO {
 	private int baseCost;
 	private int distanceCost;
 	private int specialOption;
+	private List<String> specialNotes; // 선택한 추가요금 항목 (서버 요금 계산용)
+	private Double startLat;
+	private Double startLng;
 	private Long paymentNo;
 	private DeliveryStatus deliveryStatus;
 	private String driverName; 
 	private LocalDateTime deliveryCompletedAt;
+	private LocalDateTime etaAt; // 도착 예정 (결제 완료 목록, 배송완료 전)
+
+	// 이전 버전 앱은 [{title, amount}] 로 보낸다 → 항목 이름만 받는다
+	@JsonSetter("specialNotes")
+	public void readSpecialNotes(List<Object> notes) {
+		this.specialNotes = notes == null ? null : notes.stream()
+				.map(n -> n instanceof Map<?, ?> m ? m.get("title") : n)
+				.filter(Objects::nonNull)
+				.map(String::valueOf)
+				.toList();
+	}
 }
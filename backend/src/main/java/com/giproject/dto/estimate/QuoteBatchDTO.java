@@ -0,0 +1,46 @@
+package com.giproject.dto.estimate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 견적 비교용 일괄 요금 계산 요청/응답.
+ * 요청의 candidates 순서대로 응답 quotes 가 채워진다.
+ */
+public class QuoteBatchDTO {
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Request {
+		private List<String> specialNotes;   // 추가요금 항목 이름 (모든 후보 공통)
+		private List<Candidate> candidates;
+		private LocalDateTime startTime;     // 운송 시작 시각 (예약 요금표 선택용, 없으면 현재 요금표)
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Candidate {
+		private String cargoWeight;
+		private double distanceKm;
+	}
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Response {
+		private long fareVersion;   // 계산에 쓴 요금표 버전
+		private List<QuoteDTO> quotes;
+	}
+}
@@ -0,0 +1,23 @@
+package com.giproject.dto.estimate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 서버 요금 계산 결과 한 건. 요금표에 없는 중량이면 priced = false, 금액은 0
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuoteDTO {
+	private boolean priced;
+	private int baseCost;
+	private int distanceCost;
+	private int specialOption;
+	private int totalCost;
+}
@@ -0,0 +1,26 @@
+package com.giproject.dto.fees;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 요금표 CSV 가져오기 결과. errors 가 있으면 아무것도 저장되지 않은 것
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FareImportResultDTO {
+	private int basicUpserted;
+	private int extraUpserted;
+	private int basicDeleted;
+	private int extraDeleted;
+	private long version;           // 가져온 뒤 요금표 스냅샷 버전
+	private List<String> errors;
+}
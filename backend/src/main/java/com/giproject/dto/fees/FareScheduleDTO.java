@@ -0,0 +1,30 @@
+package com.giproject.dto.fees;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 예약된 요금표. status: pending(대기), applied(반영 완료), failed(반영 실패, 재시도 안 함)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FareScheduleDTO {
+	private Long id;
+	private LocalDateTime effectiveFrom;
+	private String note;
+	private String status;
+	private int basicRows;          // 파일의 기본 요금 행 수
+	private int extraRows;          // 파일의 추가요금 행 수
+	private LocalDateTime createdAt;
+	private LocalDateTime appliedAt;
+	private LocalDateTime failedAt;
+	private String failureReason;
+}
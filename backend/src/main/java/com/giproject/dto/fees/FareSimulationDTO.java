@@ -0,0 +1,75 @@
+package com.giproject.dto.fees;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 요금 변경 영향 시뮬레이션 요청/응답.
+ * 요청에 없는 항목은 현재 요금 그대로, null 필드도 현재 값 유지
+ */
+public class FareSimulationDTO {
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Request {
+		private int months = 12;               // 최근 몇 개월 견적으로 계산할지
+		private List<BasicChange> basicChanges;
+		private List<ExtraChange> extraChanges;
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class BasicChange {
+		private String weight;
+		private BigDecimal ratePerKm;
+		private BigDecimal initialCharge;
+	}
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class ExtraChange {
+		private String title;
+		private BigDecimal extraCharge;
+	}
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Response {
+		private int months;
+		private long estimates;          // 재계산한 견적 수
+		private long unpriced;           // 요금표로 계산할 수 없는 견적 수 (중량 해석 불가)
+		private long elapsedMs;
+		private List<WeightClassDelta> weightClasses;
+		private WeightClassDelta total;
+	}
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class WeightClassDelta {
+		private String weight;
+		private long count;
+		private long storedRevenue;      // 견적 저장 당시 금액 합계
+		private long currentRevenue;     // 현재 요금표로 다시 계산한 합계
+		private long proposedRevenue;    // 변경안으로 계산한 합계
+		private long delta;              // proposed - current
+		private double deltaPct;
+	}
+}
@@ -0,0 +1,21 @@
+package com.giproject.dto.kakaomap;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 출발지 → 도착지 거리 조회 응답.
+ * source = "matrix" 면 지역 간 거리 행렬의 근사값, "live" 면 실제 경로 조회 결과
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DistanceDTO {
+	private double distanceKm;
+	private int durationSec;
+	private String source;
+	private int samples;//근사값 계산에 쓰인 과거 견적 수 (live 는 0)
+}
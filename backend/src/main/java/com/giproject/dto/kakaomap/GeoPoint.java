@@ -0,0 +1,5 @@
+package com.giproject.dto.kakaomap;
+
+// 경위도 좌표 (카카오 API 기준 x = 경도, y = 위도)
+public record GeoPoint(double lng, double lat) {
+}
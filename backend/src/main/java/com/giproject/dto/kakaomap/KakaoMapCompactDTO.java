@@ -0,0 +1,22 @@
+package com.giproject.dto.kakaomap;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경로 조회 압축 응답 (format=compact).
+ * polyline 은 Google Encoded Polyline (위도, 경도 순서, precision 자리 정밀도)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class KakaoMapCompactDTO {
+	private int distance;//총 거리 (m)
+	private int duration;//예상 소요 시간 (sec)
+	private int points;//경로 좌표 수
+	private int precision;
+	private String polyline;
+}
@@ -0,0 +1,37 @@
+package com.giproject.dto.matching;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 수락/거절 결과. 요청한 견적 번호마다 처리 결과 한 건
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MatchingBatchResultDTO {
+
+	public static final String ACCEPTED = "accepted";
+	public static final String REJECTED = "rejected";
+	public static final String ALREADY_REJECTED = "already_rejected";
+	public static final String CONFLICT = "conflict";   // 이미 다른 기사님이 수락
+	public static final String NOT_FOUND = "not_found";
+
+	private int succeeded;
+	private List<Item> results;
+
+	@Data
+	@Builder
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class Item {
+		private Long estimateNo;
+		private String result;
+		private Long matchNo; // 수락 성공 시에만
+	}
+}
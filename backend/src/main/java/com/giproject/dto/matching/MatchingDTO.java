@@ -30,5 +30,6 @@ public class MatchingDTO {
     private String startTime;
     private String cargoType;
     private String totalCost;
+    private Double pickupDistanceKm; // 근거리 피드: 기사 위치 → 출발지 직선거리
 	
 }
@@ -20,5 +20,11 @@ public class PageRequestDTO{
 	@Builder.Default
 	private int size =10;
 	
+	// 커서 페이징: 직전 페이지의 마지막 matchingNo (없으면 첫 페이지)
+	private Long cursor;
+	
+	// 출발 지역 필터: 시/도 코드("11") 또는 이름("서울", "서울특별시"). 없으면 전체
+	private String region;
+	
 	
 }
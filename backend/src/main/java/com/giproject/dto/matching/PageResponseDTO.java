@@ -17,6 +17,8 @@ public class PageResponseDTO<E> {
 	private PageRequestDTO pageRequestDTO;
 	private boolean prev, next;
 	private int totalCount, prevPage, nextPage, totalPage, current;
+	// 커서 페이징일 때만 사용. 다음 페이지 요청 시 cursor 로 넘기며, null 이면 마지막 페이지
+	private Long nextCursor;
 	
 	@Builder(builderMethodName = "withAll")
 	public PageResponseDTO(List<E> dtoList, PageRequestDTO pageRequestDTO, long totalCount) {
@@ -40,4 +42,15 @@ public class PageResponseDTO<E> {
 		this.current = pageRequestDTO.getPage();
 	}
 
-}
\ No newline at end of file
+	// 커서(키셋) 페이징용: COUNT 없이 다음 커서만 내려준다
+	@Builder(builderMethodName = "withCursor", builderClassName = "CursorBuilder")
+	public PageResponseDTO(List<E> dtoList, PageRequestDTO pageRequestDTO, Long nextCursor) {
+		this.dtoList = dtoList;
+		this.pageRequestDTO = pageRequestDTO;
+		this.pageNumList = List.of();
+		this.nextCursor = nextCursor;
+		this.next = nextCursor != null;
+		this.current = pageRequestDTO.getPage();
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.giproject.dto.owner;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 기사 매출 추이 (일/주/월) + 전년 동기 비교.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueSeriesDTO {
+
+    private String unit;            // day | week | month
+    private LocalDate from;         // 실제 조회 구간 (주는 월요일~일요일, 월은 1일~말일로 맞춤)
+    private LocalDate to;
+    private long revenue;           // 구간 합계 (원)
+    private long previousRevenue;   // 전년 동기 합계
+    private Double growthRate;      // 전년 대비 증감률(%), 전년 매출이 없으면 null
+    private List<Point> points;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private String label;           // 2025-08-14 | 2025-W33 | 2025-08
+        private LocalDate start;        // 구간 시작일
+        private long revenue;
+        private int deliveries;
+        private long previousRevenue;   // 전년 같은 구간 (주는 52주 전)
+        private Double growthRate;
+    }
+}
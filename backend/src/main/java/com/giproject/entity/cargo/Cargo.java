@@ -5,9 +5,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.giproject.utils.CargoWeightParser;
 
 @Entity
-@Table(name = "cargo") // ← 테이블 이름도 소문자 + 언더바
+@Table(name = "cargo", // ← 테이블 이름도 소문자 + 언더바
+       indexes = @Index(name = "idx_cargo_owner_capacity", columnList = "cargo_id, capacity_kg")) // 기사별 최대 적재량 조회용
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +30,9 @@ public class Cargo {
     @Column(name = "cargo_capacity")
     private String cargoCapacity;  // 적재 무게
 
+    @Column(name = "capacity_kg")
+    private Integer capacityKg;    // 적재 무게(kg), 저장 시 cargoCapacity 에서 변환
+
     @Column(name = "cargo_created_datetime")
     private LocalDateTime cargoCreateidDateTime = LocalDateTime.now();
     
@@ -38,4 +43,15 @@ public class Cargo {
     @JsonBackReference
     @JoinColumn(name = "cargo_id") // FK는 cargo_owner 테이블의 PK 컬럼명과 일치해야 함
     private CargoOwner cargoOwner;
+
+    public void setCargoCapacity(String cargoCapacity) {
+        this.cargoCapacity = cargoCapacity;
+        this.capacityKg = CargoWeightParser.toKg(cargoCapacity);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncCapacityKg() {
+        this.capacityKg = CargoWeightParser.toKg(cargoCapacity);
+    }
 }
\ No newline at end of file
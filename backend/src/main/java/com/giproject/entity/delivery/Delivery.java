@@ -13,9 +13,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,6 +25,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_delivery_matching_no", columnList = "matching_no"))
 @Getter
 @Setter
 @Builder
@@ -48,13 +51,16 @@ public class Delivery {
 	private CargoOwner cargoOwner;
 	
 	private LocalDateTime completTime;
-
-	  public void markInTransit() {
-	        this.status = DeliveryStatus.IN_TRANSIT;
-	    }
-
-	    public void markCompleted() {
-	        this.status = DeliveryStatus.COMPLETED;
-	        this.completTime = LocalDateTime.now();
-	    }
+	
+	@Column(name = "matching_no")//결제 → 주문서 → 매칭을 거치지 않고 바로 찾기 위한 매칭번호
+	private Long matchingNo;
+	
+	public static Delivery forPayment(Payment payment) {
+		var matching = payment.getOrderSheet().getMatching();
+		return Delivery.builder()
+				.payment(payment)
+				.cargoOwner(matching.getCargoOwner())
+				.matchingNo(matching.getMatchingNo())
+				.build();
+	}
 }
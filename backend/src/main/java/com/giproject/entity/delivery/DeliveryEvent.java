@@ -0,0 +1,60 @@
+package com.giproject.entity.delivery;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송 상태 변경 이력 (추가만 하고 수정/삭제하지 않는다).
+ * (delivery_no, to_status) 유니크: 상태는 앞으로만 바뀌므로 같은 상태로의 전이는 한 번만 기록된다.
+ * Idempotency-Key 는 요청한 쪽(actor) 안에서만 유일하다 (다른 기사가 같은 키를 만들어도 부딪치지 않음).
+ */
+@Entity
+@Table(name = "delivery_event",
+		uniqueConstraints = {
+				@UniqueConstraint(name = "uk_delivery_event_status", columnNames = { "delivery_no", "to_status" }),
+				@UniqueConstraint(name = "uk_delivery_event_actor_idem", columnNames = { "actor", "idempotency_key" }) },
+		indexes = @Index(name = "idx_delivery_event_delivery", columnList = "delivery_no, id"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "delivery_no", nullable = false)
+	private Long deliveryNo;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "from_status", length = 20)//최초 생성은 null
+	private DeliveryStatus fromStatus;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "to_status", nullable = false, length = 20)
+	private DeliveryStatus toStatus;
+
+	@Column(name = "idempotency_key", length = 100)//클라이언트 재시도 식별 (Idempotency-Key 헤더)
+	private String idempotencyKey;
+
+	@Column(length = 50)//변경한 기사 아이디 또는 system
+	private String actor;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
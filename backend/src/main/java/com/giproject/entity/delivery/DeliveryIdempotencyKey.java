@@ -0,0 +1,59 @@
+package com.giproject.entity.delivery;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상태를 바꾸지 않고 끝난 요청(이미 목표 상태)의 Idempotency-Key.
+ * 실제 전이의 키는 delivery_event 에 남고, (delivery_no, to_status) 유니크라 이벤트를 더 쓸 수 없는 재시도 키만 여기 남긴다.
+ * 키는 요청한 쪽(actor) 안에서만 유일하다.
+ */
+@Entity
+@Table(name = "delivery_idempotency_key")
+@IdClass(DeliveryIdempotencyKey.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryIdempotencyKey {
+
+	@Id
+	@Column(name = "actor", length = 50)
+	private String actor;
+
+	@Id
+	@Column(name = "idempotency_key", length = 100)
+	private String idempotencyKey;
+
+	@Column(name = "delivery_no", nullable = false)
+	private Long deliveryNo;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "to_status", nullable = false, length = 20)
+	private DeliveryStatus toStatus;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private String actor;
+		private String idempotencyKey;
+	}
+}
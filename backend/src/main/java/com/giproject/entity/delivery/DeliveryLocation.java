@@ -0,0 +1,45 @@
+package com.giproject.entity.delivery;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배송중 기사 위치 이력. DeliveryTracker 가 메모리에서 모아 JDBC 배치로만 저장한다 (엔티티로 저장하지 않음).
+ */
+@Entity
+@Table(name = "delivery_location", indexes = @Index(name = "idx_delivery_location_delivery", columnList = "delivery_no, recorded_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryLocation {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "delivery_no", nullable = false)
+	private Long deliveryNo;
+
+	@Column(nullable = false)
+	private double lat;
+
+	@Column(nullable = false)
+	private double lng;
+
+	private Double speedKmh;
+
+	@Column(name = "recorded_at", nullable = false)
+	private LocalDateTime recordedAt;
+}
@@ -4,4 +4,16 @@ public enum DeliveryStatus {
 	PENDING,//배송전
 	IN_TRANSIT,//배송중
 	COMPLETED;//배송완료
+
+	/**
+	 * 허용되는 상태 전이: 배송전 → 배송중 → 배송완료 (배송중을 건너뛴 완료 처리도 허용).
+	 * 완료 후에는 바꿀 수 없다. 같은 상태로의 전이는 멱등 처리되므로 여기서는 false
+	 */
+	public boolean canTransitionTo(DeliveryStatus next) {
+		return switch (this) {
+			case PENDING -> next == IN_TRANSIT || next == COMPLETED;
+			case IN_TRANSIT -> next == COMPLETED;
+			case COMPLETED -> false;
+		};
+	}
 }
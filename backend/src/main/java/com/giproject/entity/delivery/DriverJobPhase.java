@@ -0,0 +1,8 @@
+package com.giproject.entity.delivery;
+
+/** 기사 배송 화면 탭 (driver_job_view.phase) */
+public enum DriverJobPhase {
+	UNPAID,//수락했지만 결제 전
+	PAID,//결제됨, 배송전/배송중
+	COMPLETED;//배송완료
+}
@@ -0,0 +1,65 @@
+package com.giproject.entity.delivery;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 기사 배송 화면용 읽기 전용 테이블 (매칭 1건당 1행).
+ * 매칭/주문서/결제/배송이 바뀔 때 DriverJobViewUpdater 가 같은 트랜잭션에서 다시 계산해 저장한다.
+ * 탭 조회는 (cargo_id, phase, sort_key) 인덱스만 탄다.
+ */
+@Entity
+@Table(name = "driver_job_view", indexes = @Index(name = "idx_driver_job_tab", columnList = "cargo_id, phase, sort_key"))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverJobView {
+
+	@Id
+	private Long matchingNo;
+
+	@Column(name = "cargo_id", nullable = false, length = 50)
+	private String cargoId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private DriverJobPhase phase;
+
+	// 탭별 정렬 기준 (내림차순): 미결제 = matchingNo, 결제됨 = eno, 완료 = 완료 시각(epoch 초)
+	@Column(name = "sort_key", nullable = false)
+	private long sortKey;
+
+	private Long eno;
+	private String cargoType;
+	private String cargoWeight;
+	private String startAddress;
+	private String endAddress;
+	private LocalDateTime startTime;
+	private String memId;
+	private String memName;
+	private String driverName;
+
+	private Long orderNo;
+	private Long paymentNo;
+	private Long deliveryNo;
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)//미결제는 null, 결제됨인데 배송이 아직 없으면 PENDING
+	private DeliveryStatus deliveryStatus;
+	private LocalDateTime completTime;
+
+	private LocalDateTime updatedAt;
+}
@@ -7,6 +7,8 @@ import java.util.List;
 
 import com.giproject.entity.matching.Matching;
 import com.giproject.entity.member.Member;
+import com.giproject.utils.AddressNormalizer;
+import com.giproject.utils.CargoWeightParser;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -14,9 +16,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,7 +31,9 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "Estimate")
+@Table(name = "Estimate", indexes = {
+		@Index(name = "idx_estimate_weight_kg", columnList = "weight_kg"),
+		@Index(name = "idx_estimate_region", columnList = "start_region_code, end_region_code") })
 @Getter
 @ToString
 @Builder
@@ -40,14 +47,27 @@ public class Estimate {
 	
 	private String startAddress;
 	private String endAddress;
+	@Column(name = "start_region_code", length = 2)//출발지 시/도 코드, 저장 시 startAddress 에서 변환
+	private String startRegionCode;
+	@Column(name = "end_region_code", length = 2)//도착지 시/도 코드
+	private String endRegionCode;
 	private double distanceKm;
 	private String cargoWeight;
+	@Column(name = "weight_kg")//화물 중량(kg), 저장 시 cargoWeight 에서 변환
+	private Integer weightKg;
 	private String cargoType;
 	private LocalDateTime  startTime;
 	private int totalCost;
 	private int baseCost;
 	private int distanceCost;
 	private int specialOption;
+	@Column(name = "special_notes", length = 500)//선택한 추가요금 항목 (쉼표 구분)
+	private String specialNotes;
+	
+	@Column(name = "start_lat")//출발지 위도 (견적 등록 시 좌표 변환)
+	private Double startLat;
+	@Column(name = "start_lng")//출발지 경도
+	private Double startLng;
 	
 	@Column(nullable = false)//true 시 주문서 작성완료
 	private boolean isOrdered;
@@ -65,12 +85,15 @@ public class Estimate {
 	
 	public void changeStartAddress(String startAddress) {
 		this.startAddress = startAddress;
+		this.startRegionCode = AddressNormalizer.sidoCode(startAddress);
 	}
 	public void changeEndAddress(String endAddress) {
 		this.endAddress = endAddress;
+		this.endRegionCode = AddressNormalizer.sidoCode(endAddress);
 	}
 	public void changeCargoWeight(String cargoWeight) {
 		this.cargoWeight = cargoWeight;
+		this.weightKg = CargoWeightParser.toKg(cargoWeight);
 	}
 	public void changeCargoType(String cargoType) {
 		this.cargoType = cargoType;
@@ -91,6 +114,17 @@ public class Estimate {
 	public void changeIsOrdered(boolean isOrdered) {
 		this.isOrdered = isOrdered;
 	}
+	public void changeStartPoint(Double startLat, Double startLng) {
+		this.startLat = startLat;
+		this.startLng = startLng;
+	}
+	@PrePersist
+	@PreUpdate
+	void syncDerivedColumns() {
+		this.weightKg = CargoWeightParser.toKg(cargoWeight);
+		this.startRegionCode = AddressNormalizer.sidoCode(startAddress);
+		this.endRegionCode = AddressNormalizer.sidoCode(endAddress);
+	}
 	@OneToMany(mappedBy = "estimate", fetch = FetchType.LAZY)
     private List<Matching> matchings = new ArrayList<>();
 }
@@ -0,0 +1,42 @@
+package com.giproject.entity.fees;
+
+//예약된 요금표 (적용 시각부터 fees_basic / fees_extra 를 대체)
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+@Entity
+@Table(name = "fare_schedule", indexes = @Index(name = "idx_fare_schedule_pending", columnList = "applied_at, effective_from"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FareSchedule {
+	public static final int FAILURE_REASON_LENGTH = 1000;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "effective_from", nullable = false, unique = true)
+	private LocalDateTime effectiveFrom; // 적용 시작 시각
+
+	@Lob
+	@Column(name = "fare_csv", nullable = false, columnDefinition = "TEXT")
+	private String fareCsv; // 요금표 전체 (관리자 CSV 가져오기와 같은 형식)
+
+	@Column(length = 200)
+	private String note;
+
+	private LocalDateTime createdAt;
+
+	@Column(name = "applied_at")
+	private LocalDateTime appliedAt; // fees_basic / fees_extra 에 반영된 시각 (null 이면 대기 중)
+
+	@Column(name = "failed_at")
+	private LocalDateTime failedAt; // 반영 실패 시각 (실패한 예약은 재시도하지 않음)
+
+	@Column(name = "failure_reason", length = FAILURE_REASON_LENGTH)
+	private String failureReason;
+}
@@ -0,0 +1,32 @@
+package com.giproject.entity.kakaomap;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주소 → 좌표 변환 결과 (재시작 후에도 유지되는 2차 캐시)
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GeocodeCacheEntry {
+
+	@Id
+	@Column(name = "address_key", length = 255)
+	private String addressKey; // 정규화한 주소
+
+	private double lat;
+	private double lng;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.giproject.entity.owner;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기사별 일 매출 집계. 일/주 단위 조회용 (주는 일 집계를 합친다).
+ */
+@Entity
+@Table(name = "driver_revenue_daily")
+@IdClass(DriverRevenueDaily.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverRevenueDaily {
+
+	@Id
+	@Column(name = "cargo_id", length = 50)
+	private String cargoId;
+
+	@Id
+	@Column(name = "day")
+	private LocalDate day;
+
+	@Column(nullable = false)
+	private long revenue;
+
+	@Column(nullable = false)
+	private int deliveries;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private String cargoId;
+		private LocalDate day;
+	}
+}
@@ -0,0 +1,51 @@
+package com.giproject.entity.owner;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기사별 월 매출 집계 (배송완료 시 증가, DriverRevenueRollup 이 재구성).
+ * PK (cargo_id, ym) 라 기사 한 명의 기간 조회는 PK 범위 읽기 한 번이다.
+ */
+@Entity
+@Table(name = "driver_revenue_monthly")
+@IdClass(DriverRevenueMonthly.Key.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DriverRevenueMonthly {
+
+	@Id
+	@Column(name = "cargo_id", length = 50)
+	private String cargoId;
+
+	@Id
+	@Column(name = "ym")//yyyyMM (예: 202508)
+	private int ym;
+
+	@Column(nullable = false)
+	private long revenue;
+
+	@Column(nullable = false)
+	private int deliveries;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class Key implements Serializable {
+		private String cargoId;
+		private int ym;
+	}
+}
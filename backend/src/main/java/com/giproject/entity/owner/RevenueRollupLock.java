@@ -0,0 +1,25 @@
+package com.giproject.entity.owner;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매출 집계 잠금 행. 배송완료 증가분은 공유 잠금(FOR SHARE), 전체 재구성은 배타 잠금(FOR UPDATE)으로
+ * 같은 행을 잡아 재구성 도중에 커밋된 증가분이 지워지거나 두 번 더해지지 않게 한다.
+ */
+@Entity
+@Table(name = "revenue_rollup_lock")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollupLock {
+
+	@Id
+	@Column(name = "name", length = 50)
+	private String name;
+}
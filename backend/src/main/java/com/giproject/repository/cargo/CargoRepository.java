@@ -2,6 +2,8 @@ package com.giproject.repository.cargo;
 
 import com.giproject.entity.cargo.Cargo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,4 +11,11 @@ public interface CargoRepository extends JpaRepository<Cargo, Integer> {
 
     // 특정 소유자의 차량 리스트 가져오기
     List<Cargo> findByCargoOwner_CargoId(String cargoId);
+
+    // 기사 보유 차량 중 최대 적재량(kg) - (cargo_id, capacity_kg) 인덱스만으로 처리
+    @Query("select max(c.capacityKg) from Cargo c where c.cargoOwner.cargoId = :cargoId")
+    Integer findMaxCapacityKg(@Param("cargoId") String cargoId);
+
+    // capacity_kg 컬럼 추가 이전에 등록된 차량 (기동 시 채워 넣기용)
+    List<Cargo> findByCapacityKgIsNullAndCargoCapacityIsNotNull();
 }
\ No newline at end of file
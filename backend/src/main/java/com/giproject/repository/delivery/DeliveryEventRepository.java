@@ -0,0 +1,39 @@
+package com.giproject.repository.delivery;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.giproject.entity.delivery.DeliveryEvent;
+
+public interface DeliveryEventRepository extends JpaRepository<DeliveryEvent, Long> {
+
+	// Idempotency-Key 는 요청한 쪽(actor) 안에서만 유일
+	Optional<DeliveryEvent> findByActorAndIdempotencyKey(String actor, String idempotencyKey);
+
+	List<DeliveryEvent> findByDeliveryNoOrderByIdAsc(Long deliveryNo);
+
+	// 배송중 이력이 있는 배송 (배송중/완료). 배송중을 건너뛰고 완료된 건과 이력 도입 전 배송은 빠진다
+	String TRIP = """
+			select d.deliveryNo as deliveryNo, d.matchingNo as matchingNo, d.status as status,
+			       ev.createdAt as inTransitAt, d.completTime as completTime,
+			       e.startRegionCode as startRegionCode, e.endRegionCode as endRegionCode, e.distanceKm as distanceKm
+			from Delivery d
+			join DeliveryEvent ev on ev.deliveryNo = d.deliveryNo
+			     and ev.toStatus = com.giproject.entity.delivery.DeliveryStatus.IN_TRANSIT
+			join d.payment p
+			join p.orderSheet os
+			join os.matching m
+			join m.estimate e
+			""";
+
+	@Query(TRIP + " where d.deliveryNo > :afterDeliveryNo order by d.deliveryNo")
+	List<DeliveryTripRow> findTripRowsAfter(@Param("afterDeliveryNo") Long afterDeliveryNo, Pageable pageable);
+
+	@Query(TRIP + " where d.deliveryNo = :deliveryNo")
+	Optional<DeliveryTripRow> findTripRow(@Param("deliveryNo") Long deliveryNo);
+}
@@ -0,0 +1,25 @@
+package com.giproject.repository.delivery;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.giproject.entity.delivery.DeliveryIdempotencyKey;
+
+public interface DeliveryIdempotencyKeyRepository extends JpaRepository<DeliveryIdempotencyKey, DeliveryIdempotencyKey.Key> {
+
+	// 같은 키가 동시에 들어와도 예외 없이 하나만 남긴다. 0 이면 이미 있는 키
+	@Modifying
+	@Query(value = """
+			INSERT IGNORE INTO delivery_idempotency_key (actor, idempotency_key, delivery_no, to_status, created_at)
+			VALUES (:actor, :key, :deliveryNo, :toStatus, :createdAt)
+			""", nativeQuery = true)
+	int insertIgnore(@Param("actor") String actor,
+	                 @Param("key") String key,
+	                 @Param("deliveryNo") Long deliveryNo,
+	                 @Param("toStatus") String toStatus,
+	                 @Param("createdAt") LocalDateTime createdAt);
+}
@@ -3,12 +3,13 @@ package com.giproject.repository.delivery;
 import com.giproject.entity.delivery.Delivery;
 import com.giproject.entity.delivery.DeliveryStatus;
 import com.giproject.entity.payment.Payment;
-import com.giproject.repository.owner.MonthlyRevenueRow;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,17 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
           "LEFT JOIN FETCH e.member m " +
           "LEFT JOIN FETCH mt.cargoOwner co")
    List<Delivery> findAllWithDetails();
+   
+   // 출발지 시/도 코드로 좁힌 전체 배송 (idx_estimate_region 사용)
+   @Query("SELECT d FROM Delivery d " +
+          "LEFT JOIN FETCH d.payment p " +
+          "LEFT JOIN FETCH p.orderSheet os " +
+          "LEFT JOIN FETCH os.matching mt " +
+          "LEFT JOIN FETCH mt.estimate e " +
+          "LEFT JOIN FETCH e.member m " +
+          "LEFT JOIN FETCH mt.cargoOwner co " +
+          "WHERE e.startRegionCode = :regionCode")
+   List<Delivery> findAllWithDetailsByStartRegion(@Param("regionCode") String regionCode);
 
    @Query("""
            select d
@@ -76,24 +88,6 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     Optional<Delivery> findByMatchingNoAndCargoId(@Param("matchingNo") Long matchingNo,
                                                   @Param("cargoId") String cargoId);
     
-    @Query(value = """
-            SELECT
-                YEAR(d.complet_time) AS y,
-                MONTH(d.complet_time) AS m,
-                SUM(e.total_cost)     AS revenue
-            FROM 2teamproject.delivery d
-            JOIN 2teamproject.payment      p  ON p.payment_no   = d.payment_no
-            JOIN 2teamproject.order_sheet  os ON os.order_no    = p.order_sheet_no
-            JOIN 2teamproject.matching     mt ON mt.matching_no = os.matching_no
-            JOIN 2teamproject.estimate     e  ON e.eno          = mt.eno
-            WHERE d.status = 'COMPLETED'
-              AND mt.cargo_id = :cargoId
-              AND d.complet_time IS NOT NULL
-            GROUP BY YEAR(d.complet_time), MONTH(d.complet_time)
-            ORDER BY y, m
-            """, nativeQuery = true)
-        List<MonthlyRevenueRow> findMonthlyRevenueByCargoId(@Param("cargoId") String cargoId);
-    
     // order_sheet.matching_no → payment → delivery
     @Query("""
         select d.deliveryNo
@@ -111,4 +105,53 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
         where d.payment.paymentNo = :paymentNo
     """)
     Optional<Long> findDeliveryNoByPayment(@Param("paymentNo") Long paymentNo);
+
+    // ===== 상태 전이 (DeliveryStateMachine) =====
+
+    // matching_no 인덱스 한 번으로 배송번호 + 현재 상태 (cargoOwner 는 FK 컬럼 비교라 조인 없음)
+    @Query("""
+        select d.deliveryNo as deliveryNo, d.status as status, d.matchingNo as matchingNo
+        from Delivery d
+        where d.matchingNo = :matchingNo
+          and d.cargoOwner.cargoId = :cargoId
+    """)
+    Optional<DeliveryStateRow> findStateByMatchingNo(@Param("matchingNo") Long matchingNo,
+                                                     @Param("cargoId") String cargoId);
+
+    @Query("select d.deliveryNo as deliveryNo, d.status as status, d.matchingNo as matchingNo from Delivery d where d.deliveryNo = :deliveryNo")
+    Optional<DeliveryStateRow> findStateByDeliveryNo(@Param("deliveryNo") Long deliveryNo);
+
+    // 현재 상태가 :from 일 때만 바꾼다. 0 이면 다른 요청이 먼저 바꾼 것
+    // 영속성 컨텍스트를 비우지 않는다 (호출한 쪽 엔티티 유지). 바뀐 배송은 DeliveryStateMachine 이 골라서 refresh
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Delivery d
+        set d.status = :to, d.completTime = :completTime
+        where d.deliveryNo = :deliveryNo
+          and d.status = :from
+    """)
+    int updateStatus(@Param("deliveryNo") Long deliveryNo,
+                     @Param("from") DeliveryStatus from,
+                     @Param("to") DeliveryStatus to,
+                     @Param("completTime") LocalDateTime completTime);
+
+    // 잠금 읽기(최신 커밋 값). 다른 트랜잭션이 방금 만든/바꾼 배송을 스냅샷과 상관없이 읽는다
+    @Query(value = "SELECT * FROM delivery WHERE payment_no = :paymentNo FOR UPDATE", nativeQuery = true)
+    Optional<Delivery> lockByPaymentNo(@Param("paymentNo") Long paymentNo);
+
+    @Query(value = "SELECT status FROM delivery WHERE delivery_no = :deliveryNo FOR UPDATE", nativeQuery = true)
+    Optional<String> lockStatus(@Param("deliveryNo") Long deliveryNo);
+
+    // matching_no/cargo_owner_id 컬럼 추가 전에 만들어진 배송 채우기
+    @Modifying
+    @Query(value = """
+            UPDATE delivery d
+            JOIN payment      p  ON p.payment_no   = d.payment_no
+            JOIN order_sheet  os ON os.order_no    = p.order_sheet_no
+            JOIN matching     mt ON mt.matching_no = os.matching_no
+            SET d.matching_no    = mt.matching_no,
+                d.cargo_owner_id = COALESCE(d.cargo_owner_id, mt.cargo_id)
+            WHERE d.matching_no IS NULL
+            """, nativeQuery = true)
+    int backfillMatchingNo();
 }
@@ -0,0 +1,9 @@
+package com.giproject.repository.delivery;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+
+public interface DeliveryStateRow {
+    Long getDeliveryNo();
+    DeliveryStatus getStatus();
+    Long getMatchingNo();
+}
@@ -0,0 +1,17 @@
+package com.giproject.repository.delivery;
+
+import java.time.LocalDateTime;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+
+// 배송중 시작 시각과 운행 조건 (도착 예정 통계용)
+public interface DeliveryTripRow {
+    Long getDeliveryNo();
+    Long getMatchingNo();
+    DeliveryStatus getStatus();
+    LocalDateTime getInTransitAt();
+    LocalDateTime getCompletTime();
+    String getStartRegionCode();
+    String getEndRegionCode();
+    Double getDistanceKm();
+}
@@ -0,0 +1,25 @@
+package com.giproject.repository.delivery;
+
+import java.time.LocalDateTime;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+
+public interface DriverJobSourceRow {
+    Long getMatchingNo();
+    Boolean getAccepted();
+    String getCargoId();
+    String getDriverName();
+    Long getEno();
+    String getCargoType();
+    String getCargoWeight();
+    String getStartAddress();
+    String getEndAddress();
+    LocalDateTime getStartTime();
+    String getMemId();
+    String getMemName();
+    Long getOrderNo();
+    Long getPaymentNo();
+    Long getDeliveryNo();
+    DeliveryStatus getDeliveryStatus();
+    LocalDateTime getCompletTime();
+}
@@ -0,0 +1,39 @@
+package com.giproject.repository.delivery;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.giproject.entity.delivery.DriverJobView;
+
+public interface DriverJobViewRepository extends JpaRepository<DriverJobView, Long> {
+
+    // driver_job_view 한 행을 만들기 위한 원본 (매칭 → 견적/의뢰자/기사 → 주문서 → 결제 → 배송)
+    String SOURCE = """
+        select m.matchingNo as matchingNo, m.isAccepted as accepted,
+               co.cargoId as cargoId, co.cargoName as driverName,
+               e.eno as eno, e.cargoType as cargoType, e.cargoWeight as cargoWeight,
+               e.startAddress as startAddress, e.endAddress as endAddress, e.startTime as startTime,
+               mem.memId as memId, mem.memName as memName,
+               os.orderNo as orderNo, p.paymentNo as paymentNo,
+               d.deliveryNo as deliveryNo, d.status as deliveryStatus, d.completTime as completTime
+        from com.giproject.entity.matching.Matching m
+        join m.estimate e
+        join e.member mem
+        left join m.cargoOwner co
+        left join m.orderSheet os
+        left join com.giproject.entity.payment.Payment p on p.orderSheet = os
+        left join com.giproject.entity.delivery.Delivery d on d.payment = p
+        """;
+
+    @Query(SOURCE + " where m.matchingNo = :matchingNo")
+    Optional<DriverJobSourceRow> findSource(@Param("matchingNo") Long matchingNo);
+
+    // 전체 재구성용 matchingNo 키셋 청크 (수락된 매칭만)
+    @Query(SOURCE + " where m.isAccepted = true and m.matchingNo > :afterMatchingNo order by m.matchingNo")
+    List<DriverJobSourceRow> findSourcesAfter(@Param("afterMatchingNo") Long afterMatchingNo, Pageable pageable);
+}
@@ -12,99 +12,30 @@ import com.giproject.entity.delivery.Delivery;
 
 public interface OwnerDeliveryQueryRepository extends Repository<com.giproject.entity.delivery.Delivery, Long> {
 
-    /** 미결제: 매칭 승인됨 + 주문서는 존재 + 해당 주문서에 결제 없음 */
-	@Query("""
-			select new com.giproject.dto.delivery.DeliveryRowDTO(
-			    e.eno,
-			    e.cargoType,
-			    cast(e.cargoWeight as string),
-			    e.startAddress,
-			    e.endAddress,
-			    e.startTime,
-			    e.member.memId, 
-			    e.member.memName,
-			    co.cargoName,
-			    null,          
-			    m.matchingNo,
-			    null            
-			)
-			from com.giproject.entity.matching.Matching m
-			join m.estimate e
-			join m.cargoOwner co
-			left join m.orderSheet os
-			left join com.giproject.entity.payment.Payment p on p.orderSheet = os
-			left join com.giproject.entity.delivery.Delivery d on d.payment = p
-			where co.cargoId = :cargoId
-			  and m.isAccepted = true
-			  and (os is null or p is null)  
-			  and (d is null or d.status <> com.giproject.entity.delivery.DeliveryStatus.COMPLETED)
-			order by m.matchingNo desc
-			""")
-			List<DeliveryRowDTO> findUnpaidByCargoId(@Param("cargoId") String cargoId);
-
-
-
-    /** 결제됨(대기/배송중): 해당 주문서 결제 있음 + Delivery가 없거나(=대기) / 완료가 아님 */
-    @Query("""
+    // 세 탭 모두 driver_job_view 단일 테이블, (cargo_id, phase, sort_key) 인덱스 역순 스캔
+    String ROW = """
         select new com.giproject.dto.delivery.DeliveryRowDTO(
-            e.eno,
-            e.cargoType,
-            cast(e.cargoWeight as string),
-            e.startAddress,
-            e.endAddress,
-            e.startTime,
-            e.member.memId, 
-            
-			    e.member.memName,
-            co.cargoName,
-            case
-                when d.status is null then com.giproject.entity.delivery.DeliveryStatus.PENDING
-                else d.status
-            end,
-            m.matchingNo,
-            d.completTime
+            v.eno, v.cargoType, v.cargoWeight,
+            v.startAddress, v.endAddress, v.startTime,
+            v.memId, v.memName,
+            v.driverName, v.deliveryStatus,
+            v.matchingNo, v.paymentNo,
+            v.deliveryNo, v.completTime
         )
-        from com.giproject.entity.matching.Matching m
-        join m.estimate e
-        join m.cargoOwner co
-        join m.orderSheet os
-        join com.giproject.entity.payment.Payment p on p.orderSheet = os
-        left join com.giproject.entity.delivery.Delivery d on d.payment = p
-        where co.cargoId = :cargoId
-          and m.isAccepted = true
-          and (d.status is null or d.status <> com.giproject.entity.delivery.DeliveryStatus.COMPLETED)
-        order by e.eno desc
-    """)
+        from com.giproject.entity.delivery.DriverJobView v
+        where v.cargoId = :cargoId
+        """;
+
+    /** 미결제: 매칭 승인됨 + 결제 없음 */
+    @Query(ROW + " and v.phase = com.giproject.entity.delivery.DriverJobPhase.UNPAID order by v.sortKey desc")
+    List<DeliveryRowDTO> findUnpaidByCargoId(@Param("cargoId") String cargoId);
+
+    /** 결제됨(대기/배송중): 결제 있음 + Delivery가 없거나(=대기) / 완료가 아님 */
+    @Query(ROW + " and v.phase = com.giproject.entity.delivery.DriverJobPhase.PAID order by v.sortKey desc")
     List<DeliveryRowDTO> findPaidInProgressByCargoId(@Param("cargoId") String cargoId);
 
-    /** 완료: Delivery.status = COMPLETED */
-    @Query("""
-        select new com.giproject.dto.delivery.DeliveryRowDTO(
-            e.eno,
-            e.cargoType,
-            cast(e.cargoWeight as string),
-            e.startAddress,
-            e.endAddress,
-            e.startTime,
-            e.member.memId, 
-            
-			    e.member.memName,
-            co.cargoName,
-            d.status,
-            m.matchingNo,
-            d.completTime
-        )
-        from com.giproject.entity.matching.Matching m
-        join m.estimate e
-        join m.cargoOwner co
-        join m.orderSheet os
-        join com.giproject.entity.payment.Payment p on p.orderSheet = os
-        join com.giproject.entity.delivery.Delivery d on d.payment = p
-        where co.cargoId = :cargoId
-          and m.isAccepted = true
-          and d.status = com.giproject.entity.delivery.DeliveryStatus.COMPLETED
-        order by d.completTime desc
-    """)
+    /** 완료: Delivery.status = COMPLETED (완료 시각 역순) */
+    @Query(ROW + " and v.phase = com.giproject.entity.delivery.DriverJobPhase.COMPLETED order by v.sortKey desc")
     List<DeliveryRowDTO> findCompletedByCargoId(@Param("cargoId") String cargoId);
     
     @Query("""
@@ -1,10 +1,13 @@
 package com.giproject.repository.estimate;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -20,6 +23,38 @@ public interface EsmateRepository extends JpaRepository<Estimate, Long>{
 	@Query("SELECT e FROM Estimate e WHERE e.isTemp = false")
 	List<Estimate> findValidEstimates();
 	
+	@Query("SELECT e.eno FROM Estimate e WHERE e.eno IN :enos")
+	List<Long> findExistingEnos(@Param("enos") Collection<Long> enos);
+	
+	// 요금 시뮬레이션용 키셋 청크 조회: afterEno 이후 eno 오름차순으로 pageable 크기만큼
+	@Query("""
+			SELECT e.eno AS eno, e.cargoWeight AS cargoWeight, e.distanceKm AS distanceKm,
+			       e.specialNotes AS specialNotes, e.totalCost AS totalCost
+			FROM Estimate e
+			WHERE e.isTemp = false
+			  AND e.startTime >= :since
+			  AND e.eno > :afterEno
+			ORDER BY e.eno ASC
+			""")
+	List<EstimatePricingRow> findPricingRowsAfter(@Param("since") LocalDateTime since, @Param("afterEno") Long afterEno, Pageable pageable);
+	
+	// 지역 간 거리 행렬 생성용 키셋 청크 조회 (거리가 있는 등록 견적만)
+	@Query("""
+			SELECT e.eno AS eno, e.startAddress AS startAddress, e.endAddress AS endAddress, e.distanceKm AS distanceKm
+			FROM Estimate e
+			WHERE e.isTemp = false
+			  AND e.distanceKm > 0
+			  AND e.eno > :afterEno
+			ORDER BY e.eno ASC
+			""")
+	List<EstimateRouteRow> findRouteRowsAfter(@Param("afterEno") Long afterEno, Pageable pageable);
+	
+	// weight_kg 컬럼 추가 이전에 등록된 견적 (기동 시 채워 넣기용)
+	List<Estimate> findByWeightKgIsNullAndCargoWeightIsNotNull();
+	
+	// 지역 코드 컬럼 추가 이전에 등록된 견적
+	List<Estimate> findByStartRegionCodeIsNullAndStartAddressIsNotNull();
+	
 	@Query("Select e From Estimate e Where e.isTemp = true And e.member.memId =:memberId")
 	public List<Estimate> saveEstimateList(@Param("memberId") String memberId);
 	
@@ -30,38 +65,57 @@ public interface EsmateRepository extends JpaRepository<Estimate, Long>{
 	@Query("Select e From Estimate e where e.member.memId =:memberId and e.eno =:eno")
 	public Estimate exportEs(@Param("memberId")String memberId,@Param("eno") Long eno);
 	
-	@Query("Select e From Estimate e where e.member.memId =:memberId ")
+	// 매칭 선점: matched = false 인 행만 갱신되므로 동시에 수락해도 1건만 1을 반환한다
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("Update Estimate e set e.matched = true where e.eno =:eno and e.matched = false")
+	public int claimMatched(@Param("eno") Long eno);
+	
+	@Query("Select e From Estimate e join fetch e.member m where m.memId =:memberId ")
 	public List<Estimate> getMyEstimate(@Param("memberId") String memberId);
-    @EntityGraph(attributePaths = {
-            "matchings",
-            "matchings.cargoOwner",
-            "matchings.orderSheet",
-            "matchings.orderSheet.payment"
-    })
+    // 결제 전 견적: 매칭/기사/주문서/결제를 평면 행으로 조회 (컬렉션 fetch join 없음)
     @Query("""
-            select distinct e
+            select e.eno as eno, e.startAddress as startAddress, e.endAddress as endAddress,
+                   e.distanceKm as distanceKm, e.cargoWeight as cargoWeight, e.cargoType as cargoType,
+                   e.startTime as startTime, e.totalCost as totalCost, e.baseCost as baseCost,
+                   e.distanceCost as distanceCost, e.specialOption as specialOption,
+                   e.specialNotes as specialNotes, e.startLat as startLat, e.startLng as startLng,
+                   e.matched as matched, e.isOrdered as ordered, e.isTemp as temp,
+                   mem.memId as memberId,
+                   m.matchingNo as matchingNo, m.isAccepted as accepted, co.cargoName as driverName
             from Estimate e
+            join e.member mem
             left join e.matchings m
+            left join m.cargoOwner co
             left join m.orderSheet os
             left join os.payment p
-            where e.member.memId = :memberId
+            where mem.memId = :memberId
+              and e.isTemp = false
               and p is null
+            order by e.eno desc
             """)
-    public List<Estimate> findMyEstimatesWithoutPayment(@Param("memberId") String memberId);
+    public List<EstimateListRow> findMyEstimateRowsWithoutPayment(@Param("memberId") String memberId);
     
-    @EntityGraph(attributePaths = {
-            "matchings",
-            "matchings.cargoOwner",
-            "matchings.orderSheet",
-            "matchings.orderSheet.payment"
-    })
+    // 결제 완료 견적: 결제번호와 배송 상태까지 한 번에 조회
     @Query("""
-            select distinct e
+            select e.eno as eno, e.startAddress as startAddress, e.endAddress as endAddress,
+                   e.distanceKm as distanceKm, e.cargoWeight as cargoWeight, e.cargoType as cargoType,
+                   e.startTime as startTime, e.totalCost as totalCost, e.baseCost as baseCost,
+                   e.distanceCost as distanceCost, e.specialOption as specialOption,
+                   e.specialNotes as specialNotes, e.startLat as startLat, e.startLng as startLng,
+                   e.matched as matched, e.isOrdered as ordered, e.isTemp as temp,
+                   mem.memId as memberId,
+                   m.matchingNo as matchingNo, m.isAccepted as accepted, co.cargoName as driverName,
+                   p.paymentNo as paymentNo, d.status as deliveryStatus, d.completTime as deliveryCompletedAt
             from Estimate e
+            join e.member mem
             join e.matchings m
+            left join m.cargoOwner co
             join m.orderSheet os
             join os.payment p
-            where e.member.memId = :memberId
+            left join Delivery d on d.payment = p
+            where mem.memId = :memberId
+              and e.isTemp = false
+            order by e.eno desc
             """)
-    public List<Estimate> findMyPaidEstimates(@Param("memberId") String memberId);
+    public List<EstimateListRow> findMyPaidEstimateRows(@Param("memberId") String memberId);
 }
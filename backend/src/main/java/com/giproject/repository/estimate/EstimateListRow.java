@@ -0,0 +1,31 @@
+package com.giproject.repository.estimate;
+
+import java.time.LocalDateTime;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.repository.matching.MatchingStateRow;
+
+// 화주 견적 목록(미결제/결제완료)용 평면 조회 결과. 엔티티를 영속성 컨텍스트에 올리지 않는다
+public interface EstimateListRow extends MatchingStateRow {
+    String getStartAddress();
+    String getEndAddress();
+    Double getDistanceKm();
+    String getCargoWeight();
+    String getCargoType();
+    LocalDateTime getStartTime();
+    Integer getTotalCost();
+    Integer getBaseCost();
+    Integer getDistanceCost();
+    Integer getSpecialOption();
+    String getSpecialNotes();
+    Double getStartLat();
+    Double getStartLng();
+    Boolean getMatched();
+    Boolean getOrdered();
+    Boolean getTemp();
+    String getMemberId();
+    String getDriverName();
+    Long getPaymentNo();
+    DeliveryStatus getDeliveryStatus();
+    LocalDateTime getDeliveryCompletedAt();
+}
@@ -0,0 +1,10 @@
+package com.giproject.repository.estimate;
+
+// 요금 재계산(요금 변경 시뮬레이션)에 필요한 컬럼만 읽는 평면 조회 결과
+public interface EstimatePricingRow {
+    Long getEno();
+    String getCargoWeight();
+    Double getDistanceKm();
+    String getSpecialNotes();
+    Integer getTotalCost();
+}
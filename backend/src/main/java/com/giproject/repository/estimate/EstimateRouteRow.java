@@ -0,0 +1,9 @@
+package com.giproject.repository.estimate;
+
+// 지역 간 거리 행렬 생성에 필요한 컬럼만 읽는 평면 조회 결과
+public interface EstimateRouteRow {
+    Long getEno();
+    String getStartAddress();
+    String getEndAddress();
+    Double getDistanceKm();
+}
@@ -0,0 +1,21 @@
+package com.giproject.repository.fees;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.giproject.entity.fees.FareSchedule;
+
+public interface FareScheduleRepository extends JpaRepository<FareSchedule, Long> {
+
+	// 아직 반영되지 않은 예약 (적용 시각 순)
+	List<FareSchedule> findByAppliedAtIsNullOrderByEffectiveFromAsc();
+
+	// 반영할 차례가 된 예약 (실패로 표시된 예약은 제외)
+	List<FareSchedule> findByAppliedAtIsNullAndFailedAtIsNullAndEffectiveFromLessThanEqualOrderByEffectiveFromAsc(LocalDateTime now);
+
+	List<FareSchedule> findAllByOrderByEffectiveFromDesc();
+
+	boolean existsByEffectiveFrom(LocalDateTime effectiveFrom);
+}
@@ -0,0 +1,13 @@
+package com.giproject.repository.kakaomap;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.giproject.entity.kakaomap.GeocodeCacheEntry;
+
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCacheEntry, String> {
+
+	Optional<GeocodeCacheEntry> findByAddressKeyAndUpdatedAtAfter(String addressKey, LocalDateTime after);
+}
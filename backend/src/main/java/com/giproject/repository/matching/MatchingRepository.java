@@ -1,12 +1,14 @@
 package com.giproject.repository.matching;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -32,6 +34,20 @@ public interface MatchingRepository extends JpaRepository<Matching, Long> {
 		    """)
 	Page<Matching> findValidMatchingList(@Param("cargoOwner") CargoOwner cargoOwner,@Param("now")LocalDateTime now, Pageable pageable);
 	
+	// 인메모리 피드 인덱스(OpenJobIndex) 초기 적재용 - 거절 여부와 무관한 전체 미배정 매칭
+	@Query("""
+		    SELECT m FROM Matching m
+		    JOIN FETCH m.estimate e
+		    LEFT JOIN FETCH e.member
+		    WHERE m.cargoOwner IS NULL
+		      AND m.isAccepted = false
+		      AND e.isTemp = false
+		      And e.matched = false
+		      And e.isOrdered = false
+		      And e.startTime >=:now
+		    """)
+	List<Matching> findOpenMatchings(@Param("now") LocalDateTime now);
+	
 	@Query("SELECT COUNT(m) > 0 FROM Matching m WHERE m.estimate.eno = :estimateNo AND m.estimate.matched = true")
 	boolean checkMached(@Param("estimateNo") Long estimateNo);
 	
@@ -44,4 +60,28 @@ public interface MatchingRepository extends JpaRepository<Matching, Long> {
 	
 	@Query("SELECT m.matchingNo FROM Matching m WHERE m.estimate.eno = :estimateNo")
 	Optional<Long> findMatchingNoByEstimateNo(@Param("estimateNo") Long estimateNo);
+	
+	// 일괄 수락: 견적 번호 → 매칭 번호 한 번에 조회
+	@Query("""
+			SELECT m.estimate.eno AS eno, m.matchingNo AS matchingNo, m.isAccepted AS accepted
+			FROM Matching m
+			WHERE m.estimate.eno IN :estimateNos
+			""")
+	List<MatchingStateRow> findMatchingStatesByEstimateNos(@Param("estimateNos") Collection<Long> estimateNos);
+	
+	// 화주의 전체 견적에 대한 매칭 상태를 한 번에 조회 (견적별 개별 조회 N+1 방지)
+	@Query("""
+			SELECT m.estimate.eno AS eno, m.matchingNo AS matchingNo, m.isAccepted AS accepted
+			FROM Matching m
+			WHERE m.estimate.member.memId = :memberId
+			""")
+	List<MatchingStateRow> findMatchingStatesByMemberId(@Param("memberId") String memberId);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Matching m SET m.cargoOwner = :cargoOwner, m.isAccepted = true, m.acceptedTime = :acceptedTime WHERE m.matchingNo = :matchingNo")
+	int assignCargoOwner(@Param("matchingNo") Long matchingNo, @Param("cargoOwner") CargoOwner cargoOwner, @Param("acceptedTime") LocalDateTime acceptedTime);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Matching m SET m.cargoOwner = :cargoOwner, m.isAccepted = true, m.acceptedTime = :acceptedTime WHERE m.matchingNo IN :matchingNos")
+	int assignCargoOwnerAll(@Param("matchingNos") Collection<Long> matchingNos, @Param("cargoOwner") CargoOwner cargoOwner, @Param("acceptedTime") LocalDateTime acceptedTime);
 }
@@ -0,0 +1,7 @@
+package com.giproject.repository.matching;
+
+public interface MatchingStateRow {
+    Long getEno();
+    Long getMatchingNo();
+    Boolean getAccepted();
+}
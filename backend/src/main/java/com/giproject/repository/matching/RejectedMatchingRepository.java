@@ -1,6 +1,12 @@
 package com.giproject.repository.matching;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.giproject.entity.cargo.CargoOwner;
 import com.giproject.entity.estimate.Estimate;
@@ -8,4 +14,12 @@ import com.giproject.entity.matching.RejectedMatching;
 
 public interface RejectedMatchingRepository extends JpaRepository<RejectedMatching, Long>{
 	boolean existsByCargoOwnerAndEstimate(CargoOwner cargoOwner,Estimate estimate);
+	
+	@Query("select r.estimate.eno from RejectedMatching r where r.cargoOwner.cargoId = :cargoId")
+	List<Long> findRejectedEnosByCargoId(@Param("cargoId") String cargoId);
+	
+	// 출발 시간이 지난 견적의 거절 기록 일괄 삭제 (보존 기간 정리용)
+	@Modifying
+	@Query("delete from RejectedMatching r where r.estimate.eno in (select e.eno from Estimate e where e.startTime < :before)")
+	int deleteByEstimateStartTimeBefore(@Param("before") LocalDateTime before);
 }
@@ -0,0 +1,50 @@
+package com.giproject.repository.owner;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.giproject.entity.owner.DriverRevenueDaily;
+
+public interface DriverRevenueDailyRepository extends JpaRepository<DriverRevenueDaily, DriverRevenueDaily.Key> {
+
+    // PK (cargo_id, day) 범위 읽기
+    List<DriverRevenueDaily> findByCargoIdAndDayBetweenOrderByDayAsc(String cargoId, LocalDate from, LocalDate to);
+
+    // 배송완료 한 건의 매출 (완료 시 증가분)
+    @Query("""
+        select mt.cargoOwner.cargoId as cargoId,
+               year(dv.completTime) as y, month(dv.completTime) as m, day(dv.completTime) as d,
+               cast(e.totalCost as long) as revenue, 1L as deliveries
+        from Delivery dv
+        join dv.payment p
+        join p.orderSheet os
+        join os.matching mt
+        join mt.estimate e
+        where dv.deliveryNo = :deliveryNo
+          and dv.status = com.giproject.entity.delivery.DeliveryStatus.COMPLETED
+          and dv.completTime is not null
+    """)
+    Optional<RevenueSourceRow> findSource(@Param("deliveryNo") Long deliveryNo);
+
+    // 전체 재구성용 (기사 x 완료일 합계)
+    @Query("""
+        select mt.cargoOwner.cargoId as cargoId,
+               year(dv.completTime) as y, month(dv.completTime) as m, day(dv.completTime) as d,
+               sum(e.totalCost) as revenue, count(dv) as deliveries
+        from Delivery dv
+        join dv.payment p
+        join p.orderSheet os
+        join os.matching mt
+        join mt.estimate e
+        where dv.status = com.giproject.entity.delivery.DeliveryStatus.COMPLETED
+          and dv.completTime is not null
+          and mt.cargoOwner is not null
+        group by mt.cargoOwner.cargoId, year(dv.completTime), month(dv.completTime), day(dv.completTime)
+    """)
+    List<RevenueSourceRow> findAllSources();
+}
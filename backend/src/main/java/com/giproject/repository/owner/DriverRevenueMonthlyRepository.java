@@ -0,0 +1,15 @@
+package com.giproject.repository.owner;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.giproject.entity.owner.DriverRevenueMonthly;
+
+public interface DriverRevenueMonthlyRepository extends JpaRepository<DriverRevenueMonthly, DriverRevenueMonthly.Key> {
+
+    // PK (cargo_id, ym) 범위 읽기
+    List<DriverRevenueMonthly> findByCargoIdOrderByYmAsc(String cargoId);
+
+    List<DriverRevenueMonthly> findByCargoIdAndYmBetweenOrderByYmAsc(String cargoId, int fromYm, int toYm);
+}
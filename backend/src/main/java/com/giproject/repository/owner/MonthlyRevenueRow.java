@@ -1,7 +0,0 @@
-package com.giproject.repository.owner;
-
-public interface MonthlyRevenueRow {
-    Integer getY();
-    Integer getM();
-    Long getRevenue();
-}
\ No newline at end of file
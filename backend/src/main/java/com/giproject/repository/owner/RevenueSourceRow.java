@@ -0,0 +1,11 @@
+package com.giproject.repository.owner;
+
+// 배송완료 매출 원본 (기사 x 완료일)
+public interface RevenueSourceRow {
+    String getCargoId();
+    Integer getY();
+    Integer getM();
+    Integer getD();
+    Long getRevenue();
+    Long getDeliveries();
+}
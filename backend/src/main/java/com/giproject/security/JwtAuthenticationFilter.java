@@ -26,6 +26,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final AntPathMatcher MATCHER = new AntPathMatcher();
 
+    // 쿼리 파라미터 스트림 토큰을 받는 SSE 구독 경로 (그 외 경로는 헤더만)
+    private static final List<String> STREAM_PATHS = List.of(
+        "/g2i4/delivery/tracking/*/stream",
+        "/g2i4/estimate/stream"
+    );
+
     /**
      * JWT 검사에서 제외할 경로 패턴들
      * - OAuth2 인가 진입/콜백
@@ -91,21 +97,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain chain) throws ServletException, IOException {
 
         String header = request.getHeader("Authorization");
+        String token = null;
+        boolean streamToken = false;
+        if (header != null && header.startsWith("Bearer ")) {
+            token = header.substring("Bearer ".length()).trim();
+        } else if (isStreamRequest(request)) {
+            // 브라우저 EventSource 는 헤더를 못 보내므로 SSE 구독은 쿼리 파라미터의 단기 스트림 토큰 허용
+            token = request.getParameter(JwtService.STREAM_TOKEN_PARAM);
+            streamToken = true;
+        }
 
-        // Authorization 헤더가 없거나 Bearer로 시작하지 않으면 패스
-        if (header == null || !header.startsWith("Bearer ")) {
+        // 토큰이 없으면 패스
+        if (token == null || token.isBlank()) {
             chain.doFilter(request, response);
             return;
         }
 
-        String token = header.substring("Bearer ".length()).trim();
-
         try {
             // 이미 인증된 컨텍스트가 있으면 재설정 불필요
-            if (SecurityContextHolder.getContext().getAuthentication() == null && jwtService.validate(token)) {
+            boolean valid = streamToken ? jwtService.validateStreamToken(token) : jwtService.validate(token);
+            if (SecurityContextHolder.getContext().getAuthentication() == null && valid) {
                 var authentication = jwtService.toAuthentication(token, userDetailsService);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-            } else if (!jwtService.validate(token)) {
+            } else if (!valid) {
                 // 유효하지 않은 토큰이면 컨텍스트 정리(혹시 모를 잔존값 제거)
                 SecurityContextHolder.clearContext();
                 log.debug("Invalid JWT token");
@@ -118,4 +132,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         chain.doFilter(request, response);
     }
+
+    private static boolean isStreamRequest(HttpServletRequest request) {
+        if (!"GET".equalsIgnoreCase(request.getMethod())) return false;
+        String p = request.getServletPath();
+        return STREAM_PATHS.stream().anyMatch(pattern -> MATCHER.match(pattern, p));
+    }
 }
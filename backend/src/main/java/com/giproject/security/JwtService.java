@@ -9,11 +9,13 @@ import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
@@ -26,6 +28,11 @@ import java.util.stream.Collectors;
 @Service
 public class JwtService {
 
+    // SSE 구독용 단기 토큰 쿼리 파라미터 (액세스 토큰은 URL 에 싣지 않는다)
+    public static final String STREAM_TOKEN_PARAM = "stream_token";
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String STREAM_SCOPE = "stream";
+
     @Value("${jwt.secret:CHANGE_THIS_TO_A_LONG_RANDOM_SECRET_256_BITS_MINIMUM_1234567890}")
     private String secret;
 
@@ -38,6 +45,9 @@ public class JwtService {
     @Value("${jwt.refresh.expSeconds:604800}") // 7일
     private long refreshExpSeconds;
 
+    @Value("${jwt.stream.expSeconds:60}")      // 1분 (구독을 여는 데만 쓰임)
+    private long streamExpSeconds;
+
     /* =========================
      * Key & Parser
      * ========================= */
@@ -163,19 +173,46 @@ public class JwtService {
         return parser().parseSignedClaims(token).getPayload();
     }
 
+    // 스트림 토큰은 구독 외에는 쓸 수 없다 (헤더 인증/리프레시 불가)
     public boolean validate(String token) {
         try {
-            parser().parseSignedClaims(token);
-            return true;
+            return !STREAM_SCOPE.equals(parseToken(token).get(SCOPE_CLAIM));
         } catch (Exception e) {
             return false;
         }
     }
 
+    public boolean validateStreamToken(String token) {
+        try {
+            return STREAM_SCOPE.equals(parseToken(token).get(SCOPE_CLAIM));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** 유효한 액세스 토큰으로 SSE 구독용 단기 토큰 발급 (같은 사용자, scope=stream) */
+    public String createStreamToken(String accessToken) {
+        return build(getUsername(accessToken), Map.of(SCOPE_CLAIM, STREAM_SCOPE), streamExpSeconds);
+    }
+
     public String getUsername(String token) {
         return parseToken(token).getSubject();
     }
 
+    /**
+     * Authorization 헤더(Bearer 액세스 토큰) 우선, 없으면 쿼리 파라미터({@value #STREAM_TOKEN_PARAM})의 스트림 토큰.
+     * 브라우저 EventSource 는 헤더를 보낼 수 없어 SSE 구독에서만 스트림 토큰을 쓴다
+     */
+    public String resolveToken(String authHeader, String streamToken) {
+        boolean header = authHeader != null && !authHeader.isBlank();
+        String token = header ? authHeader.replace("Bearer ", "").trim() : streamToken;
+        boolean valid = token != null && !token.isBlank() && (header ? validate(token) : validateStreamToken(token));
+        if (!valid) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 정보가 없거나 만료되었습니다.");
+        }
+        return token;
+    }
+
     public Authentication toAuthentication(String token, UserDetailsService uds) {
         var user = uds.loadUserByUsername(getUsername(token));
         return new UsernamePasswordAuthenticationToken(user, token, user.getAuthorities());
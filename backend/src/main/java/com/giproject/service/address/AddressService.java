@@ -1,8 +1,9 @@
 package com.giproject.service.address;
 
-import java.util.regex.Pattern;
 import org.springframework.stereotype.Service;
 
+import com.giproject.utils.AddressNormalizer;
+
 @Service
 public class AddressService {
 
@@ -18,27 +19,22 @@ public class AddressService {
      */
     public String simpleAddress(String fullAddress) {
         if (isBlank(fullAddress)) return "";
-        String[] parts = fullAddress.trim().split("\\s+");
-        if (parts.length >= 2) {
-            return (parts[0] + " " + parts[1]).trim();
-        }
-        return fullAddress.trim();
+        return AddressNormalizer.parse(fullAddress).simple();
+    }
+
+    /**
+     * 정식 시/도 명칭 + 시/군/구.
+     * 예) "서울 강남구 역삼동", "서울특별시 강남구" -> "서울특별시 강남구"
+     */
+    public String region(String fullAddress) {
+        if (isBlank(fullAddress)) return "";
+        return AddressNormalizer.parse(fullAddress).region();
     }
 
     public String[] parseRoute(String route) {
         if (isBlank(route)) return new String[]{"", ""};
-        String raw = route.trim();
-        String[] seps = {"→", "->", "-", "~", "—", "–", "⟶", "⟹", "➡️"};
-
-        for (String sep : seps) {
-            if (raw.contains(sep)) {
-                String[] parts = raw.split(java.util.regex.Pattern.quote(sep), 2);
-                String from = simpleAddress(parts[0].trim());
-                String to = parts.length > 1 ? simpleAddress(parts[1].trim()) : "";
-                return new String[]{from, to};
-            }
-        }
-        return new String[]{simpleAddress(raw), ""};
+        String[] parts = AddressNormalizer.splitRoute(route);
+        return new String[]{simpleAddress(parts[0]), simpleAddress(parts[1])};
     }
 
     public String formatRoute(String from, String to) {
@@ -51,7 +47,7 @@ public class AddressService {
     public String toShortAddress(String value) {
         if (isBlank(value)) return "";
         String raw = value.trim();
-        if (raw.matches(".*[→\\-~—–⟶⟹➡️].*")) {
+        if (AddressNormalizer.looksLikeRoute(raw)) {
             String[] parts = parseRoute(raw);
             return formatRoute(parts[0], parts[1]);
         }
@@ -7,7 +7,7 @@ import com.giproject.dto.admin.DeliveryDetailDTO; // Added import
 
 public interface AdminDeliveryService {
     List<AdminMemberSearchDTO> searchUserForDeliveryPage(String query);
-    List<DeliveryDetailDTO> getAllDeliveries(String status, String keyword); // Added
+    List<DeliveryDetailDTO> getAllDeliveries(String status, String keyword, String region); // region: 출발지 시/도 코드 또는 이름
     AdminMemberSearchDTO getDeliveryDetailsForUser(String userId, String userType); // New method
 }
 
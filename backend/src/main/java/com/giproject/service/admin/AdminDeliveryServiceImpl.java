@@ -9,6 +9,7 @@ import com.giproject.entity.member.Member;
 import com.giproject.repository.cargo.CargoOwnerRepository;
 import com.giproject.repository.delivery.DeliveryRepository;
 import com.giproject.repository.member.MemberRepository;
+import com.giproject.utils.AddressNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -119,8 +120,15 @@ public class AdminDeliveryServiceImpl implements AdminDeliveryService {
     }
 
     @Override
-    public List<DeliveryDetailDTO> getAllDeliveries(String status, String keyword) {
-        List<Delivery> allDeliveries = deliveryRepository.findAllWithDetails();
+    public List<DeliveryDetailDTO> getAllDeliveries(String status, String keyword, String region) {
+        // 지역 조건은 DB 에서 (출발지 시/도 코드 인덱스). 알 수 없는 지역은 전체가 아니라 빈 결과
+        if (AddressNormalizer.isUnknownRegion(region)) {
+            return List.of();
+        }
+        String regionCode = AddressNormalizer.sidoCode(region);
+        List<Delivery> allDeliveries = regionCode != null
+                ? deliveryRepository.findAllWithDetailsByStartRegion(regionCode)
+                : deliveryRepository.findAllWithDetails();
         
         // Filter by status if not "ALL"
         if (!"ALL".equalsIgnoreCase(status)) {
@@ -0,0 +1,37 @@
+package com.giproject.service.delivery;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.service.mail.MailService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 배송 완료가 커밋된 뒤 화주에게 완료 메일을 보낸다.
+ * 메일 실패가 상태 변경을 되돌리지 않도록 트랜잭션 밖에서, 지연 연관을 읽을 수 있게 새 읽기 트랜잭션으로 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class DeliveryMailListener {
+
+	private final MailService mailService;
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onStatusChanged(DeliveryStatusChangedEvent event) {
+		if (event.to() != DeliveryStatus.COMPLETED) {
+			return;
+		}
+		try {
+			mailService.deliveryCompleted(event.deliveryNo());
+		} catch (RuntimeException e) {
+			log.warn("배송 완료 메일 실패 - {}: {}", event.deliveryNo(), e.getMessage());
+		}
+	}
+}
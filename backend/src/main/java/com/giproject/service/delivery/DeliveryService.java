@@ -2,7 +2,6 @@ package com.giproject.service.delivery;
 
 import com.giproject.dto.delivery.DeliveryDTO;
 import com.giproject.entity.delivery.Delivery;
-import com.giproject.entity.payment.Payment;
 
 public interface DeliveryService {
 	default DeliveryDTO entityToDTO(Delivery delivery) {
@@ -15,17 +14,10 @@ public interface DeliveryService {
 		return deliveryDTO;
 	}
 	
-	default Delivery dtoToEntity(Payment payment) {
-		Delivery delivery = Delivery.builder()
-							.payment(payment)
-							.cargoOwner(payment.getOrderSheet().getMatching().getCargoOwner()) // Added cargoOwner
-							.build();
-		return delivery;
-	}
-	
 	DeliveryDTO createDelivery(Long paymentNo);
 	
-	DeliveryDTO changeStatusInTransit(Long deliveryNo);
+	// idempotencyKey: 같은 키로 다시 들어온 요청은 상태를 바꾸지 않고 현재 값을 돌려준다 (null 허용)
+	DeliveryDTO changeStatusInTransit(Long deliveryNo, String idempotencyKey);
 	
-	DeliveryDTO changeStatusCompleted(Long deliveryNo);
+	DeliveryDTO changeStatusCompleted(Long deliveryNo, String idempotencyKey);
 	}
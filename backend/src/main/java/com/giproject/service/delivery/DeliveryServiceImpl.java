@@ -1,8 +1,8 @@
 package com.giproject.service.delivery;
 
-import java.time.LocalDateTime;
-
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.giproject.dto.delivery.DeliveryDTO;
 import com.giproject.entity.delivery.Delivery;
@@ -10,7 +10,6 @@ import com.giproject.entity.delivery.DeliveryStatus;
 import com.giproject.entity.payment.Payment;
 import com.giproject.repository.delivery.DeliveryRepository;
 import com.giproject.repository.payment.PaymentRepository;
-import com.giproject.service.mail.MailService;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -21,35 +20,34 @@ public class DeliveryServiceImpl implements DeliveryService{
 
 	private final DeliveryRepository deliveryRepository;
 	private final PaymentRepository paymentRepository;
-	private final MailService mailService;
+	private final DeliveryStateMachine deliveryStateMachine;
 	
 	@Transactional
 	@Override
 	public DeliveryDTO createDelivery(Long paymentNo) {
 		Payment payment = paymentRepository.findById(paymentNo).orElseThrow(() -> new RuntimeException("결제번호가 존재하지않습니다"));
-		Delivery delivery = dtoToEntity(payment);
-		Delivery saved= deliveryRepository.save(delivery);
+		Delivery saved = deliveryStateMachine.create(payment, DeliveryStateMachine.SYSTEM);
 		return entityToDTO(saved);
 	}
 	
 	@Transactional
 	@Override
-	public DeliveryDTO changeStatusInTransit(Long deliveryNo) {
-		Delivery delivery = deliveryRepository.findById(deliveryNo).orElseThrow(()-> new RuntimeException("배송정보가 존재하지않습니다"));
-		delivery.setStatus(DeliveryStatus.IN_TRANSIT);
-		return entityToDTO(delivery);
+	public DeliveryDTO changeStatusInTransit(Long deliveryNo, String idempotencyKey) {
+		deliveryStateMachine.transition(deliveryNo, DeliveryStatus.IN_TRANSIT, DeliveryStateMachine.SYSTEM, idempotencyKey);
+		return reload(deliveryNo);
 	}
 
+	// 완료 메일은 커밋 후 DeliveryMailListener 에서
+	@Transactional
 	@Override
-	public DeliveryDTO changeStatusCompleted(Long deliveryNo) {
-		Delivery delivery = deliveryRepository.findById(deliveryNo).orElseThrow(()-> new RuntimeException("배송정보가 존재하지않습니다"));
-		delivery.setStatus(DeliveryStatus.COMPLETED);
-		delivery.setCompletTime(LocalDateTime.now());
-		mailService.deliveryCompleted(deliveryNo);
-		System.out.println("메일보냄");
-		return entityToDTO(delivery);
-		
+	public DeliveryDTO changeStatusCompleted(Long deliveryNo, String idempotencyKey) {
+		deliveryStateMachine.transition(deliveryNo, DeliveryStatus.COMPLETED, DeliveryStateMachine.SYSTEM, idempotencyKey);
+		return reload(deliveryNo);
 	}
 	
-	
+	private DeliveryDTO reload(Long deliveryNo) {
+		Delivery delivery = deliveryRepository.findById(deliveryNo)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "배송정보가 존재하지않습니다"));
+		return entityToDTO(delivery);
+	}
 }
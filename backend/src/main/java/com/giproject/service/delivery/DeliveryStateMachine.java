@@ -0,0 +1,229 @@
+package com.giproject.service.delivery;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.entity.delivery.Delivery;
+import com.giproject.entity.delivery.DeliveryEvent;
+import com.giproject.entity.delivery.DeliveryIdempotencyKey;
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.entity.payment.Payment;
+import com.giproject.repository.delivery.DeliveryEventRepository;
+import com.giproject.repository.delivery.DeliveryIdempotencyKeyRepository;
+import com.giproject.repository.delivery.DeliveryRepository;
+import com.giproject.repository.delivery.DeliveryStateRow;
+import com.giproject.repository.payment.PaymentRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 배송 상태 전이는 모두 여기서만 한다.
+ *
+ * - 허용 전이는 {@link DeliveryStatus#canTransitionTo}. 완료 후 변경은 409
+ * - 현재 상태를 조건으로 한 UPDATE 한 번 + delivery_event INSERT 한 번. 동시에 같은 전이가 들어오면 하나만 반영된다
+ * - 이미 목표 상태이거나 같은 Idempotency-Key 로 처리된 요청이면 아무것도 하지 않는다 (앱 재시도 대비).
+ *   아무것도 바꾸지 않은 요청의 키도 delivery_idempotency_key 에 남겨 다음 재시도를 알아본다
+ * - 키는 요청한 쪽(기사 아이디 또는 system) 안에서만 유일. 같은 쪽이 같은 키를 다른 배송/상태에 다시 쓰면 409
+ * - 생성 또는 실제로 바뀐 경우에만 {@link DeliveryStatusChangedEvent} 발행 (완료 메일 등은 커밋 후)
+ * - 배송 생성 INSERT 와 생성 이벤트는 별도 트랜잭션. 같은 결제로 동시에 만들면 한쪽은 payment_no 유니크에 걸리고,
+ *   만들어진 배송을 잠금 읽기로 다시 읽는다
+ * - 상태 UPDATE 는 영속성 컨텍스트를 비우지 않고, 이미 올라와 있는 해당 배송만 refresh
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class DeliveryStateMachine {
+
+	public static final String SYSTEM = "system";
+
+	private final DeliveryRepository deliveryRepository;
+	private final DeliveryEventRepository deliveryEventRepository;
+	private final DeliveryIdempotencyKeyRepository idempotencyKeyRepository;
+	private final PaymentRepository paymentRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+
+	/** 결제 건의 배송을 만든다. 이미 있으면 그대로 돌려준다 */
+	@Transactional
+	public Delivery create(Payment payment, String actor) {
+		Optional<Delivery> existing = deliveryRepository.findByPayment_PaymentNo(payment.getPaymentNo());
+		if (existing.isPresent()) {
+			return existing.get();
+		}
+		Delivery delivery = Delivery.forPayment(payment);
+		try {
+			// 유니크 위반이 나도 호출한 트랜잭션은 롤백 전용이 되지 않도록 별도 트랜잭션에서 INSERT.
+			// 생성 이벤트도 같은 트랜잭션에서 발행한다: 호출한 트랜잭션의 스냅샷에는 새 배송이 보이지 않아
+			// driver_job_view 등 커밋 전 리스너가 원본을 다시 읽으면 배송이 없는 것으로 계산된다
+			requiresNew().executeWithoutResult(status -> {
+				Delivery saved = deliveryRepository.saveAndFlush(delivery);
+				append(saved.getDeliveryNo(), null, saved.getStatus(), actor, null);
+				eventPublisher.publishEvent(
+						new DeliveryStatusChangedEvent(saved.getDeliveryNo(), saved.getMatchingNo(), null, saved.getStatus()));
+			});
+		} catch (DataIntegrityViolationException e) {
+			log.debug("배송 동시 생성 - 결제 {}: 먼저 만들어진 배송 사용", payment.getPaymentNo());
+		}
+		// 방금 커밋된 행은 이 트랜잭션의 스냅샷에 보이지 않을 수 있어 잠금 읽기로 가져온다
+		return deliveryRepository.lockByPaymentNo(payment.getPaymentNo())
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "배송을 만들지 못했습니다"));
+	}
+
+	/** 배송번호로 전이. 상태가 바뀌었으면 true */
+	@Transactional
+	public boolean transition(Long deliveryNo, DeliveryStatus to, String actor, String idempotencyKey) {
+		if (replayed(deliveryNo, to, actor, idempotencyKey)) {
+			return false;
+		}
+		DeliveryStateRow row = deliveryRepository.findStateByDeliveryNo(deliveryNo)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "배송정보가 존재하지않습니다"));
+		return apply(row.getDeliveryNo(), row.getMatchingNo(), row.getStatus(), to, actor, idempotencyKey);
+	}
+
+	/**
+	 * 매칭번호 + 담당 기사로 전이 (matching_no 인덱스 조회 한 번). 상태가 바뀌었으면 true.
+	 * 결제는 됐는데 배송이 아직 없으면 여기서 만든다
+	 */
+	@Transactional
+	public boolean transitionByMatching(Long matchingNo, String cargoId, DeliveryStatus to, String idempotencyKey) {
+		Long deliveryNo;
+		DeliveryStatus from;
+		Optional<DeliveryStateRow> row = deliveryRepository.findStateByMatchingNo(matchingNo, cargoId);
+		if (row.isPresent()) {
+			deliveryNo = row.get().getDeliveryNo();
+			from = row.get().getStatus();
+		} else {
+			Delivery created = createForMatching(matchingNo, cargoId);
+			deliveryNo = created.getDeliveryNo();
+			from = created.getStatus();
+		}
+		if (replayed(deliveryNo, to, cargoId, idempotencyKey)) {
+			return false;
+		}
+		return apply(deliveryNo, matchingNo, from, to, cargoId, idempotencyKey);
+	}
+
+	private Delivery createForMatching(Long matchingNo, String cargoId) {
+		Payment payment = paymentRepository.findByOrderSheet_Matching_MatchingNo(matchingNo)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "결제 정보가 없습니다."));
+		var owner = payment.getOrderSheet().getMatching().getCargoOwner();
+		if (owner == null || !owner.getCargoId().equals(cargoId)) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "담당 배송이 아닙니다");
+		}
+		return create(payment, cargoId);
+	}
+
+	private boolean apply(Long deliveryNo, Long matchingNo, DeliveryStatus from, DeliveryStatus to, String actor,
+			String idempotencyKey) {
+		if (from == to) {
+			remember(deliveryNo, to, actor, idempotencyKey);
+			return false;
+		}
+		if (!from.canTransitionTo(to)) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "%s 상태에서 %s 로 변경할 수 없습니다".formatted(from, to));
+		}
+		LocalDateTime completTime = to == DeliveryStatus.COMPLETED ? LocalDateTime.now() : null;
+		if (deliveryRepository.updateStatus(deliveryNo, from, to, completTime) == 0) {
+			// 읽은 뒤 다른 요청이 먼저 바꿨다. 같은 목표였으면 재시도와 같으므로 성공 처리
+			// (스냅샷 읽기는 바뀌기 전 상태를 보일 수 있어 잠금 읽기)
+			DeliveryStatus now = deliveryRepository.lockStatus(deliveryNo)
+					.map(DeliveryStatus::valueOf)
+					.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "배송정보가 존재하지않습니다"));
+			if (now == to) {
+				remember(deliveryNo, to, actor, idempotencyKey);
+				return false;
+			}
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "%s 상태에서 %s 로 변경할 수 없습니다".formatted(now, to));
+		}
+		refreshIfLoaded(deliveryNo);
+		append(deliveryNo, from, to, actor, idempotencyKey);
+		eventPublisher.publishEvent(new DeliveryStatusChangedEvent(deliveryNo, matchingNo, from, to));
+		log.debug("배송 상태 변경 - {} {} → {} ({})", deliveryNo, from, to, actor);
+		return true;
+	}
+
+	// 같은 키로 이미 처리된 요청인지 (실제 전이 또는 아무것도 바꾸지 않은 요청). 다른 배송/상태에 쓰인 키면 409
+	private boolean replayed(Long deliveryNo, DeliveryStatus to, String actor, String idempotencyKey) {
+		String key = key(idempotencyKey);
+		if (key == null) {
+			return false;
+		}
+		String by = actor(actor);
+		Optional<DeliveryEvent> event = deliveryEventRepository.findByActorAndIdempotencyKey(by, key);
+		if (event.isPresent()) {
+			return sameRequest(event.get().getDeliveryNo(), event.get().getToStatus(), deliveryNo, to);
+		}
+		return idempotencyKeyRepository.findById(new DeliveryIdempotencyKey.Key(by, key))
+				.map(k -> sameRequest(k.getDeliveryNo(), k.getToStatus(), deliveryNo, to))
+				.orElse(false);
+	}
+
+	private static boolean sameRequest(Long usedDeliveryNo, DeliveryStatus usedTo, Long deliveryNo, DeliveryStatus to) {
+		if (!usedDeliveryNo.equals(deliveryNo) || usedTo != to) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 다른 요청에 사용된 Idempotency-Key 입니다");
+		}
+		return true;
+	}
+
+	// 상태를 바꾸지 않고 끝난 요청의 키. 같은 키가 이미 있으면 같은 요청이어야 한다
+	private void remember(Long deliveryNo, DeliveryStatus to, String actor, String idempotencyKey) {
+		String key = key(idempotencyKey);
+		if (key == null) {
+			return;
+		}
+		if (idempotencyKeyRepository.insertIgnore(actor(actor), key, deliveryNo, to.name(), LocalDateTime.now()) == 0) {
+			replayed(deliveryNo, to, actor, key);
+		}
+	}
+
+	// UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 이미 올라와 있는 배송 엔티티만 다시 읽는다
+	private void refreshIfLoaded(Long deliveryNo) {
+		Delivery delivery = entityManager.getReference(Delivery.class, deliveryNo);
+		if (Hibernate.isInitialized(delivery)) {
+			entityManager.refresh(delivery);
+		}
+	}
+
+	private TransactionTemplate requiresNew() {
+		TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return template;
+	}
+
+	private static String key(String idempotencyKey) {
+		String key = idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey.trim();
+		if (key != null && key.length() > 100) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 100자 이하여야 합니다");
+		}
+		return key;
+	}
+
+	private static String actor(String actor) {
+		return actor == null ? SYSTEM : actor;
+	}
+
+	private void append(Long deliveryNo, DeliveryStatus from, DeliveryStatus to, String actor, String idempotencyKey) {
+		String key = key(idempotencyKey);
+		deliveryEventRepository.save(DeliveryEvent.builder()
+				.deliveryNo(deliveryNo)
+				.fromStatus(from)
+				.toStatus(to)
+				.idempotencyKey(key)
+				.actor(actor(actor))
+				.createdAt(LocalDateTime.now())
+				.build());
+	}
+}
@@ -0,0 +1,9 @@
+package com.giproject.service.delivery;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+
+/**
+ * 배송이 만들어지거나(from = null) 상태가 실제로 바뀌었을 때(멱등 재시도 제외) 발행.
+ */
+public record DeliveryStatusChangedEvent(Long deliveryNo, Long matchingNo, DeliveryStatus from, DeliveryStatus to) {
+}
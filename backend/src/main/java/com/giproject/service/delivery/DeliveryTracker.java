@@ -0,0 +1,361 @@
+package com.giproject.service.delivery;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.delivery.TrackingDTO;
+import com.giproject.dto.kakaomap.GeoPoint;
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.entity.delivery.DriverJobView;
+import com.giproject.repository.delivery.DriverJobViewRepository;
+import com.giproject.service.estimate.matching.GeoGridIndex;
+import com.giproject.service.kakaomap.KakaoMapService;
+import com.giproject.utils.AddressNormalizer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 배송중(IN_TRANSIT) 기사 위치 수집.
+ *
+ * - 배송 한 건당 메모리 Track 하나. 최신 위치와 아직 저장하지 않은 위치만 들고 있다
+ * - 수집 요청은 DB 를 읽지 않는다 (Track 이 없을 때만 driver_job_view PK 조회 한 번)
+ * - 저장할 위치는 {@value #SAMPLE_MS}ms 구간마다 마지막 한 건으로 합치고, {@value #FLUSH_MS}ms 마다 모든 배송을 JDBC 배치 INSERT 한 번으로 저장
+ * - 남은 거리는 캐시된 경로 좌표 기준({@link RouteProgress}), 도착 예정은 {@link EtaService} 가 채운다
+ * - 화주 스트림은 {@link TrackingStreamPublisher} 가 여기 최신 위치만 읽어 보낸다
+ * - 배송완료 시 남은 위치를 저장하고 Track 을 내린다. 완료 처리 없이 {@value #MAX_AGE_MS}ms 동안 위치가 없는 Track 도 저장 주기에 내린다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class DeliveryTracker {
+
+	static final long SAMPLE_MS = 10_000;
+	static final long FLUSH_MS = 5_000;
+	private static final int MAX_BATCH = 500;
+	private static final int MAX_PENDING = 360; // 저장이 밀려도 배송당 1시간분까지만
+	private static final long MAX_AGE_MS = 24L * 60 * 60 * 1000;
+	private static final long MAX_FUTURE_MS = 60_000;
+	private static final double ROAD_FACTOR = 1.3;    // 경로가 없을 때 직선거리 → 도로거리 보정
+	private static final double SPEED_ALPHA = 0.3;    // 속도 지수이동평균 가중치
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private static final String INSERT_LOCATION =
+			"INSERT INTO delivery_location (delivery_no, lat, lng, speed_kmh, recorded_at) VALUES (?, ?, ?, ?, ?)";
+
+	private final DriverJobViewRepository driverJobViewRepository;
+	private final KakaoMapService kakaoMapService;
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Map<Long, Track> tracks = new ConcurrentHashMap<>();
+
+	private final LongAdder received = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder stored = new LongAdder();
+
+	record Fix(double lat, double lng, Double speedKmh, long at) {}
+
+	private record Row(long deliveryNo, Fix fix) {}
+
+	/** 배송 한 건의 추적 상태. 필드는 this 로 동기화 */
+	static final class Track {
+		final long matchingNo;
+		final long deliveryNo;
+		final String cargoId;
+		final String memId;
+		final String startRegionCode;   // 출발/도착 시·도 코드와 배송중 시작 시각 (도착 예정 통계 구간)
+		final String endRegionCode;
+		final long inTransitAt;
+		volatile RouteProgress route;     // 캐시된 경로 좌표 (없으면 destination 직선거리)
+		volatile GeoPoint destination;
+
+		private final long createdAt = System.currentTimeMillis();
+		private Fix latest;
+		private double speedEma = Double.NaN;
+		private long version;
+		private final List<Fix> pending = new ArrayList<>();
+
+		Track(long matchingNo, long deliveryNo, String cargoId, String memId,
+				String startRegionCode, String endRegionCode, long inTransitAt) {
+			this.matchingNo = matchingNo;
+			this.deliveryNo = deliveryNo;
+			this.cargoId = cargoId;
+			this.memId = memId;
+			this.startRegionCode = startRegionCode;
+			this.endRegionCode = endRegionCode;
+			this.inTransitAt = inTransitAt;
+		}
+
+		synchronized boolean accept(Fix fix) {
+			if (latest != null && fix.at() <= latest.at()) {
+				return false;
+			}
+			double speed = fix.speedKmh() != null ? fix.speedKmh() : derivedSpeed(fix);
+			if (!Double.isNaN(speed) && speed >= 0 && speed < 200) {
+				speedEma = Double.isNaN(speedEma) ? speed : speedEma + SPEED_ALPHA * (speed - speedEma);
+			}
+			// 같은 구간의 위치는 마지막 것으로 교체
+			int last = pending.size() - 1;
+			if (last >= 0 && pending.get(last).at() / SAMPLE_MS == fix.at() / SAMPLE_MS) {
+				pending.set(last, fix);
+			} else {
+				if (pending.size() >= MAX_PENDING) {
+					pending.remove(0);
+				}
+				pending.add(fix);
+			}
+			latest = fix;
+			version++;
+			return true;
+		}
+
+		// 경로 위 남은 거리, 경로를 벗어났거나 없으면 도착지까지 직선거리 보정값. 모르면 -1
+		private double remainingKm() {
+			RouteProgress r = route;
+			if (r != null) {
+				double km = r.remainingKm(latest.lat(), latest.lng());
+				if (km >= 0) {
+					return km;
+				}
+			}
+			GeoPoint dest = destination;
+			if (dest == null) {
+				return -1;
+			}
+			return GeoGridIndex.haversineKm(latest.lat(), latest.lng(), dest.lat(), dest.lng()) * ROAD_FACTOR;
+		}
+
+		private double derivedSpeed(Fix fix) {
+			if (latest == null || fix.at() - latest.at() < 1_000) {
+				return Double.NaN;
+			}
+			double km = GeoGridIndex.haversineKm(latest.lat(), latest.lng(), fix.lat(), fix.lng());
+			return km / ((fix.at() - latest.at()) / 3_600_000.0);
+		}
+
+		synchronized List<Fix> drain() {
+			if (pending.isEmpty()) {
+				return List.of();
+			}
+			List<Fix> out = new ArrayList<>(pending);
+			pending.clear();
+			return out;
+		}
+
+		synchronized long version() {
+			return version;
+		}
+
+		// 마지막 위치 시각 (위치가 아직 없으면 올린 시각)
+		synchronized long lastSeen() {
+			return latest == null ? createdAt : latest.at();
+		}
+
+		synchronized TrackingDTO.Position position() {
+			if (latest == null) {
+				return null;
+			}
+			TrackingDTO.Position.PositionBuilder b = TrackingDTO.Position.builder()
+					.matchingNo(matchingNo)
+					.deliveryNo(deliveryNo)
+					.lat(latest.lat())
+					.lng(latest.lng())
+					.speedKmh(Double.isNaN(speedEma) ? null : Math.round(speedEma * 10) / 10.0)
+					.recordedAt(toTime(latest.at()));
+			double km = remainingKm();
+			if (km >= 0) {
+				b.remainingKm(Math.round(km * 10) / 10.0);
+			}
+			return b.build();
+		}
+	}
+
+	/** 기사 위치 묶음 수집. 배송중인 본인 배송만 */
+	public TrackingDTO.IngestResult ingest(String cargoId, Long matchingNo, List<TrackingDTO.Ping> pings) {
+		if (pings == null || pings.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "위치 정보가 없습니다");
+		}
+		if (pings.size() > MAX_BATCH) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "위치는 한 번에 " + MAX_BATCH + "건까지 보낼 수 있습니다");
+		}
+		Track track = tracks.get(matchingNo);
+		if (track == null) {
+			track = load(matchingNo).orElseThrow(
+					() -> new ResponseStatusException(HttpStatus.CONFLICT, "배송중인 건만 위치를 보낼 수 있습니다"));
+		}
+		if (!track.cargoId.equals(cargoId)) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "담당 배송이 아닙니다");
+		}
+
+		long now = System.currentTimeMillis();
+		List<Fix> fixes = new ArrayList<>(pings.size());
+		for (TrackingDTO.Ping p : pings) {
+			long at = p.getRecordedAt() == null ? now : Math.min(p.getRecordedAt(), now + MAX_FUTURE_MS);
+			if (valid(p.getLat(), p.getLng()) && now - at < MAX_AGE_MS) {
+				fixes.add(new Fix(p.getLat(), p.getLng(), p.getSpeedKmh(), at));
+			}
+		}
+		fixes.sort(Comparator.comparingLong(Fix::at));
+		int accepted = 0;
+		for (Fix fix : fixes) {
+			if (track.accept(fix)) {
+				accepted++;
+			}
+		}
+		received.add(pings.size());
+		dropped.add(pings.size() - accepted);
+		return TrackingDTO.IngestResult.builder().accepted(accepted).dropped(pings.size() - accepted).build();
+	}
+
+	/** 메모리에 있는 최신 위치만 (DB 조회 없음) */
+	public Optional<TrackingDTO.Position> peek(Long matchingNo) {
+		Track track = tracks.get(matchingNo);
+		return track == null ? Optional.empty() : Optional.ofNullable(track.position());
+	}
+
+	/** 메모리에 있는 추적 상태만 (DB 조회 없음, 주기 작업용) */
+	Optional<Track> loaded(Long matchingNo) {
+		return Optional.ofNullable(tracks.get(matchingNo));
+	}
+
+	/** 메모리에 있는 추적 상태. 없으면 배송중인지 한 번 확인해 올린다 (구독/수집 시점에만) */
+	Optional<Track> track(Long matchingNo) {
+		Track track = tracks.get(matchingNo);
+		return track != null ? Optional.of(track) : load(matchingNo);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStatusChanged(DeliveryStatusChangedEvent event) {
+		if (event.matchingNo() == null) {
+			return;
+		}
+		if (event.to() == DeliveryStatus.IN_TRANSIT) {
+			load(event.matchingNo());
+		} else if (event.to() == DeliveryStatus.COMPLETED) {
+			Track track = tracks.remove(event.matchingNo());
+			if (track != null) {
+				store(List.of(track));
+			}
+		}
+	}
+
+	@Scheduled(fixedDelay = FLUSH_MS)
+	public void flush() {
+		store(tracks.values());
+		evictStale();
+	}
+
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("tracking", tracks.size());
+		stats.put("received", received.sum());
+		stats.put("dropped", dropped.sum());
+		stats.put("stored", stored.sum());
+		return stats;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		flush();
+	}
+
+	private Optional<Track> load(Long matchingNo) {
+		Optional<DriverJobView> view = driverJobViewRepository.findById(matchingNo)
+				.filter(v -> v.getDeliveryStatus() == DeliveryStatus.IN_TRANSIT && v.getDeliveryNo() != null);
+		if (view.isEmpty()) {
+			return Optional.empty();
+		}
+		DriverJobView v = view.get();
+		// 배송중 전환 때 뷰가 갱신되므로 갱신 시각을 배송중 시작 시각으로 쓴다
+		long inTransitAt = v.getUpdatedAt() != null ? v.getUpdatedAt().atZone(ZONE).toInstant().toEpochMilli()
+				: System.currentTimeMillis();
+		Track created = new Track(v.getMatchingNo(), v.getDeliveryNo(), v.getCargoId(), v.getMemId(),
+				AddressNormalizer.sidoCode(v.getStartAddress()), AddressNormalizer.sidoCode(v.getEndAddress()), inTransitAt);
+		Track track = tracks.putIfAbsent(matchingNo, created);
+		if (track == null) {
+			track = created;
+			Track target = track;
+			// 경로는 견적 때 조회해 둔 캐시에서. 실패하면 도착지 좌표만
+			kakaoMapService.directionsAsync(v.getStartAddress(), v.getEndAddress())
+					.thenAccept(route -> {
+						RouteProgress progress = new RouteProgress(route);
+						if (!progress.isEmpty()) {
+							target.destination = new GeoPoint(progress.destinationLng(), progress.destinationLat());
+							target.route = progress;
+						}
+					})
+					.exceptionally(e -> {
+						kakaoMapService.geocodeAsync(v.getEndAddress()).thenAccept(p -> p.ifPresent(point -> target.destination = point));
+						return null;
+					});
+		}
+		return Optional.of(track);
+	}
+
+	// 완료 이벤트 없이 방치된 배송 (앱 종료 등). 위치가 다시 오면 load 로 다시 올라온다
+	private void evictStale() {
+		long cutoff = System.currentTimeMillis() - MAX_AGE_MS;
+		int before = tracks.size();
+		tracks.values().removeIf(track -> track.lastSeen() < cutoff);
+		int evicted = before - tracks.size();
+		if (evicted > 0) {
+			log.info("배송 위치 추적 정리 - {}건 ({}시간 이상 위치 없음)", evicted, MAX_AGE_MS / 3_600_000);
+		}
+	}
+
+	private void store(Iterable<Track> source) {
+		List<Row> rows = new ArrayList<>();
+		for (Track track : source) {
+			for (Fix fix : track.drain()) {
+				rows.add(new Row(track.deliveryNo, fix));
+			}
+		}
+		if (rows.isEmpty()) {
+			return;
+		}
+		try {
+			jdbcTemplate.batchUpdate(INSERT_LOCATION, rows, rows.size(), (ps, row) -> {
+				ps.setLong(1, row.deliveryNo());
+				ps.setDouble(2, row.fix().lat());
+				ps.setDouble(3, row.fix().lng());
+				if (row.fix().speedKmh() == null) {
+					ps.setNull(4, Types.DOUBLE);
+				} else {
+					ps.setDouble(4, row.fix().speedKmh());
+				}
+				ps.setTimestamp(5, Timestamp.valueOf(toTime(row.fix().at())));
+			});
+			stored.add(rows.size());
+		} catch (RuntimeException e) {
+			// 위치 이력은 최선 노력. 실패분은 버리고 최신 위치 스트림은 계속 유지
+			log.warn("배송 위치 저장 실패 - {}건: {}", rows.size(), e.getMessage());
+		}
+	}
+
+	private static boolean valid(double lat, double lng) {
+		return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180 && !(lat == 0 && lng == 0);
+	}
+
+	static LocalDateTime toTime(long epochMs) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZONE);
+	}
+}
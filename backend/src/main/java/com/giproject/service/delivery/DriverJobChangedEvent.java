@@ -0,0 +1,7 @@
+package com.giproject.service.delivery;
+
+/**
+ * 주문서/결제처럼 기사 배송 화면(driver_job_view)에 보이는 값이 바뀌었을 때 발행. 같은 트랜잭션에서 반영된다.
+ */
+public record DriverJobChangedEvent(Long matchingNo) {
+}
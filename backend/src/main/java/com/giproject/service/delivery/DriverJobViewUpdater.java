@@ -0,0 +1,139 @@
+package com.giproject.service.delivery;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.entity.delivery.DriverJobPhase;
+import com.giproject.entity.delivery.DriverJobView;
+import com.giproject.repository.delivery.DriverJobSourceRow;
+import com.giproject.repository.delivery.DriverJobViewRepository;
+import com.giproject.service.estimate.matching.MatchingEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * driver_job_view 유지.
+ *
+ * - 매칭 수락, 주문서/결제 생성, 배송 생성/상태 변경 이벤트를 커밋 전(@EventListener)에 받아
+ *   해당 매칭 한 건을 원본에서 다시 계산해 저장한다. 원본 변경과 같은 트랜잭션이라 어긋나지 않는다
+ * - 테이블이 비어 있으면 기동 시 수락된 매칭 전체로 한 번 채운다
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+@Log4j2
+public class DriverJobViewUpdater {
+
+	private static final int CHUNK = 1_000;
+
+	private final DriverJobViewRepository driverJobViewRepository;
+
+	@EventListener
+	public void onMatchingClosed(MatchingEvent.Closed event) {
+		refresh(event.matchingNo());
+	}
+
+	@EventListener
+	public void onDeliveryChanged(DeliveryStatusChangedEvent event) {
+		refresh(event.matchingNo());
+	}
+
+	@EventListener
+	public void onJobChanged(DriverJobChangedEvent event) {
+		refresh(event.matchingNo());
+	}
+
+	/** 매칭 한 건을 다시 계산. 수락되지 않은(또는 없는) 매칭은 행을 지운다 */
+	public void refresh(Long matchingNo) {
+		if (matchingNo == null) {
+			return;
+		}
+		DriverJobSourceRow source = driverJobViewRepository.findSource(matchingNo).orElse(null);
+		if (source == null || !Boolean.TRUE.equals(source.getAccepted()) || source.getCargoId() == null) {
+			driverJobViewRepository.deleteById(matchingNo);
+			return;
+		}
+		DriverJobView view = driverJobViewRepository.findById(matchingNo).orElseGet(DriverJobView::new);
+		apply(view, source);
+		driverJobViewRepository.save(view);
+	}
+
+	@Order(1) // DerivedColumnBackfill(배송 matching_no 채움) 다음
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfEmpty() {
+		if (driverJobViewRepository.count() > 0) {
+			return;
+		}
+		long started = System.currentTimeMillis();
+		int total = 0;
+		long after = 0L;
+		while (true) {
+			List<DriverJobSourceRow> chunk = driverJobViewRepository.findSourcesAfter(after, PageRequest.of(0, CHUNK));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			after = chunk.get(chunk.size() - 1).getMatchingNo();
+			List<DriverJobView> views = chunk.stream()
+					.filter(s -> s.getCargoId() != null)
+					.map(s -> apply(new DriverJobView(), s))
+					.toList();
+			driverJobViewRepository.saveAll(views);
+			total += views.size();
+			if (chunk.size() < CHUNK) {
+				break;
+			}
+		}
+		if (total > 0) {
+			log.info("driver_job_view 채움 - 매칭 {}건, {}ms", total, System.currentTimeMillis() - started);
+		}
+	}
+
+	// 기존 탭 쿼리와 같은 기준: 결제 없음 = 미결제, 배송완료 = 완료, 나머지 = 결제됨
+	private static DriverJobView apply(DriverJobView view, DriverJobSourceRow s) {
+		DriverJobPhase phase;
+		long sortKey;
+		DeliveryStatus status = s.getDeliveryStatus();
+		if (status == DeliveryStatus.COMPLETED) {
+			phase = DriverJobPhase.COMPLETED;
+			sortKey = s.getCompletTime() == null ? 0L : s.getCompletTime().atZone(ZoneId.systemDefault()).toEpochSecond();
+		} else if (s.getPaymentNo() != null) {
+			phase = DriverJobPhase.PAID;
+			sortKey = s.getEno();
+			status = status == null ? DeliveryStatus.PENDING : status;
+		} else {
+			phase = DriverJobPhase.UNPAID;
+			sortKey = s.getMatchingNo();
+			status = null;
+		}
+		view.setMatchingNo(s.getMatchingNo());
+		view.setCargoId(s.getCargoId());
+		view.setPhase(phase);
+		view.setSortKey(sortKey);
+		view.setEno(s.getEno());
+		view.setCargoType(s.getCargoType());
+		view.setCargoWeight(s.getCargoWeight());
+		view.setStartAddress(s.getStartAddress());
+		view.setEndAddress(s.getEndAddress());
+		view.setStartTime(s.getStartTime());
+		view.setMemId(s.getMemId());
+		view.setMemName(s.getMemName());
+		view.setDriverName(s.getDriverName());
+		view.setOrderNo(s.getOrderNo());
+		view.setPaymentNo(s.getPaymentNo());
+		view.setDeliveryNo(s.getDeliveryNo());
+		view.setDeliveryStatus(status);
+		view.setCompletTime(s.getCompletTime());
+		view.setUpdatedAt(LocalDateTime.now());
+		return view;
+	}
+}
@@ -0,0 +1,277 @@
+package com.giproject.service.delivery;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.giproject.dto.delivery.TrackingDTO;
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.repository.delivery.DeliveryEventRepository;
+import com.giproject.repository.delivery.DeliveryTripRow;
+import com.giproject.utils.AddressNormalizer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 도착 예정 시각.
+ *
+ * - 과거 배송의 실제 운행 시간(완료 시각 - 배송중 시작 시각)을 기준 시간(거리 / {@value #BASE_SPEED_KMH}km/h)으로 나눈 배율을
+ *   지역쌍(출발/도착 시·도) x 출발 시간대별 온라인 평균/분산으로 메모리에 유지 (기동 시 이력으로 채우고, 완료될 때마다 한 건씩 반영)
+ * - 표본이 {@value #MIN_SAMPLES}건 미만이면 지역쌍 전체 시간대 → 전체 지역 같은 시간대 → 전체 순으로 넓힌다
+ * - 배송중이면 남은 도로 거리(캐시된 경로 좌표, {@link DeliveryTracker})에 배율을 적용하고, 위치가 없으면 시작 시각 + 예상 운행 시간
+ * - 조회는 맵 조회와 산술뿐이라 DB 를 읽지 않는다 (추적 스트림, paidlist 에서 건마다 호출)
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class EtaService {
+
+	static final double BASE_SPEED_KMH = 60.0; // RegionMatrixStore 소요 시간과 같은 기준
+	private static final int MIN_SAMPLES = 5;
+	private static final double MIN_RATIO = 0.2;
+	private static final double MAX_RATIO = 10.0;
+	private static final int ALL_HOURS = 24;
+	private static final int ANY_PAIR = 0;
+	private static final int CHUNK = 5_000;
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final DeliveryEventRepository deliveryEventRepository;
+	private final DeliveryTracker deliveryTracker;
+
+	// key = 지역쌍(출발코드 * 100 + 도착코드, 전체 = 0) * 32 + 시간대(0~23, 전체 = 24)
+	private final Map<Integer, Stat> stats = new ConcurrentHashMap<>();
+	// 배송중 건 (matchingNo → 시작 시각, 운행 조건)
+	private final Map<Long, Trip> trips = new ConcurrentHashMap<>();
+
+	private record Trip(long inTransitAt, int pair, int hour, double km) {}
+
+	/** Welford 온라인 평균/분산 */
+	private static final class Stat {
+		private long n;
+		private double mean;
+		private double m2;
+
+		synchronized void add(double x) {
+			n++;
+			double d = x - mean;
+			mean += d / n;
+			m2 += d * (x - mean);
+		}
+
+		synchronized long count() {
+			return n;
+		}
+
+		synchronized double mean() {
+			return mean;
+		}
+
+		synchronized double stddev() {
+			return n < 2 ? 0 : Math.sqrt(m2 / (n - 1));
+		}
+	}
+
+	/** 추적 위치의 남은 거리로 도착 예정을 채운다 (같은 객체 반환) */
+	public TrackingDTO.Position withEta(TrackingDTO.Position position) {
+		if (position == null || position.getRemainingKm() == null) {
+			return position;
+		}
+		Trip trip = trip(position.getMatchingNo());
+		int pair = trip == null ? ANY_PAIR : trip.pair();
+		int hour = trip == null ? LocalDateTime.now().getHour() : trip.hour();
+		long seconds = predictSeconds(pair, hour, position.getRemainingKm());
+		position.setEtaSeconds(seconds);
+		position.setEtaAt(position.getRecordedAt().plusSeconds(seconds));
+		return position;
+	}
+
+	/** 결제 완료 목록 한 건의 도착 예정. 완료됐거나 계산할 수 없으면 null */
+	public LocalDateTime etaAt(Long matchingNo, DeliveryStatus status, String startAddress, String endAddress,
+			double distanceKm, LocalDateTime startTime) {
+		if (status == DeliveryStatus.COMPLETED || matchingNo == null) {
+			return null;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		if (status == DeliveryStatus.IN_TRANSIT) {
+			TrackingDTO.Position live = deliveryTracker.peek(matchingNo).map(this::withEta).orElse(null);
+			if (live != null && live.getEtaAt() != null) {
+				return later(live.getEtaAt(), now);
+			}
+			Trip trip = trips.get(matchingNo);
+			if (trip != null) {
+				long seconds = predictSeconds(trip.pair(), trip.hour(), trip.km());
+				return later(toTime(trip.inTransitAt()).plusSeconds(seconds), now);
+			}
+		}
+		if (startTime == null || distanceKm <= 0) {
+			return null;
+		}
+		int pair = pair(AddressNormalizer.sidoCode(startAddress), AddressNormalizer.sidoCode(endAddress));
+		LocalDateTime start = later(startTime, now);
+		return start.plusSeconds(predictSeconds(pair, start.getHour(), distanceKm));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStatusChanged(DeliveryStatusChangedEvent event) {
+		if (event.matchingNo() == null) {
+			return;
+		}
+		if (event.to() == DeliveryStatus.IN_TRANSIT) {
+			deliveryEventRepository.findTripRow(event.deliveryNo()).ifPresent(this::track);
+		} else if (event.to() == DeliveryStatus.COMPLETED) {
+			trips.remove(event.matchingNo());
+			deliveryEventRepository.findTripRow(event.deliveryNo()).ifPresent(this::learn);
+		}
+	}
+
+	@Order(2)
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long started = System.currentTimeMillis();
+		int learned = 0;
+		long after = 0L;
+		while (true) {
+			List<DeliveryTripRow> chunk = deliveryEventRepository.findTripRowsAfter(after, PageRequest.of(0, CHUNK));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			after = chunk.get(chunk.size() - 1).getDeliveryNo();
+			for (DeliveryTripRow row : chunk) {
+				if (row.getStatus() == DeliveryStatus.IN_TRANSIT) {
+					track(row);
+				} else if (learn(row)) {
+					learned++;
+				}
+			}
+			if (chunk.size() < CHUNK) {
+				break;
+			}
+		}
+		log.info("도착 예정 통계 적재 - 완료 {}건, 배송중 {}건, {}ms", learned, trips.size(), System.currentTimeMillis() - started);
+	}
+
+	public Map<String, Object> stats() {
+		Stat global = stats.get(key(ANY_PAIR, ALL_HOURS));
+		Map<String, Object> out = new LinkedHashMap<>();
+		out.put("samples", global == null ? 0 : global.count());
+		out.put("ratio", global == null ? 1.0 : Math.round(global.mean() * 1000) / 1000.0);
+		out.put("ratioStddev", global == null ? 0.0 : Math.round(global.stddev() * 1000) / 1000.0);
+		out.put("buckets", stats.size());
+		out.put("inTransit", trips.size());
+		return out;
+	}
+
+	// 배송중 이벤트/기동 적재로 등록된 건이 없으면 (이벤트 전에 위치가 먼저 온 경우 등) 추적 상태의 주소로 만든다
+	private Trip trip(Long matchingNo) {
+		Trip trip = trips.get(matchingNo);
+		if (trip != null) {
+			return trip;
+		}
+		return deliveryTracker.loaded(matchingNo)
+				.map(t -> new Trip(t.inTransitAt, pair(t.startRegionCode, t.endRegionCode),
+						toTime(t.inTransitAt).getHour(), 0))
+				.orElse(null);
+	}
+
+	private void track(DeliveryTripRow row) {
+		if (row.getMatchingNo() == null || row.getInTransitAt() == null) {
+			return;
+		}
+		LocalDateTime at = row.getInTransitAt();
+		trips.put(row.getMatchingNo(), new Trip(toEpochMs(at),
+				pair(row.getStartRegionCode(), row.getEndRegionCode()), at.getHour(),
+				row.getDistanceKm() == null ? 0 : row.getDistanceKm()));
+	}
+
+	private boolean learn(DeliveryTripRow row) {
+		if (row.getInTransitAt() == null || row.getCompletTime() == null || row.getDistanceKm() == null
+				|| row.getDistanceKm() <= 0) {
+			return false;
+		}
+		double actual = (toEpochMs(row.getCompletTime()) - toEpochMs(row.getInTransitAt())) / 1000.0;
+		double ratio = actual / baseSeconds(row.getDistanceKm());
+		if (ratio < MIN_RATIO || ratio > MAX_RATIO) {
+			return false; // 완료 처리를 늦게 누른 건 등 이상치
+		}
+		int pair = pair(row.getStartRegionCode(), row.getEndRegionCode());
+		int hour = row.getInTransitAt().getHour();
+		add(key(ANY_PAIR, ALL_HOURS), ratio);
+		add(key(ANY_PAIR, hour), ratio);
+		if (pair != ANY_PAIR) {
+			add(key(pair, ALL_HOURS), ratio);
+			add(key(pair, hour), ratio);
+		}
+		return true;
+	}
+
+	private void add(int key, double ratio) {
+		stats.computeIfAbsent(key, k -> new Stat()).add(ratio);
+	}
+
+	private long predictSeconds(int pair, int hour, double km) {
+		return Math.round(baseSeconds(km) * ratio(pair, hour));
+	}
+
+	// 표본이 충분한 가장 좁은 구간의 평균 배율
+	private double ratio(int pair, int hour) {
+		int[] keys = pair == ANY_PAIR
+				? new int[] { key(ANY_PAIR, hour), key(ANY_PAIR, ALL_HOURS) }
+				: new int[] { key(pair, hour), key(pair, ALL_HOURS), key(ANY_PAIR, hour), key(ANY_PAIR, ALL_HOURS) };
+		for (int key : keys) {
+			Stat stat = stats.get(key);
+			if (stat != null && stat.count() >= MIN_SAMPLES) {
+				return stat.mean();
+			}
+		}
+		return 1.0;
+	}
+
+	private static double baseSeconds(double km) {
+		return km / BASE_SPEED_KMH * 3600;
+	}
+
+	private static int key(int pair, int hour) {
+		return pair * 32 + hour;
+	}
+
+	private static int pair(String startCode, String endCode) {
+		int start = code(startCode);
+		int end = code(endCode);
+		return start == 0 || end == 0 ? ANY_PAIR : start * 100 + end;
+	}
+
+	private static int code(String regionCode) {
+		if (regionCode == null || regionCode.length() != 2) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(regionCode);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+		return a.isAfter(b) ? a : b;
+	}
+
+	private static long toEpochMs(LocalDateTime time) {
+		return time.atZone(ZONE).toInstant().toEpochMilli();
+	}
+
+	private static LocalDateTime toTime(long epochMs) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZONE);
+	}
+}
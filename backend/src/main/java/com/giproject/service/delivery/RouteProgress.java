@@ -0,0 +1,82 @@
+package com.giproject.service.delivery;
+
+import com.giproject.service.estimate.matching.GeoGridIndex;
+import com.giproject.service.kakaomap.Route;
+
+/**
+ * 캐시된 경로 좌표로 현재 위치에서 도착지까지 남은 도로 거리를 구한다.
+ *
+ * - 만들 때 각 꼭짓점에서 끝까지의 누적 거리(km)를 한 번 계산
+ * - 조회는 직전 꼭짓점 근처 구간만 보고, 멀리 벗어났을 때만 전체를 훑는다
+ * - 경로에서 {@value #OFF_ROUTE_KM}km 넘게 벗어나면 -1 (호출 측이 직선거리로 대신)
+ */
+final class RouteProgress {
+
+	private static final double OFF_ROUTE_KM = 2.0;
+	private static final int BACK = 20;
+	private static final int AHEAD = 200;
+
+	private final double[] lat;
+	private final double[] lng;
+	private final double[] toEndKm;
+	private int hint;
+
+	RouteProgress(Route route) {
+		double[] path = route.path();
+		int n = path.length / 2;
+		lat = new double[n];
+		lng = new double[n];
+		toEndKm = new double[n];
+		for (int i = 0; i < n; i++) {
+			lng[i] = path[i * 2];
+			lat[i] = path[i * 2 + 1];
+		}
+		for (int i = n - 2; i >= 0; i--) {
+			toEndKm[i] = toEndKm[i + 1] + GeoGridIndex.haversineKm(lat[i], lng[i], lat[i + 1], lng[i + 1]);
+		}
+	}
+
+	boolean isEmpty() {
+		return lat.length == 0;
+	}
+
+	double destinationLat() {
+		return lat[lat.length - 1];
+	}
+
+	double destinationLng() {
+		return lng[lng.length - 1];
+	}
+
+	/** 남은 도로 거리(km). 경로를 벗어났으면 -1. 호출은 Track 잠금 안에서만 */
+	double remainingKm(double atLat, double atLng) {
+		int best = nearest(atLat, atLng, Math.max(0, hint - BACK), Math.min(lat.length, hint + AHEAD));
+		double off = GeoGridIndex.haversineKm(atLat, atLng, lat[best], lng[best]);
+		if (off > OFF_ROUTE_KM) {
+			best = nearest(atLat, atLng, 0, lat.length);
+			off = GeoGridIndex.haversineKm(atLat, atLng, lat[best], lng[best]);
+			if (off > OFF_ROUTE_KM) {
+				return -1;
+			}
+		}
+		hint = best;
+		return toEndKm[best] + off;
+	}
+
+	// 위도 1도 ≈ 경도 cos(위도)도 로 보정한 평면 거리로 가장 가까운 꼭짓점
+	private int nearest(double atLat, double atLng, int from, int to) {
+		double k = Math.cos(Math.toRadians(atLat));
+		int best = from;
+		double bestD = Double.MAX_VALUE;
+		for (int i = from; i < to; i++) {
+			double dy = lat[i] - atLat;
+			double dx = (lng[i] - atLng) * k;
+			double d = dx * dx + dy * dy;
+			if (d < bestD) {
+				bestD = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+}
@@ -0,0 +1,154 @@
+package com.giproject.service.delivery;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.giproject.dto.delivery.TrackingDTO;
+import com.giproject.entity.delivery.DeliveryStatus;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 화주에게 배송중 화물의 최신 위치/도착 예정을 SSE 로 보낸다.
+ *
+ * - 위치 수집과 분리: 1초마다 구독 중인 배송만 보고, 새 위치가 들어온 경우에만 마지막 위치 한 건을 보낸다
+ * - 위치 한 건마다 DB 를 읽지 않는다 (DeliveryTracker 메모리만 사용)
+ * - 배송완료 시 completed 이벤트를 보내고 연결을 닫는다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TrackingStreamPublisher {
+
+	private static final long TIMEOUT_MS = 30 * 60 * 1000L; // 30분, 클라이언트가 재연결
+
+	private final DeliveryTracker deliveryTracker;
+	private final EtaService etaService;
+
+	private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+	private final Map<Long, Long> sentVersions = new ConcurrentHashMap<>();
+	private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "tracking-sse");
+		t.setDaemon(true);
+		return t;
+	});
+
+	/** 본인 배송(배송중)만 구독 가능. 연결 직후 마지막 위치가 있으면 바로 보낸다 */
+	public SseEmitter subscribe(String memId, Long matchingNo) {
+		DeliveryTracker.Track track = deliveryTracker.track(matchingNo)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "배송중인 건만 위치를 조회할 수 있습니다"));
+		if (!track.memId.equals(memId)) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 배송만 조회할 수 있습니다");
+		}
+		SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+		emitters.computeIfAbsent(matchingNo, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+		emitter.onCompletion(() -> remove(matchingNo, emitter));
+		emitter.onTimeout(() -> remove(matchingNo, emitter));
+		emitter.onError(e -> remove(matchingNo, emitter));
+
+		send(matchingNo, emitter, SseEmitter.event().name("connected").data(Map.of("matchingNo", matchingNo)));
+		TrackingDTO.Position position = etaService.withEta(track.position());
+		if (position != null) {
+			send(matchingNo, emitter, SseEmitter.event().name("position").data(position));
+		}
+		return emitter;
+	}
+
+	/** 스트림 없이 한 번만 조회 */
+	public TrackingDTO.Position latest(String memId, Long matchingNo) {
+		DeliveryTracker.Track track = deliveryTracker.track(matchingNo)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "배송중인 건만 위치를 조회할 수 있습니다"));
+		if (!track.memId.equals(memId)) {
+			throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 배송만 조회할 수 있습니다");
+		}
+		TrackingDTO.Position position = etaService.withEta(track.position());
+		if (position == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "아직 수신된 위치가 없습니다");
+		}
+		return position;
+	}
+
+	// 메모리의 Track 만 본다. 아직 없으면(배송중 전환 전, 내려간 건) 배송중 전환 이벤트나 위치 수집이 올린 뒤 보낸다
+	@Scheduled(fixedDelay = 1_000)
+	public void publish() {
+		emitters.forEach((matchingNo, set) -> deliveryTracker.loaded(matchingNo).ifPresent(track -> {
+			long version = track.version();
+			Long sent = sentVersions.put(matchingNo, version);
+			if (sent != null && sent == version) {
+				return;
+			}
+			TrackingDTO.Position position = etaService.withEta(track.position());
+			if (position != null) {
+				sender.execute(() -> set.forEach(emitter ->
+						send(matchingNo, emitter, SseEmitter.event().name("position").data(position))));
+			}
+		}));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onStatusChanged(DeliveryStatusChangedEvent event) {
+		if (event.to() != DeliveryStatus.COMPLETED || event.matchingNo() == null) {
+			return;
+		}
+		Set<SseEmitter> set = emitters.remove(event.matchingNo());
+		sentVersions.remove(event.matchingNo());
+		if (set == null) {
+			return;
+		}
+		Map<String, Object> payload = Map.of("matchingNo", event.matchingNo(), "deliveryNo", event.deliveryNo());
+		sender.execute(() -> set.forEach(emitter -> {
+			send(event.matchingNo(), emitter, SseEmitter.event().name("completed").data(payload));
+			emitter.complete();
+		}));
+	}
+
+	/** 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트 전송 */
+	@Scheduled(fixedDelay = 25_000)
+	public void heartbeat() {
+		sender.execute(() -> emitters.forEach((matchingNo, set) ->
+				set.forEach(emitter -> send(matchingNo, emitter, SseEmitter.event().comment("ping")))));
+	}
+
+	public int connectionCount() {
+		return emitters.values().stream().mapToInt(Set::size).sum();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		sender.shutdownNow();
+		emitters.values().forEach(set -> set.forEach(SseEmitter::complete));
+	}
+
+	private void send(Long matchingNo, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			log.debug("SSE 전송 실패, 연결 제거 - matchingNo: {}", matchingNo);
+			remove(matchingNo, emitter);
+		}
+	}
+
+	private void remove(Long matchingNo, SseEmitter emitter) {
+		emitters.computeIfPresent(matchingNo, (k, set) -> {
+			set.remove(emitter);
+			if (set.isEmpty()) {
+				sentVersions.remove(matchingNo);
+				return null;
+			}
+			return set;
+		});
+	}
+}
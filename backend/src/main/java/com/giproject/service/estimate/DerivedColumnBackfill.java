@@ -0,0 +1,66 @@
+package com.giproject.service.estimate;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.giproject.entity.cargo.Cargo;
+import com.giproject.entity.estimate.Estimate;
+import com.giproject.repository.cargo.CargoRepository;
+import com.giproject.repository.delivery.DeliveryRepository;
+import com.giproject.repository.estimate.EsmateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 원본 컬럼에서 변환해 저장하는 컬럼(weight_kg, capacity_kg, 지역 코드, delivery.matching_no)이 비어 있는 기존 행을 기동 시 한 번 채운다.
+ * 새로 저장되는 행은 엔티티의 @PrePersist/@PreUpdate (배송은 DeliveryStateMachine.create) 에서 바로 채워진다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class DerivedColumnBackfill {
+
+	private final EsmateRepository esmateRepository;
+	private final CargoRepository cargoRepository;
+	private final DeliveryRepository deliveryRepository;
+
+	@Order(0) // OpenJobIndex 적재보다 먼저
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfill() {
+		List<Estimate> estimates = esmateRepository.findByWeightKgIsNullAndCargoWeightIsNotNull();
+		estimates.forEach(e -> e.changeCargoWeight(e.getCargoWeight()));
+
+		List<Cargo> cargos = cargoRepository.findByCapacityKgIsNullAndCargoCapacityIsNotNull();
+		cargos.forEach(c -> c.setCargoCapacity(c.getCargoCapacity()));
+
+		if (!estimates.isEmpty() || !cargos.isEmpty()) {
+			log.info("중량 컬럼 채움 - 견적 {}건, 차량 {}건", estimates.size(), cargos.size());
+		}
+
+		// 시/도를 알 수 없는 주소는 코드가 계속 비어 있으므로 매번 다시 확인된다 (변환 비용은 캐시로 작음)
+		List<Estimate> regions = esmateRepository.findByStartRegionCodeIsNullAndStartAddressIsNotNull();
+		int filled = 0;
+		for (Estimate e : regions) {
+			e.changeStartAddress(e.getStartAddress());
+			e.changeEndAddress(e.getEndAddress());
+			if (e.getStartRegionCode() != null) {
+				filled++;
+			}
+		}
+		if (filled > 0) {
+			log.info("지역 코드 컬럼 채움 - 견적 {}건", filled);
+		}
+
+		int deliveries = deliveryRepository.backfillMatchingNo();
+		if (deliveries > 0) {
+			log.info("배송 매칭번호 컬럼 채움 - 배송 {}건", deliveries);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.giproject.service.estimate;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 
 import com.giproject.dto.estimate.EstimateDTO;
@@ -7,6 +9,8 @@ import com.giproject.dto.fees.FeesBasicDTO;
 import com.giproject.dto.fees.FeesExtraDTO;
 import com.giproject.entity.estimate.Estimate;
 import com.giproject.entity.member.Member;
+import com.giproject.repository.estimate.EstimateListRow;
+import com.giproject.service.fees.FareSnapshot;
 
 import jakarta.transaction.Transactional;
 
@@ -25,7 +29,10 @@ public interface EstimateService {
 				.baseCost(estimate.getBaseCost())
 				.specialOption(estimate.getSpecialOption())
 				.distanceCost(estimate.getDistanceCost())
+				.specialNotes(splitNotes(estimate.getSpecialNotes()))
 				.totalCost(estimate.getTotalCost())
+				.startLat(estimate.getStartLat())
+				.startLng(estimate.getStartLng())
 				.isTemp(estimate.isTemp())
 				.matched(estimate.isMatched())
 				.isOrdered(estimate.isOrdered())
@@ -34,6 +41,36 @@ public interface EstimateService {
 		return dto;
 	}
 	
+	default EstimateDTO rowToDTO(EstimateListRow row) {
+		EstimateDTO dto =  EstimateDTO.builder()
+				.eno(row.getEno())
+				.startAddress(row.getStartAddress())
+				.endAddress(row.getEndAddress())
+				.distanceKm(row.getDistanceKm() != null ? row.getDistanceKm() : 0)
+				.cargoWeight(row.getCargoWeight())
+				.cargoType(row.getCargoType())
+				.startTime(row.getStartTime())
+				.baseCost(row.getBaseCost() != null ? row.getBaseCost() : 0)
+				.specialOption(row.getSpecialOption() != null ? row.getSpecialOption() : 0)
+				.distanceCost(row.getDistanceCost() != null ? row.getDistanceCost() : 0)
+				.specialNotes(splitNotes(row.getSpecialNotes()))
+				.totalCost(row.getTotalCost() != null ? row.getTotalCost() : 0)
+				.startLat(row.getStartLat())
+				.startLng(row.getStartLng())
+				.isTemp(Boolean.TRUE.equals(row.getTemp()))
+				.matched(Boolean.TRUE.equals(row.getMatched()))
+				.isOrdered(Boolean.TRUE.equals(row.getOrdered()))
+				.memberId(row.getMemberId())
+				.accepted(Boolean.TRUE.equals(row.getAccepted()))
+				.matchingNo(row.getMatchingNo())
+				.driverName(row.getDriverName())
+				.paymentNo(row.getPaymentNo())
+				.deliveryStatus(row.getDeliveryStatus())
+				.deliveryCompletedAt(row.getDeliveryCompletedAt())
+				.build();
+		return dto;
+	}
+	
 	default Estimate DTOToEntity(EstimateDTO dto,Member member) {
 		Estimate estimate= Estimate.builder()
 				.startAddress(dto.getStartAddress())
@@ -45,7 +82,10 @@ public interface EstimateService {
 				.baseCost(dto.getBaseCost())
 				.distanceCost(dto.getDistanceCost())
 				.specialOption(dto.getSpecialOption())
+				.specialNotes(joinNotes(dto.getSpecialNotes()))
 				.totalCost(dto.getTotalCost())
+				.startLat(dto.getStartLat())
+				.startLng(dto.getStartLng())
 				.isTemp(dto.isTemp())
 				.matched(dto.isMatched())
 				.isOrdered(dto.isOrdered())
@@ -54,6 +94,21 @@ public interface EstimateService {
 		return estimate;
 	}
 	
+	static List<String> splitNotes(String notes) {
+		if (notes == null || notes.isBlank()) {
+			return List.of();
+		}
+		return Arrays.stream(notes.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+	}
+	
+	static String joinNotes(List<String> notes) {
+		return notes == null || notes.isEmpty() ? null : String.join(",", notes);
+	}
+	
+	// 지도 API 가 필요한 값(거리 근사, 출발지 좌표)을 트랜잭션 밖에서 채운다. sendEstimate 전에 호출
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	void resolveLocation(EstimateDTO dto);
+	
 	Long sendEstimate(EstimateDTO dto);
 	
 	Long saveDraft(EstimateDTO dto);
@@ -64,6 +119,9 @@ public interface EstimateService {
 	
 	List<EstimateDTO> myEstimateList(String memberId);
 
+	// at 시각(운송 시작)에 적용되는 요금표 스냅샷, null 이면 현재 (ETag 는 snapshot.etag())
+	FareSnapshot fareSnapshot(LocalDateTime at);
+	
 	List<FeesBasicDTO> searchFees();
 	
 	List<FeesExtraDTO> searchExtra();
@@ -1,32 +1,37 @@
 package com.giproject.service.estimate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.giproject.dto.estimate.EstimateDTO;
+import com.giproject.dto.estimate.QuoteDTO;
 import com.giproject.dto.fees.FeesBasicDTO;
 import com.giproject.dto.fees.FeesExtraDTO;
-import com.giproject.entity.delivery.Delivery;
 import com.giproject.entity.estimate.Estimate;
-import com.giproject.entity.fees.FeesBasic;
 import com.giproject.entity.matching.Matching;
 import com.giproject.entity.member.Member;
-import com.giproject.entity.order.OrderSheet;
-import com.giproject.entity.payment.Payment;
-import com.giproject.repository.delivery.DeliveryRepository;
 import com.giproject.repository.estimate.EsmateRepository;
-import com.giproject.repository.fees.FeesBasicRepository;
-import com.giproject.repository.fees.FeesExtraRepository;
+import com.giproject.repository.estimate.EstimateListRow;
 import com.giproject.repository.matching.MatchingRepository;
+import com.giproject.repository.matching.MatchingStateRow;
+import com.giproject.service.delivery.EtaService;
+import com.giproject.service.estimate.matching.MatchingEvent;
 import com.giproject.service.estimate.matching.MatchingService;
-import com.giproject.service.fees.FeesBasicService;
-import com.giproject.service.fees.FeesExtraService;
+import com.giproject.service.estimate.matching.OpenJob;
+import com.giproject.service.estimate.pricing.FarePricingEngine;
+import com.giproject.service.fees.FareSnapshot;
+import com.giproject.service.fees.FareSnapshotHolder;
+import com.giproject.service.kakaomap.KakaoMapService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -38,12 +43,29 @@ import lombok.extern.log4j.Log4j2;
 public class EstimateServiceImpl implements EstimateService{
 	private final EsmateRepository esmateRepository;
 	private final MatchingRepository matchingRepository;
-	private final FeesBasicRepository basicRepository;
-	private final FeesBasicService basicService;
-	private final FeesExtraRepository extraRepository;
-	private final FeesExtraService extraService;
+	private final FareSnapshotHolder fareSnapshotHolder;
+	private final FarePricingEngine farePricingEngine;
 
-    private final DeliveryRepository deliveryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final KakaoMapService kakaoMapService;
+    private final EtaService etaService;
+	
+	@Override
+	public void resolveLocation(EstimateDTO dto) {
+		// 거리를 받지 못한 경우 지역 간 거리 행렬 근사값으로 채움 (지도 API 호출 없음)
+		if (dto.getDistanceKm() <= 0) {
+			kakaoMapService.approximateDistance(dto.getStartAddress(), dto.getEndAddress())
+					.ifPresent(d -> dto.setDistanceKm(d.getDistanceKm()));
+		}
+		// 좌표를 받지 못한 경우 서버에서 출발지 좌표 변환 (실패해도 등록은 진행, 근거리 피드에서만 제외).
+		// 외부 API 호출이라 DB 커넥션을 잡기 전에 처리
+		if (dto.getStartLat() == null || dto.getStartLng() == null) {
+			kakaoMapService.geocodeQuietly(dto.getStartAddress()).ifPresent(p -> {
+				dto.setStartLat(p.lat());
+				dto.setStartLng(p.lng());
+			});
+		}
+	}
 	
 	@Override
 	public Long sendEstimate(EstimateDTO dto) {
@@ -51,6 +73,7 @@ public class EstimateServiceImpl implements EstimateService{
 		
 		
 		Member member= esmateRepository.getMemId(dto.getMemberId()).orElseThrow();
+		applyServerQuote(dto);
 		Estimate estimate= DTOToEntity(dto,member);
 		
 		esmateRepository.save(estimate);
@@ -60,8 +83,23 @@ public class EstimateServiceImpl implements EstimateService{
 				.isAccepted(false)
 				.build();
 		matchingRepository.save(matching);
+		eventPublisher.publishEvent(new MatchingEvent.Opened(OpenJob.of(matching)));
 				return estimate.getEno();
 	}
+	// 클라이언트가 보낸 금액은 쓰지 않고 운송 시작 시각에 적용되는 요금표로 다시 계산
+	private void applyServerQuote(EstimateDTO dto) {
+		QuoteDTO quote = farePricingEngine.quote(dto.getCargoWeight(), dto.getDistanceKm(), dto.getSpecialNotes(), dto.getStartTime());
+		if (!quote.isPriced()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요금표에 없는 중량입니다: " + dto.getCargoWeight());
+		}
+		if (quote.getTotalCost() != dto.getTotalCost()) {
+			log.info("견적 금액 재계산 - 클라이언트: {}, 서버: {}", dto.getTotalCost(), quote.getTotalCost());
+		}
+		dto.setBaseCost(quote.getBaseCost());
+		dto.setDistanceCost(quote.getDistanceCost());
+		dto.setSpecialOption(quote.getSpecialOption());
+		dto.setTotalCost(quote.getTotalCost());
+	}
 	@Override
 	public Long saveDraft(EstimateDTO estimateDTO) {
 		
@@ -101,119 +139,72 @@ public class EstimateServiceImpl implements EstimateService{
 	    List<Estimate> esList = esmateRepository.getMyEstimate(memberId);
 	    log.info("myEstimateList() 진입 - 조회 결과 수: {}", esList.size());
 
-	    return esList.stream().map(estimate -> {
-	        if (estimate.getMember() == null) {
-	            log.warn("estimate {} 의 member가 null입니다", estimate.getEno());
-	        }
+	    // 견적별 매칭 상태는 한 번의 쿼리로 모아서 eno 기준으로 매핑 (수락된 매칭 우선, 그다음 최신 매칭)
+	    Map<Long, MatchingStateRow> matchingByEno = esList.isEmpty()
+	        ? Map.of()
+	        : matchingRepository.findMatchingStatesByMemberId(memberId).stream()
+	            .collect(Collectors.toMap(
+	                MatchingStateRow::getEno,
+	                row -> row,
+	                (left, right) -> preferMatching(left, right) ? left : right
+	            ));
 
+	    return esList.stream().map(estimate -> {
 	        EstimateDTO dto = entityToDTO(estimate);
 
-	        // matching 여부 조회
-	        Optional<Boolean> isAcceptedOpt = matchingRepository.findIsAcceptedByEstimateNo(estimate.getEno());
-	        dto.setAccepted(isAcceptedOpt.orElse(false)); // null이면 false 처리
+	        MatchingStateRow matching = matchingByEno.get(estimate.getEno());
+	        dto.setAccepted(matching != null && Boolean.TRUE.equals(matching.getAccepted()));
+	        dto.setMatchingNo(matching != null ? matching.getMatchingNo() : null);
 
-	        log.info("DTO 변환 성공: {} (isAccepted: {})", dto.getEno(), dto.isAccepted());
-	        Optional<Long> matchingNoOpt = matchingRepository.findMatchingNoByEstimateNo(estimate.getEno());
-	        dto.setMatchingNo(matchingNoOpt.orElse(null));
-	        
 	        return dto;
 	    }).collect(Collectors.toList());
 	}
+
+	private boolean preferMatching(MatchingStateRow left, MatchingStateRow right) {
+	    boolean leftAccepted = Boolean.TRUE.equals(left.getAccepted());
+	    boolean rightAccepted = Boolean.TRUE.equals(right.getAccepted());
+	    if (leftAccepted != rightAccepted) {
+	        return leftAccepted;
+	    }
+	    return Comparator.nullsFirst(Comparator.<Long>naturalOrder()).compare(left.getMatchingNo(), right.getMatchingNo()) >= 0;
+	}
+	@Override
+	public FareSnapshot fareSnapshot(LocalDateTime at) {
+		return fareSnapshotHolder.at(at);
+	}
 	@Override
 	public List<FeesBasicDTO> searchFees() {
-		return basicRepository.findAllAsc()
-				.stream()
-				.map(list -> basicService.entityToDTO(list))
-				.collect(Collectors.toList());
+		return new ArrayList<>(fareSnapshotHolder.current().basics());
 	}
 	@Override
 	public List<FeesExtraDTO> searchExtra() {
-		return extraRepository.findAll()
-				.stream()
-				.map(list -> extraService.entityToDTO(list))
-				.collect(Collectors.toList());
+		return new ArrayList<>(fareSnapshotHolder.current().extras());
 	}
 	
 	@Override
 	public List<EstimateDTO> findMyEstimatesWithoutPayment(String memberId) {
-	    List<Estimate> estimates = esmateRepository.findMyEstimatesWithoutPayment(memberId);
-	    log.info("myEstimateList() 진입 - (결제 없는) 조회 결과 수: {}", estimates.size());
-
-	    return estimates.stream()
-	        .filter(e -> !e.isTemp())
-	        .map(e -> {
-	            EstimateDTO dto = entityToDTO(e);
-	            Matching matching = pickMatching(e);
-	            if (matching != null) {
-	                dto.setAccepted(matching.isAccepted());
-	                dto.setMatchingNo(matching.getMatchingNo());
-	                if (matching.getCargoOwner() != null) {
-	                    dto.setDriverName(matching.getCargoOwner().getCargoName());
-	                }
-	            }
-	            return dto;
-	        })
-	        .collect(Collectors.toList());
+	    List<EstimateListRow> rows = esmateRepository.findMyEstimateRowsWithoutPayment(memberId);
+	    log.info("myEstimateList() 진입 - (결제 없는) 조회 결과 수: {}", rows.size());
+	    return toDistinctDTOs(rows);
 	}
 
 	@Override
 	public List<EstimateDTO> findMyPaidEstimates(String memberId) {
-	    List<Estimate> estimates = esmateRepository.findMyPaidEstimates(memberId);
-
-	    List<Long> paymentNos = estimates.stream()
-	        .flatMap(e -> e.getMatchings().stream())
-	        .map(Matching::getOrderSheet)
-	        .filter(Objects::nonNull)
-	        .map(OrderSheet::getPayment)
-	        .filter(Objects::nonNull)
-	        .map(Payment::getPaymentNo)
-	        .filter(Objects::nonNull)
-	        .distinct()
-	        .toList();
-
-	    Map<Long, Delivery> deliveryByPayment = paymentNos.isEmpty()
-	        ? Map.of()
-	        : deliveryRepository.findAllByPaymentNoIn(paymentNos).stream()
-	            .filter(d -> d.getPayment() != null && d.getPayment().getPaymentNo() != null)
-	            .collect(Collectors.toMap(
-	                d -> d.getPayment().getPaymentNo(),
-	                d -> d,
-	                (left, right) -> left
-	            ));
-
-	    return estimates.stream()
-	        .filter(e -> !e.isTemp())
-	        .map(e -> {
-	            EstimateDTO dto = entityToDTO(e);
-	            Matching matching = pickMatching(e);
-	            if (matching != null) {
-	                dto.setAccepted(matching.isAccepted());
-	                dto.setMatchingNo(matching.getMatchingNo());
-	                if (matching.getCargoOwner() != null) {
-	                    dto.setDriverName(matching.getCargoOwner().getCargoName());
-	                }
-	                OrderSheet orderSheet = matching.getOrderSheet();
-	                if (orderSheet != null && orderSheet.getPayment() != null) {
-	                    Payment payment = orderSheet.getPayment();
-	                    dto.setPaymentNo(payment.getPaymentNo());
-	                    Delivery delivery = deliveryByPayment.get(payment.getPaymentNo());
-	                    if (delivery != null) {
-	                        dto.setDeliveryStatus(delivery.getStatus());
-	                        dto.setDeliveryCompletedAt(delivery.getCompletTime());
-	                    }
-	                }
-	            }
-	            return dto;
-	        })
-	        .collect(Collectors.toList());
+	    List<EstimateDTO> list = toDistinctDTOs(esmateRepository.findMyPaidEstimateRows(memberId));
+	    // 도착 예정은 메모리 통계/추적 위치로만 계산 (추가 조회 없음)
+	    list.forEach(dto -> dto.setEtaAt(etaService.etaAt(dto.getMatchingNo(), dto.getDeliveryStatus(),
+	            dto.getStartAddress(), dto.getEndAddress(), dto.getDistanceKm(), dto.getStartTime())));
+	    return list;
 	}
 
-	private Matching pickMatching(Estimate estimate) {
-	    return estimate.getMatchings().stream()
-	        .sorted(Comparator
-	            .comparing(Matching::isAccepted).reversed()
-	            .thenComparing(Matching::getMatchingNo, Comparator.nullsLast(Comparator.reverseOrder())))
-	        .findFirst()
-	        .orElse(null);
+	// 견적 x 매칭 평면 행을 견적당 한 건으로 합친다 (수락된 매칭 우선, 그다음 최신 매칭)
+	private List<EstimateDTO> toDistinctDTOs(List<EstimateListRow> rows) {
+	    Map<Long, EstimateListRow> byEno = new LinkedHashMap<>();
+	    for (EstimateListRow row : rows) {
+	        byEno.merge(row.getEno(), row, (left, right) -> preferMatching(left, right) ? left : right);
+	    }
+	    return byEno.values().stream()
+	        .map(this::rowToDTO)
+	        .collect(Collectors.toList());
 	}
 }
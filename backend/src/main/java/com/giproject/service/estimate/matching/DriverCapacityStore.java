@@ -0,0 +1,38 @@
+package com.giproject.service.estimate.matching;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.giproject.repository.cargo.CargoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기사별 최대 적재량(kg) 캐시.
+ *
+ * - 보유 차량 중 가장 큰 적재량 하나만 보관 (견적이 그 이하면 어느 차량이든 실을 수 있음)
+ * - 최초 조회 시 (cargo_id, capacity_kg) 인덱스로 max 한 번, 차량 등록/수정/삭제 시 무효화
+ * - 등록 차량이 없거나 적재량을 해석할 수 없으면 empty → 피드를 거르지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class DriverCapacityStore {
+
+	private final CargoRepository cargoRepository;
+
+	private final Map<String, Optional<Integer>> byDriver = new ConcurrentHashMap<>();
+
+	public Integer maxCapacityKg(String cargoId) {
+		return byDriver.computeIfAbsent(cargoId, id -> Optional.ofNullable(cargoRepository.findMaxCapacityKg(id)))
+				.orElse(null);
+	}
+
+	public void evict(String cargoId) {
+		if (cargoId != null) {
+			byDriver.remove(cargoId);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.giproject.service.estimate.matching;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 위경도 격자 기반 공간 인덱스 (matchingNo 보관).
+ *
+ * 격자 한 칸은 0.05도(위도 약 5.5km). 질의 지점의 칸에서 시작해 링 단위로 넓혀 가며
+ * 후보를 모으고, 다음 링이 현재 K번째 거리보다 멀어지면 멈춘다.
+ * 열린 견적이 수만 건이어도 주변 몇 개 칸만 훑는다.
+ */
+public class GeoGridIndex {
+
+	private static final double CELL_DEG = 0.05;
+	private static final double EARTH_RADIUS_KM = 6371.0;
+	private static final double KM_PER_DEG_LAT = 111.32;
+	// 반경 약 550km (국내 전역)
+	private static final int MAX_RING = 100;
+
+	private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+	public record Hit<T>(T item, double distanceKm) {}
+
+	public void put(long id, double lat, double lng) {
+		cells.computeIfAbsent(cellKey(cellX(lng), cellY(lat)), k -> ConcurrentHashMap.newKeySet()).add(id);
+	}
+
+	public void remove(long id, double lat, double lng) {
+		cells.computeIfPresent(cellKey(cellX(lng), cellY(lat)), (k, ids) -> {
+			ids.remove(id);
+			return ids.isEmpty() ? null : ids;
+		});
+	}
+
+	public void clear() {
+		cells.clear();
+	}
+
+	/**
+	 * 가장 가까운 k건.
+	 * resolver 가 null 을 돌려주면(만료/거절/이미 닫힘) 후보에서 제외한다.
+	 */
+	public <T> List<Hit<T>> nearest(double lat, double lng, int k, LongFunction<T> resolver,
+			ToDoubleFunction<T> latOf, ToDoubleFunction<T> lngOf) {
+		if (k <= 0) {
+			return List.of();
+		}
+		int cx = cellX(lng);
+		int cy = cellY(lat);
+		// 경도 방향 칸이 위도 방향보다 짧으므로 링 사이 최소 거리는 경도 기준
+		double minCellKm = CELL_DEG * KM_PER_DEG_LAT * Math.cos(Math.toRadians(Math.min(Math.abs(lat) + CELL_DEG, 89)));
+
+		PriorityQueue<Hit<T>> best = new PriorityQueue<>(Comparator.comparingDouble((Hit<T> h) -> h.distanceKm()).reversed());
+		for (int ring = 0; ring <= MAX_RING; ring++) {
+			if (best.size() >= k && (ring - 1) * minCellKm > best.peek().distanceKm()) {
+				break;
+			}
+			for (int dx = -ring; dx <= ring; dx++) {
+				for (int dy = -ring; dy <= ring; dy++) {
+					if (Math.abs(dx) != ring && Math.abs(dy) != ring) {
+						continue; // 링 테두리만
+					}
+					Set<Long> ids = cells.get(cellKey(cx + dx, cy + dy));
+					if (ids == null) {
+						continue;
+					}
+					for (Long id : ids) {
+						T item = resolver.apply(id);
+						if (item == null) {
+							continue;
+						}
+						double d = haversineKm(lat, lng, latOf.applyAsDouble(item), lngOf.applyAsDouble(item));
+						if (best.size() < k) {
+							best.add(new Hit<>(item, d));
+						} else if (d < best.peek().distanceKm()) {
+							best.poll();
+							best.add(new Hit<>(item, d));
+						}
+					}
+				}
+			}
+		}
+		List<Hit<T>> result = new ArrayList<>(best);
+		result.sort(Comparator.comparingDouble(Hit::distanceKm));
+		return result;
+	}
+
+	public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+				+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+	}
+
+	private static int cellX(double lng) {
+		return (int) Math.floor(lng / CELL_DEG);
+	}
+
+	private static int cellY(double lat) {
+		return (int) Math.floor(lat / CELL_DEG);
+	}
+
+	private static long cellKey(int x, int y) {
+		return ((long) y << 32) | (x & 0xffffffffL);
+	}
+}
@@ -0,0 +1,17 @@
+package com.giproject.service.estimate.matching;
+
+/**
+ * 매칭 상태 변경 이벤트.
+ * 트랜잭션 커밋 이후에 {@link OpenJobIndex} 등 인메모리 구독자에게 전달된다.
+ */
+public sealed interface MatchingEvent {
+
+	/** 견적 등록으로 새 매칭이 열림 */
+	record Opened(OpenJob job) implements MatchingEvent {}
+
+	/** 기사 수락으로 매칭이 닫힘 */
+	record Closed(Long matchingNo, Long eno) implements MatchingEvent {}
+
+	/** 특정 기사가 견적을 거절함 */
+	record Rejected(String cargoId, Long eno) implements MatchingEvent {}
+}
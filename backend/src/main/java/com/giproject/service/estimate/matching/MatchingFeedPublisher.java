@@ -0,0 +1,122 @@
+package com.giproject.service.estimate.matching;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.giproject.dto.matching.MatchingDTO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기사 앱으로 신규 견적/철회를 SSE로 밀어주는 퍼블리셔.
+ *
+ * - 새 매칭(job): 적재 가능하고 해당 기사가 거절하지 않은 경우에만 전송 (OpenJobIndex 인메모리 판정)
+ * - 철회(withdrawn): 다른 기사가 수락했거나 본인이 거절한 매칭
+ *
+ * 연결된 기사는 대기 중 DB 부하를 만들지 않는다. 최초 목록은 /g2i4/estimate/list 로 한 번 받아온다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class MatchingFeedPublisher {
+
+	private static final long TIMEOUT_MS = 30 * 60 * 1000L; // 30분, 클라이언트가 재연결
+
+	private final OpenJobIndex openJobIndex;
+	private final MatchingService matchingService;
+
+	private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+	// 커밋한 요청 스레드를 붙잡지 않도록 전송은 별도 스레드에서 순서대로 처리
+	private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "matching-feed-sse");
+		t.setDaemon(true);
+		return t;
+	});
+
+	public SseEmitter subscribe(String cargoId) {
+		SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+		emitters.computeIfAbsent(cargoId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+		emitter.onCompletion(() -> remove(cargoId, emitter));
+		emitter.onTimeout(() -> remove(cargoId, emitter));
+		emitter.onError(e -> remove(cargoId, emitter));
+
+		send(cargoId, emitter, SseEmitter.event().name("connected").data(Map.of("cargoId", cargoId)));
+		return emitter;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOpened(MatchingEvent.Opened event) {
+		OpenJob job = event.job();
+		if (job.startTime() == null) {
+			return;
+		}
+		MatchingDTO dto = matchingService.openJobToDTO(job);
+		sender.execute(() -> emitters.forEach((cargoId, set) -> {
+			if (openJobIndex.isVisibleTo(cargoId, job)) {
+				set.forEach(emitter -> send(cargoId, emitter, SseEmitter.event().name("job").data(dto)));
+			}
+		}));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClosed(MatchingEvent.Closed event) {
+		Map<String, Long> payload = Map.of("matchNo", event.matchingNo(), "eno", event.eno());
+		sender.execute(() -> emitters.forEach((cargoId, set) ->
+				set.forEach(emitter -> send(cargoId, emitter, SseEmitter.event().name("withdrawn").data(payload)))));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRejected(MatchingEvent.Rejected event) {
+		Set<SseEmitter> set = emitters.get(event.cargoId());
+		if (set == null) {
+			return;
+		}
+		Map<String, Long> payload = Map.of("eno", event.eno());
+		sender.execute(() ->
+				set.forEach(emitter -> send(event.cargoId(), emitter, SseEmitter.event().name("withdrawn").data(payload))));
+	}
+
+	/** 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 이벤트 전송 */
+	@Scheduled(fixedDelay = 25_000)
+	public void heartbeat() {
+		sender.execute(() -> emitters.forEach((cargoId, set) ->
+				set.forEach(emitter -> send(cargoId, emitter, SseEmitter.event().comment("ping")))));
+	}
+
+	public int connectionCount() {
+		return emitters.values().stream().mapToInt(Set::size).sum();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		sender.shutdownNow();
+		emitters.values().forEach(set -> set.forEach(SseEmitter::complete));
+	}
+
+	private void send(String cargoId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			log.debug("SSE 전송 실패, 연결 제거 - cargoId: {}", cargoId);
+			remove(cargoId, emitter);
+		}
+	}
+
+	private void remove(String cargoId, SseEmitter emitter) {
+		emitters.computeIfPresent(cargoId, (k, set) -> {
+			set.remove(emitter);
+			return set.isEmpty() ? null : set;
+		});
+	}
+}
@@ -0,0 +1,54 @@
+package com.giproject.service.estimate.matching;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.giproject.service.mail.MailService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 매칭 수락이 커밋된 뒤 화주에게 수락 메일을 보낸다.
+ * 일괄 수락은 한 번에 여러 통이라, SMTP 가 느리거나 실패해도 응답을 붙잡거나 커밋된 수락을 500 으로 만들지 않도록
+ * 별도 스레드에서 순서대로, 지연 연관을 읽을 수 있게 읽기 트랜잭션 안에서 보낸다
+ */
+@Component
+@Log4j2
+public class MatchingMailListener {
+
+	private final MailService mailService;
+	private final TransactionTemplate readOnly;
+	private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "matching-mail");
+		t.setDaemon(true);
+		return t;
+	});
+
+	public MatchingMailListener(MailService mailService, PlatformTransactionManager transactionManager) {
+		this.mailService = mailService;
+		this.readOnly = new TransactionTemplate(transactionManager);
+		this.readOnly.setReadOnly(true);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClosed(MatchingEvent.Closed event) {
+		sender.execute(() -> {
+			try {
+				readOnly.executeWithoutResult(status -> mailService.acceptedMail(event.matchingNo()));
+			} catch (RuntimeException e) {
+				log.warn("매칭 수락 메일 실패 - {}: {}", event.matchingNo(), e.getMessage());
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		sender.shutdown();
+	}
+}
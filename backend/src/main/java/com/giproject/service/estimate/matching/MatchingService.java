@@ -1,7 +1,9 @@
 package com.giproject.service.estimate.matching;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import com.giproject.dto.matching.MatchingBatchResultDTO;
 import com.giproject.dto.matching.MatchingDTO;
 import com.giproject.dto.matching.PageRequestDTO;
 import com.giproject.dto.matching.PageResponseDTO;
@@ -46,6 +48,20 @@ public interface MatchingService {
 				
 	}
 	
+	default MatchingDTO openJobToDTO(OpenJob job) {
+		return MatchingDTO.builder()
+				.matchNo(job.matchingNo())
+				.eno(job.eno())
+				.isAccepted(false)
+				.route(makeShortRoute(job.startAddress(), job.endAddress()))
+				.cargoWeight(job.cargoWeight())
+				.distanceKm(job.distanceKm()+"KM")
+				.cargoType(job.cargoType())
+				.startTime(job.startTime().toString())
+				.totalCost(String.format("%,d원", job.totalCost()))
+				.build();
+	}
+	
 	default String simpleAddress(String fullAddress) {
 		if(fullAddress == null) {
 			return "";
@@ -63,9 +79,22 @@ public interface MatchingService {
 	    return from + " → " + to;
 	}
 	
+	// 피드 조회는 OpenJobIndex(메모리)에서 읽으므로 트랜잭션·커넥션을 열지 않는다
+	// (처음 보는 기사 확인만 저장소 자체 트랜잭션으로 한 번 조회)
+	@Transactional(Transactional.TxType.SUPPORTS)
 	PageResponseDTO<MatchingDTO> getList(PageRequestDTO requestDTO,String cargoId);
 	
+	@Transactional(Transactional.TxType.SUPPORTS)
+	PageResponseDTO<MatchingDTO> getListByCursor(PageRequestDTO requestDTO,String cargoId);
+	
+	@Transactional(Transactional.TxType.SUPPORTS)
+	List<MatchingDTO> getNearbyList(String cargoId, double lat, double lng, int size);
+	
 	void rejectMatching(Long estimateNo, CargoOwner cargoOwner);
 	Long acceptMatching(Long estimateNo, CargoOwner cargoOwner);
 	
+	// 일괄 처리: 한 트랜잭션, 견적 번호별 결과 반환 (실패 건이 있어도 나머지는 처리)
+	MatchingBatchResultDTO rejectMatchings(List<Long> estimateNos, String cargoId);
+	MatchingBatchResultDTO acceptMatchings(List<Long> estimateNos, String cargoId);
+	
 }
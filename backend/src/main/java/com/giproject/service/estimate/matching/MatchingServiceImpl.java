@@ -1,20 +1,30 @@
 package com.giproject.service.estimate.matching;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.giproject.controller.order.OrderController;
+import com.giproject.dto.matching.MatchingBatchResultDTO;
 import com.giproject.dto.matching.MatchingDTO;
 import com.giproject.dto.matching.PageRequestDTO;
 import com.giproject.dto.matching.PageResponseDTO;
@@ -25,8 +35,10 @@ import com.giproject.entity.matching.RejectedMatching;
 import com.giproject.repository.cargo.CargoOwnerRepository;
 import com.giproject.repository.estimate.EsmateRepository;
 import com.giproject.repository.matching.MatchingRepository;
+import com.giproject.repository.matching.MatchingStateRow;
 import com.giproject.repository.matching.RejectedMatchingRepository;
 import com.giproject.security.JwtService;
+import com.giproject.utils.AddressNormalizer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -43,26 +55,30 @@ public class MatchingServiceImpl implements MatchingService{
 	private final EsmateRepository esmateRepository;
 	private final RejectedMatchingRepository rejectedMatchingRepository;
 	private final JwtService jwtService;
+	private final OpenJobIndex openJobIndex;
+	private final RejectedMatchingStore rejectedMatchingStore;
+	private final ApplicationEventPublisher eventPublisher;
+	private final JdbcTemplate jdbcTemplate;
+	
+	private static final int MAX_BATCH = 100;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final String INSERT_REJECTED =
+			"insert into rejected_matching (cargo_owner_id, estimate_no, rejected_time) values (?, ?, ?)";
 
+	// 기사 여부 확인이 끝난 cargoId (피드 조회마다 cargo_owner를 다시 읽지 않기 위함)
+	private final Set<String> verifiedDrivers = ConcurrentHashMap.newKeySet();
 
-   
 
 	@Override
 	public PageResponseDTO<MatchingDTO> getList(PageRequestDTO requestDTO,String cargoId) {
-		 if (cargoId == null || cargoId.isBlank()) {
-		        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 정보가 없습니다.");
-		    }
-		CargoOwner owner = cargoOwnerRepository.findById(cargoId).orElseThrow(() -> new ResponseStatusException(HttpStatus.FORBIDDEN,"운전기사만 접근 가능합니다"));
+		verifyDriver(cargoId);
 		
-		Pageable pageable= PageRequest.of(requestDTO.getPage()-1, requestDTO.getSize(),Sort.by("matchingNo").descending());
-		LocalDateTime now = LocalDateTime.now();
-		Page<Matching> result = matchingRepository.findValidMatchingList(owner,now,pageable);
-		System.out.println(result);
-		List<MatchingDTO> dtoList = result.getContent().stream().map(this::entityToDTO).collect(Collectors.toList());
+		Pageable pageable= PageRequest.of(Math.max(requestDTO.getPage(), 1)-1, pageSize(requestDTO.getSize()));
+		// 알 수 없는 지역은 필터 없음(전체)이 아니라 빈 목록
+		Page<OpenJob> result = AddressNormalizer.isUnknownRegion(requestDTO.getRegion()) ? Page.empty(pageable)
+				: openJobIndex.findVisible(cargoId, AddressNormalizer.sidoCode(requestDTO.getRegion()), pageable);
+		List<MatchingDTO> dtoList = result.getContent().stream().map(this::openJobToDTO).collect(Collectors.toList());
 		
-		for(MatchingDTO dto : dtoList) {
-			System.out.println(dto.getStartTime());
-		}
 		long totalCount = result.getTotalElements();
 		return PageResponseDTO.<MatchingDTO>withAll()
 				.dtoList(dtoList)
@@ -71,11 +87,62 @@ public class MatchingServiceImpl implements MatchingService{
 				.build();
 	}
 	
+	@Override
+	public PageResponseDTO<MatchingDTO> getListByCursor(PageRequestDTO requestDTO, String cargoId) {
+		verifyDriver(cargoId);
+		
+		int size = pageSize(requestDTO.getSize());
+		// 한 건 더 읽어서 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+		List<OpenJob> jobs = AddressNormalizer.isUnknownRegion(requestDTO.getRegion()) ? List.of()
+				: openJobIndex.findVisibleAfter(cargoId, AddressNormalizer.sidoCode(requestDTO.getRegion()), requestDTO.getCursor(), size + 1);
+		Long nextCursor = null;
+		if (jobs.size() > size) {
+			jobs = jobs.subList(0, size);
+			nextCursor = jobs.get(size - 1).matchingNo();
+		}
+		List<MatchingDTO> dtoList = jobs.stream().map(this::openJobToDTO).collect(Collectors.toList());
+		return PageResponseDTO.<MatchingDTO>withCursor()
+				.dtoList(dtoList)
+				.pageRequestDTO(requestDTO)
+				.nextCursor(nextCursor)
+				.build();
+	}
+	
+	@Override
+	public List<MatchingDTO> getNearbyList(String cargoId, double lat, double lng, int size) {
+		verifyDriver(cargoId);
+		
+		return openJobIndex.findNearest(cargoId, lat, lng, pageSize(size)).stream()
+				.map(hit -> {
+					MatchingDTO dto = openJobToDTO(hit.item());
+					dto.setPickupDistanceKm(Math.round(hit.distanceKm() * 10) / 10.0);
+					return dto;
+				})
+				.collect(Collectors.toList());
+	}
+	
+	// 클라이언트가 보낸 페이지 크기는 1 ~ MAX_PAGE_SIZE 로 제한
+	private static int pageSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+	}
+	
+	private void verifyDriver(String cargoId) {
+		if (cargoId == null || cargoId.isBlank()) {
+			throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증 정보가 없습니다.");
+		}
+		if (!verifiedDrivers.contains(cargoId)) {
+			if (!cargoOwnerRepository.existsById(cargoId)) {
+				throw new ResponseStatusException(HttpStatus.FORBIDDEN,"운전기사만 접근 가능합니다");
+			}
+			verifiedDrivers.add(cargoId);
+		}
+	}
+	
 	@Override
 	public void rejectMatching(Long estimateNo, CargoOwner cargoOwner) {
 		Estimate estimate = esmateRepository.findById(estimateNo)
 				.orElseThrow(() -> new RuntimeException("해당 견적이 존재하지 않습니다"));
-		if (rejectedMatchingRepository.existsByCargoOwnerAndEstimate(cargoOwner, estimate)) {
+		if (rejectedMatchingStore.isRejected(cargoOwner.getCargoId(), estimateNo)) {
 			return;
 		}
 		RejectedMatching rejected = RejectedMatching.builder()
@@ -84,27 +151,120 @@ public class MatchingServiceImpl implements MatchingService{
 				.rejectedTime(LocalDateTime.now())
 				.build();
 		rejectedMatchingRepository.save(rejected);
+		eventPublisher.publishEvent(new MatchingEvent.Rejected(cargoOwner.getCargoId(), estimateNo));
 	}
 
 	@Override
 	public Long acceptMatching(Long estimateNo, CargoOwner cargoOwner) {
-		Estimate estimate = esmateRepository.findById(estimateNo)
-				.orElseThrow(() -> new RuntimeException("해당 견적이 존재하지 않습니다"));
+		// 조건부 UPDATE 한 번으로 승자를 가린다. 0건이면 이미 다른 기사가 선점한 것
+		if (esmateRepository.claimMatched(estimateNo) == 0) {
+			if (!esmateRepository.existsById(estimateNo)) {
+				throw new RuntimeException("해당 견적이 존재하지 않습니다");
+			}
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 다른 기사님이 수락하셨습니다");
+		}
+		
+		Long matchingNo = matchingRepository.findMatchingNoByEstimateNo(estimateNo)
+				.orElseThrow(() -> new RuntimeException("해당 매칭이 없습니다"));
+		matchingRepository.assignCargoOwner(matchingNo, cargoOwner, LocalDateTime.now());
+		eventPublisher.publishEvent(new MatchingEvent.Closed(matchingNo, estimateNo));
+		
+		return matchingNo;
+	}
+	
+	@Override
+	public MatchingBatchResultDTO rejectMatchings(List<Long> estimateNos, String cargoId) {
+		verifyDriver(cargoId);
+		Set<Long> requested = distinct(estimateNos);
+		Set<Long> existing = new LinkedHashSet<>(esmateRepository.findExistingEnos(requested));
+		
+		List<MatchingBatchResultDTO.Item> results = new ArrayList<>(requested.size());
+		List<Long> toInsert = new ArrayList<>();
+		rejectedMatchingStore.withFilter(cargoId, rejected -> {
+			for (Long eno : requested) {
+				String result;
+				if (!existing.contains(eno)) {
+					result = MatchingBatchResultDTO.NOT_FOUND;
+				} else if (rejected.test(eno)) {
+					result = MatchingBatchResultDTO.ALREADY_REJECTED;
+				} else {
+					result = MatchingBatchResultDTO.REJECTED;
+					toInsert.add(eno);
+				}
+				results.add(MatchingBatchResultDTO.Item.builder().estimateNo(eno).result(result).build());
+			}
+			return null;
+		});
+		
+		if (!toInsert.isEmpty()) {
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			jdbcTemplate.batchUpdate(INSERT_REJECTED, toInsert, toInsert.size(), (ps, eno) -> {
+				ps.setString(1, cargoId);
+				ps.setLong(2, eno);
+				ps.setTimestamp(3, now);
+			});
+			toInsert.forEach(eno -> eventPublisher.publishEvent(new MatchingEvent.Rejected(cargoId, eno)));
+		}
+		return MatchingBatchResultDTO.builder().succeeded(toInsert.size()).results(results).build();
+	}
+	
+	@Override
+	public MatchingBatchResultDTO acceptMatchings(List<Long> estimateNos, String cargoId) {
+		verifyDriver(cargoId);
+		Set<Long> requested = distinct(estimateNos);
+		Map<Long, Long> matchingNos = matchingRepository.findMatchingStatesByEstimateNos(requested).stream()
+				.collect(Collectors.toMap(MatchingStateRow::getEno, MatchingStateRow::getMatchingNo, Math::max));
 		
-		Matching matching = matchingRepository.findByEstimate(estimate).orElseThrow(() -> new RuntimeException("해당 매칭이 없습니다"));
+		// 견적마다 조건부 UPDATE 로 선점 (단건 수락과 같은 규칙).
+		// 행 잠금은 커밋까지 유지되므로 번호 순으로 잡아 순서가 다른 일괄 요청끼리 교착되지 않게 한다
+		Map<Long, String> outcomes = new HashMap<>();
+		List<Long> won = new ArrayList<>();
+		for (Long eno : new TreeSet<>(requested)) {
+			Long matchingNo = matchingNos.get(eno);
+			if (matchingNo == null) {
+				outcomes.put(eno, MatchingBatchResultDTO.NOT_FOUND);
+			} else if (esmateRepository.claimMatched(eno) == 0) {
+				outcomes.put(eno, MatchingBatchResultDTO.CONFLICT);
+			} else {
+				outcomes.put(eno, MatchingBatchResultDTO.ACCEPTED);
+				won.add(matchingNo);
+			}
+		}
 		
-		if(matchingRepository.checkMached(estimateNo)) {
-			throw new RuntimeException("이미 다른 기사님이 수락하셨습니다");
+		// 결과는 요청 순서대로
+		List<MatchingBatchResultDTO.Item> results = new ArrayList<>(requested.size());
+		for (Long eno : requested) {
+			String result = outcomes.get(eno);
+			results.add(MatchingBatchResultDTO.Item.builder()
+					.estimateNo(eno)
+					.result(result)
+					.matchNo(MatchingBatchResultDTO.ACCEPTED.equals(result) ? matchingNos.get(eno) : null)
+					.build());
 		}
-		estimate.changeMatched(true);
-		matching.changeCargoOwner(cargoOwner);
-		matching.changeIsAccepted(true);
-		matching.changeAcceptedTime(LocalDateTime.now());
-		esmateRepository.save(estimate);
-		matchingRepository.save(matching);
 		
-		return  matching.getMatchingNo();
+		if (!won.isEmpty()) {
+			matchingRepository.assignCargoOwnerAll(won, cargoOwnerRepository.getReferenceById(cargoId), LocalDateTime.now());
+			results.stream()
+					.filter(item -> item.getMatchNo() != null)
+					.forEach(item -> eventPublisher.publishEvent(new MatchingEvent.Closed(item.getMatchNo(), item.getEstimateNo())));
+		}
+		return MatchingBatchResultDTO.builder().succeeded(won.size()).results(results).build();
+	}
 	
+	private Set<Long> distinct(List<Long> estimateNos) {
+		if (estimateNos != null && estimateNos.size() > MAX_BATCH) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_BATCH + "건까지 처리할 수 있습니다.");
+		}
+		Set<Long> set = new LinkedHashSet<>();
+		for (Long eno : estimateNos == null ? List.<Long>of() : estimateNos) {
+			if (eno != null) {
+				set.add(eno);
+			}
+		}
+		if (set.isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "견적 번호가 없습니다.");
+		}
+		return set;
 	}
 
 }
@@ -0,0 +1,65 @@
+package com.giproject.service.estimate.matching;
+
+import java.time.LocalDateTime;
+
+import com.giproject.entity.estimate.Estimate;
+import com.giproject.entity.matching.Matching;
+import com.giproject.utils.AddressNormalizer;
+import com.giproject.utils.CargoWeightParser;
+
+/**
+ * 기사 피드에 노출되는 미배정 매칭 한 건의 불변 스냅샷.
+ * 엔티티를 들고 있지 않으므로 영속성 컨텍스트 밖에서도 안전하게 공유된다.
+ */
+public record OpenJob(
+		Long matchingNo,
+		Long eno,
+		String startAddress,
+		String endAddress,
+		String startRegionCode,
+		double distanceKm,
+		String cargoWeight,
+		Integer weightKg,
+		String cargoType,
+		LocalDateTime startTime,
+		int totalCost,
+		Double startLat,
+		Double startLng) {
+
+	public static OpenJob of(Matching matching) {
+		Estimate e = matching.getEstimate();
+		return new OpenJob(
+				matching.getMatchingNo(),
+				e.getEno(),
+				e.getStartAddress(),
+				e.getEndAddress(),
+				e.getStartRegionCode() != null ? e.getStartRegionCode() : AddressNormalizer.sidoCode(e.getStartAddress()),
+				e.getDistanceKm(),
+				e.getCargoWeight(),
+				e.getWeightKg() != null ? e.getWeightKg() : CargoWeightParser.toKg(e.getCargoWeight()),
+				e.getCargoType(),
+				e.getStartTime(),
+				e.getTotalCost(),
+				e.getStartLat(),
+				e.getStartLng());
+	}
+
+	public boolean hasLocation() {
+		return startLat != null && startLng != null;
+	}
+
+	/** 중량을 모르는 견적은 모든 차량에 노출한다 */
+	public boolean fits(Integer capacityKg) {
+		return capacityKg == null || weightKg == null || weightKg <= capacityKg;
+	}
+
+	/** 지역 조건이 없으면 전체, 있으면 출발지 시/도 코드가 같은 건만 */
+	public boolean startsIn(String regionCode) {
+		return regionCode == null || regionCode.equals(startRegionCode);
+	}
+
+	/** 출발 시간이 지났으면 더 이상 피드에 노출하지 않는다 */
+	public boolean isExpired(LocalDateTime now) {
+		return startTime == null || startTime.isBefore(now);
+	}
+}
@@ -0,0 +1,182 @@
+package com.giproject.service.estimate.matching;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.giproject.repository.matching.MatchingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기사 매칭 피드용 인메모리 인덱스.
+ *
+ * - 미배정 매칭을 matchingNo 내림차순으로 보관
+ * - 기사별 거절 여부는 {@link RejectedMatchingStore} 에서 인메모리로 판정
+ * - 기사 보유 차량의 최대 적재량을 넘는 견적은 제외 ({@link DriverCapacityStore})
+ * - 출발지 좌표가 있는 매칭은 {@link GeoGridIndex} 에도 등록 (근거리 피드)
+ * - 견적 등록/수락 이벤트로 증분 갱신, 출발 시간이 지난 건은 주기적으로 제거
+ *
+ * 피드 조회는 DB를 거치지 않고 이 인덱스에서 바로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OpenJobIndex {
+
+	private final MatchingRepository matchingRepository;
+	private final RejectedMatchingStore rejectedMatchingStore;
+	private final DriverCapacityStore driverCapacityStore;
+
+	// matchingNo 내림차순 (최신 견적이 먼저)
+	private final ConcurrentSkipListMap<Long, OpenJob> jobs = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+	private final GeoGridIndex geoIndex = new GeoGridIndex();
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		jobs.clear();
+		geoIndex.clear();
+		matchingRepository.findOpenMatchings(LocalDateTime.now())
+				.forEach(m -> add(OpenJob.of(m)));
+		log.info("OpenJobIndex 초기 적재 완료 - 미배정 매칭 수: {}", jobs.size());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onOpened(MatchingEvent.Opened event) {
+		OpenJob job = event.job();
+		if (job.matchingNo() != null && !job.isExpired(LocalDateTime.now())) {
+			add(job);
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClosed(MatchingEvent.Closed event) {
+		if (event.matchingNo() != null) {
+			remove(jobs.get(event.matchingNo()));
+		}
+	}
+
+	/** 해당 기사가 이미 거절한 견적인지 (인메모리 판정) */
+	public boolean isRejected(String cargoId, Long eno) {
+		return rejectedMatchingStore.isRejected(cargoId, eno);
+	}
+
+	/** 기사 피드에 노출될 견적인지 (적재량 + 거절 여부) */
+	public boolean isVisibleTo(String cargoId, OpenJob job) {
+		return job.fits(driverCapacityStore.maxCapacityKg(cargoId)) && !isRejected(cargoId, job.eno());
+	}
+
+	/**
+	 * 기사에게 보여줄 피드 한 페이지.
+	 * 만료/거절 건(과 regionCode 가 있으면 다른 출발 지역)을 걸러내면서 전체 건수와 요청 구간만 수집한다.
+	 */
+	public Page<OpenJob> findVisible(String cargoId, String regionCode, Pageable pageable) {
+		LocalDateTime now = LocalDateTime.now();
+		Integer capacityKg = driverCapacityStore.maxCapacityKg(cargoId);
+		long from = pageable.getOffset();
+		int size = pageable.getPageSize();
+		List<OpenJob> content = new ArrayList<>(size);
+
+		long total = rejectedMatchingStore.withFilter(cargoId, rejected -> {
+			long count = 0;
+			for (OpenJob job : jobs.values()) {
+				if (job.isExpired(now) || !job.startsIn(regionCode) || !job.fits(capacityKg) || rejected.test(job.eno())) {
+					continue;
+				}
+				if (count >= from && content.size() < size) {
+					content.add(job);
+				}
+				count++;
+			}
+			return count;
+		});
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	/**
+	 * 커서(키셋) 기반 조회: cursor 보다 작은 matchingNo 부터 limit 건.
+	 * 건너뛸 구간을 훑지 않으므로 깊은 페이지도 페이지 크기만큼만 비용이 든다.
+	 */
+	public List<OpenJob> findVisibleAfter(String cargoId, String regionCode, Long cursor, int limit) {
+		if (limit <= 0) {
+			return List.of();
+		}
+		LocalDateTime now = LocalDateTime.now();
+		Integer capacityKg = driverCapacityStore.maxCapacityKg(cargoId);
+		// 내림차순 맵이므로 tailMap 이 cursor 이후(더 작은 번호) 구간
+		Iterable<OpenJob> source = cursor == null ? jobs.values() : jobs.tailMap(cursor, false).values();
+		List<OpenJob> content = new ArrayList<>(limit);
+
+		rejectedMatchingStore.withFilter(cargoId, rejected -> {
+			for (OpenJob job : source) {
+				if (content.size() >= limit) {
+					break;
+				}
+				if (!job.isExpired(now) && job.startsIn(regionCode) && job.fits(capacityKg) && !rejected.test(job.eno())) {
+					content.add(job);
+				}
+			}
+			return null;
+		});
+		return content;
+	}
+
+	/**
+	 * 기사 위치에서 가까운 순으로 k건 (출발지 직선거리 기준).
+	 * 좌표가 없는 견적은 근거리 피드에 나오지 않는다.
+	 */
+	public List<GeoGridIndex.Hit<OpenJob>> findNearest(String cargoId, double lat, double lng, int k) {
+		LocalDateTime now = LocalDateTime.now();
+		Integer capacityKg = driverCapacityStore.maxCapacityKg(cargoId);
+		return rejectedMatchingStore.withFilter(cargoId, rejected ->
+				geoIndex.nearest(lat, lng, k, matchingNo -> {
+					OpenJob job = jobs.get(matchingNo);
+					return job == null || job.isExpired(now) || !job.fits(capacityKg) || rejected.test(job.eno()) ? null : job;
+				}, OpenJob::startLat, OpenJob::startLng));
+	}
+
+	public int size() {
+		return jobs.size();
+	}
+
+	/** 출발 시간이 지난 매칭 정리 (1분 주기) */
+	@Scheduled(fixedDelay = 60_000)
+	public void evictExpired() {
+		LocalDateTime now = LocalDateTime.now();
+		jobs.values().stream()
+				.filter(job -> job.isExpired(now))
+				.toList()
+				.forEach(this::remove);
+	}
+
+	private void add(OpenJob job) {
+		jobs.put(job.matchingNo(), job);
+		if (job.hasLocation()) {
+			geoIndex.put(job.matchingNo(), job.startLat(), job.startLng());
+		}
+	}
+
+	private void remove(OpenJob job) {
+		if (job == null) {
+			return;
+		}
+		jobs.remove(job.matchingNo());
+		if (job.hasLocation()) {
+			geoIndex.remove(job.matchingNo(), job.startLat(), job.startLng());
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.giproject.service.estimate.matching;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.giproject.repository.matching.RejectedMatchingRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기사별 거절 견적(eno) 저장소.
+ *
+ * - 기사별로 정렬된 int 배열 하나만 유지 (거절 1건당 4바이트, eno 크기와 무관)
+ * - 최초 조회 시 rejected_matching 에서 지연 로딩, 이후 거절 이벤트로 증분 갱신
+ * - 하루 이상 조회가 없는 기사는 메모리에서 내림 (다음 조회 때 다시 로딩)
+ * - 매일 새벽 출발 시간이 지난 견적의 거절 행을 삭제해 테이블이 무한히 커지지 않게 한다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class RejectedMatchingStore {
+
+	private static final long IDLE_EVICT_MS = 24 * 60 * 60 * 1000L;
+
+	private final RejectedMatchingRepository rejectedMatchingRepository;
+
+	private final Map<String, EnoSet> byDriver = new ConcurrentHashMap<>();
+
+	/** 정렬된 eno 배열. loaded 전에는 커밋 이후 들어온 거절만 담겨 있다 */
+	private static final class EnoSet {
+		private int[] values = new int[0];
+		private int size;
+		private boolean loaded;
+		private volatile long lastAccess = System.currentTimeMillis();
+
+		boolean contains(int eno) {
+			return Arrays.binarySearch(values, 0, size, eno) >= 0;
+		}
+
+		void add(int eno) {
+			int pos = Arrays.binarySearch(values, 0, size, eno);
+			if (pos >= 0) {
+				return;
+			}
+			int at = -pos - 1;
+			if (size == values.length) {
+				values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+			}
+			System.arraycopy(values, at, values, at + 1, size - at);
+			values[at] = eno;
+			size++;
+		}
+
+		void addAll(int[] enos) {
+			int[] merged = Arrays.copyOf(values, size + enos.length);
+			System.arraycopy(enos, 0, merged, size, enos.length);
+			Arrays.sort(merged);
+			int n = 0;
+			for (int i = 0; i < merged.length; i++) {
+				if (n == 0 || merged[n - 1] != merged[i]) {
+					merged[n++] = merged[i];
+				}
+			}
+			values = merged;
+			size = n;
+		}
+	}
+
+	public boolean isRejected(String cargoId, Long eno) {
+		EnoSet set = loaded(cargoId);
+		synchronized (set) {
+			return set.contains(toInt(eno));
+		}
+	}
+
+	/** 잠금을 유지한 채 action 을 실행한다. 피드 조회처럼 여러 건을 연속 판정할 때 사용 */
+	public <T> T withFilter(String cargoId, Function<Predicate<Long>, T> action) {
+		EnoSet set = loaded(cargoId);
+		synchronized (set) {
+			return action.apply(eno -> set.contains(toInt(eno)));
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRejected(MatchingEvent.Rejected event) {
+		EnoSet set = byDriver.computeIfAbsent(event.cargoId(), k -> new EnoSet());
+		synchronized (set) {
+			set.add(toInt(event.eno()));
+		}
+	}
+
+	public int driverCount() {
+		return byDriver.size();
+	}
+
+	/** 오래 조회되지 않은 기사의 거절 목록을 메모리에서 내림 (1시간 주기) */
+	@Scheduled(fixedDelay = 60 * 60 * 1000L)
+	public void evictIdle() {
+		long threshold = System.currentTimeMillis() - IDLE_EVICT_MS;
+		byDriver.values().removeIf(set -> set.lastAccess < threshold);
+	}
+
+	/** 출발 시간이 지난 견적의 거절 기록 삭제 (매일 04:00) */
+	@Scheduled(cron = "0 0 4 * * *")
+	@Transactional
+	public void purgeExpired() {
+		int deleted = rejectedMatchingRepository.deleteByEstimateStartTimeBefore(LocalDateTime.now());
+		// 지워진 eno 는 이미 피드에서 빠진 견적이므로, 메모리는 다음 조회 때 작아진 목록으로 다시 로딩
+		byDriver.clear();
+		log.info("rejected_matching 정리 - 삭제 {}건", deleted);
+	}
+
+	private EnoSet loaded(String cargoId) {
+		EnoSet set = byDriver.computeIfAbsent(cargoId, k -> new EnoSet());
+		synchronized (set) {
+			if (!set.loaded) {
+				List<Long> enos = rejectedMatchingRepository.findRejectedEnosByCargoId(cargoId);
+				set.addAll(enos.stream().mapToInt(RejectedMatchingStore::toInt).toArray());
+				set.loaded = true;
+			}
+			set.lastAccess = System.currentTimeMillis();
+		}
+		return set;
+	}
+
+	private static int toInt(Long eno) {
+		return Math.toIntExact(eno);
+	}
+}
@@ -0,0 +1,251 @@
+package com.giproject.service.estimate.pricing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.fees.FareSimulationDTO;
+import com.giproject.dto.fees.FeesBasicDTO;
+import com.giproject.dto.fees.FeesExtraDTO;
+import com.giproject.repository.estimate.EsmateRepository;
+import com.giproject.repository.estimate.EstimatePricingRow;
+import com.giproject.service.estimate.EstimateService;
+import com.giproject.service.fees.FareSnapshot;
+import com.giproject.service.fees.FareSnapshotHolder;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 요금 변경 영향 시뮬레이터.
+ *
+ * 최근 N개월 견적을 eno 키셋 청크로 읽어(엔티티 X, 필요한 컬럼만) 현재 요금표와 변경안으로 각각 다시 계산하고
+ * 중량 등급별 합계 차이를 돌려준다.
+ * - 청크 읽기는 요청 스레드, 계산은 코어 수만큼의 워커가 병렬로 처리
+ * - 동시에 메모리에 올라가는 청크 수를 제한해 기간이 길어도 힙 사용량이 일정하다
+ * - 워커를 나눠 쓰지 않도록 시뮬레이션은 한 번에 하나만 (진행 중이면 429)
+ * - 추가요금 항목이 저장되지 않은 과거 견적은 추가요금 변경이 반영되지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class FareImpactSimulator {
+
+	private static final int CHUNK = 5_000;
+	private static final int MAX_MONTHS = 36;
+	private static final int THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	// 누적 배열 인덱스
+	private static final int COUNT = 0, STORED = 1, CURRENT = 2, PROPOSED = 3;
+
+	private final EsmateRepository esmateRepository;
+	private final FareSnapshotHolder fareSnapshotHolder;
+
+	private final Semaphore running = new Semaphore(1);
+	private final AtomicInteger threadSeq = new AtomicInteger();
+	private final ExecutorService workers = Executors.newFixedThreadPool(THREADS, r -> {
+		Thread t = new Thread(r, "fare-simulation-" + threadSeq.incrementAndGet());
+		t.setDaemon(true);
+		return t;
+	});
+
+	public FareSimulationDTO.Response simulate(FareSimulationDTO.Request request) {
+		if (!running.tryAcquire()) {
+			throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "다른 요금 시뮬레이션이 진행 중입니다. 잠시 후 다시 시도하세요");
+		}
+		try {
+			return run(request);
+		} finally {
+			running.release();
+		}
+	}
+
+	private FareSimulationDTO.Response run(FareSimulationDTO.Request request) {
+		long started = System.currentTimeMillis();
+		int months = Math.min(Math.max(request.getMonths(), 1), MAX_MONTHS);
+
+		FareSnapshot snapshot = fareSnapshotHolder.current();
+		FareTable current = FareTable.compile(snapshot);
+		FareTable proposed = FareTable.of(applyBasic(snapshot.basics(), request.getBasicChanges()),
+				applyExtra(snapshot.extras(), request.getExtraChanges()));
+
+		LocalDateTime since = LocalDateTime.now().minusMonths(months);
+		Map<String, long[]> totals = new ConcurrentHashMap<>();
+		LongAdder unpriced = new LongAdder();
+		Semaphore inFlight = new Semaphore(THREADS * 2);
+		List<Future<?>> futures = new ArrayList<>();
+
+		long afterEno = 0L;
+		while (true) {
+			List<EstimatePricingRow> chunk = esmateRepository.findPricingRowsAfter(since, afterEno, PageRequest.of(0, CHUNK));
+			if (chunk.isEmpty()) {
+				break;
+			}
+			afterEno = chunk.get(chunk.size() - 1).getEno();
+			inFlight.acquireUninterruptibly();
+			futures.add(workers.submit(() -> {
+				try {
+					priceChunk(chunk, current, proposed, totals, unpriced);
+				} finally {
+					inFlight.release();
+				}
+			}));
+			if (chunk.size() < CHUNK) {
+				break;
+			}
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("요금 시뮬레이션이 중단되었습니다", e);
+			} catch (ExecutionException e) {
+				throw new RuntimeException("요금 시뮬레이션 실패", e.getCause());
+			}
+		}
+
+		List<FareSimulationDTO.WeightClassDelta> rows = totals.entrySet().stream()
+				.map(e -> toDelta(e.getKey(), e.getValue()))
+				.sorted(Comparator.comparing(FareSimulationDTO.WeightClassDelta::getWeight))
+				.toList();
+		long[] sum = new long[4];
+		totals.values().forEach(acc -> {
+			for (int i = 0; i < sum.length; i++) {
+				sum[i] += acc[i];
+			}
+		});
+		long elapsed = System.currentTimeMillis() - started;
+		log.info("요금 시뮬레이션 - {}개월, 견적 {}건, {}ms", months, sum[COUNT], elapsed);
+
+		return FareSimulationDTO.Response.builder()
+				.months(months)
+				.estimates(sum[COUNT])
+				.unpriced(unpriced.sum())
+				.elapsedMs(elapsed)
+				.weightClasses(rows)
+				.total(toDelta("전체", sum))
+				.build();
+	}
+
+	private static void priceChunk(List<EstimatePricingRow> chunk, FareTable current, FareTable proposed,
+			Map<String, long[]> totals, LongAdder unpriced) {
+		// 청크 안에서는 지역 맵에 모았다가 끝에 한 번만 합친다
+		Map<String, long[]> local = new HashMap<>();
+		Map<String, int[]> classes = new HashMap<>();
+		for (EstimatePricingRow row : chunk) {
+			String weight = row.getCargoWeight() == null ? "" : row.getCargoWeight();
+			int[] cls = classes.computeIfAbsent(weight, w -> new int[] { current.weightClass(w), proposed.weightClass(w) });
+			if (cls[0] == FareTable.UNKNOWN && cls[1] == FareTable.UNKNOWN) {
+				unpriced.increment();
+				continue;
+			}
+			double km = row.getDistanceKm() == null ? 0 : row.getDistanceKm();
+			List<String> notes = EstimateService.splitNotes(row.getSpecialNotes());
+			String label = cls[0] != FareTable.UNKNOWN ? current.weightLabel(cls[0]) : proposed.weightLabel(cls[1]);
+
+			long[] acc = local.computeIfAbsent(label, k -> new long[4]);
+			acc[COUNT]++;
+			acc[STORED] += row.getTotalCost() == null ? 0 : row.getTotalCost();
+			if (cls[0] != FareTable.UNKNOWN) {
+				acc[CURRENT] += current.totalCost(cls[0], km, current.extrasMask(notes));
+			}
+			if (cls[1] != FareTable.UNKNOWN) {
+				acc[PROPOSED] += proposed.totalCost(cls[1], km, proposed.extrasMask(notes));
+			}
+		}
+		local.forEach((label, acc) -> totals.merge(label, acc, (a, b) -> {
+			synchronized (a) {
+				for (int i = 0; i < a.length; i++) {
+					a[i] += b[i];
+				}
+			}
+			return a;
+		}));
+	}
+
+	private static FareSimulationDTO.WeightClassDelta toDelta(String weight, long[] acc) {
+		long delta = acc[PROPOSED] - acc[CURRENT];
+		double pct = acc[CURRENT] == 0 ? 0 : Math.round(delta * 10000.0 / acc[CURRENT]) / 100.0;
+		return FareSimulationDTO.WeightClassDelta.builder()
+				.weight(weight)
+				.count(acc[COUNT])
+				.storedRevenue(acc[STORED])
+				.currentRevenue(acc[CURRENT])
+				.proposedRevenue(acc[PROPOSED])
+				.delta(delta)
+				.deltaPct(pct)
+				.build();
+	}
+
+	// 현재 요금표 + 변경안 (스냅샷 DTO 는 공유 객체이므로 복사본을 만든다)
+	private static List<FeesBasicDTO> applyBasic(List<FeesBasicDTO> basics, List<FareSimulationDTO.BasicChange> changes) {
+		Map<String, FeesBasicDTO> byWeight = new LinkedHashMap<>();
+		for (FeesBasicDTO b : basics) {
+			byWeight.put(trim(b.getWeight()), FeesBasicDTO.builder()
+					.weight(b.getWeight()).ratePerKm(b.getRatePerKm()).initialCharge(b.getInitialCharge()).build());
+		}
+		if (changes != null) {
+			for (FareSimulationDTO.BasicChange c : changes) {
+				String w = trim(c.getWeight());
+				if (w.isEmpty()) {
+					continue;
+				}
+				FeesBasicDTO b = byWeight.computeIfAbsent(w, k -> FeesBasicDTO.builder().weight(k).build());
+				if (c.getRatePerKm() != null) {
+					b.setRatePerKm(c.getRatePerKm());
+				}
+				if (c.getInitialCharge() != null) {
+					b.setInitialCharge(c.getInitialCharge());
+				}
+			}
+		}
+		return new ArrayList<>(byWeight.values());
+	}
+
+	private static List<FeesExtraDTO> applyExtra(List<FeesExtraDTO> extras, List<FareSimulationDTO.ExtraChange> changes) {
+		Map<String, FeesExtraDTO> byTitle = new LinkedHashMap<>();
+		for (FeesExtraDTO e : extras) {
+			byTitle.put(trim(e.getExtraChargeTitle()), FeesExtraDTO.builder()
+					.extraChargeTitle(e.getExtraChargeTitle()).extraCharge(e.getExtraCharge()).build());
+		}
+		if (changes != null) {
+			for (FareSimulationDTO.ExtraChange c : changes) {
+				String t = trim(c.getTitle());
+				if (t.isEmpty() || c.getExtraCharge() == null) {
+					continue;
+				}
+				byTitle.computeIfAbsent(t, k -> FeesExtraDTO.builder().extraChargeTitle(k).build())
+						.setExtraCharge(c.getExtraCharge());
+			}
+		}
+		return new ArrayList<>(byTitle.values());
+	}
+
+	private static String trim(String s) {
+		return s == null ? "" : s.trim();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		workers.shutdownNow();
+	}
+}
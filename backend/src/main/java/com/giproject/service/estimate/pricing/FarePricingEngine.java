@@ -0,0 +1,101 @@
+package com.giproject.service.estimate.pricing;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.estimate.QuoteBatchDTO;
+import com.giproject.dto.estimate.QuoteDTO;
+import com.giproject.service.fees.FareSnapshot;
+import com.giproject.service.fees.FareSnapshotHolder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서버 측 요금 계산기.
+ *
+ * 운송 시작 시각에 적용되는 요금표 스냅샷(예약 요금표 포함)을 고르고, 스냅샷 버전별로
+ * {@link FareTable} 을 한 번만 컴파일해 둔다. 그 외에는 DB 조회 없이 배열 계산만 한다.
+ * 예약 요금표가 적용되는 순간 요청이 몰려도 컴파일은 버전당 한 번(computeIfAbsent)뿐이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FarePricingEngine {
+
+	public static final int MAX_BATCH = 10_000;
+
+	private final FareSnapshotHolder fareSnapshotHolder;
+
+	private static final int MAX_COMPILED = 16;
+
+	private final Map<Long, FareTable> compiled = new ConcurrentHashMap<>();
+
+	public FareTable table() {
+		return table(null);
+	}
+
+	/** at 시각(null 이면 지금)에 적용되는 요금표 */
+	public FareTable table(LocalDateTime at) {
+		FareSnapshot snapshot = fareSnapshotHolder.at(at);
+		FareTable t = compiled.get(snapshot.version());
+		if (t != null) {
+			return t;
+		}
+		// 스냅샷을 교체할 때마다 버전이 바뀌므로 예전 버전은 주기적으로 비운다
+		if (compiled.size() >= MAX_COMPILED) {
+			compiled.clear();
+		}
+		return compiled.computeIfAbsent(snapshot.version(), v -> FareTable.compile(snapshot));
+	}
+
+	public QuoteDTO quote(String cargoWeight, double distanceKm, Collection<String> specialNotes) {
+		return quote(cargoWeight, distanceKm, specialNotes, null);
+	}
+
+	/** startTime: 운송 시작 시각. 그 시각에 적용되는 요금표로 계산 (null 이면 지금) */
+	public QuoteDTO quote(String cargoWeight, double distanceKm, Collection<String> specialNotes, LocalDateTime startTime) {
+		FareTable t = table(startTime);
+		return quote(t, t.weightClass(cargoWeight), distanceKm, t.extrasMask(specialNotes));
+	}
+
+	public QuoteBatchDTO.Response quoteAll(QuoteBatchDTO.Request request) {
+		FareTable t = table(request.getStartTime());
+		long mask = t.extrasMask(request.getSpecialNotes());
+		List<QuoteBatchDTO.Candidate> candidates = request.getCandidates() == null ? List.of() : request.getCandidates();
+		if (candidates.size() > MAX_BATCH) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_BATCH + "건까지 계산할 수 있습니다.");
+		}
+		// 후보마다 같은 중량 문자열이 반복되므로 등급 해석은 요청당 한 번
+		Map<String, Integer> classes = new HashMap<>();
+		List<QuoteDTO> quotes = new ArrayList<>(candidates.size());
+		for (QuoteBatchDTO.Candidate c : candidates) {
+			int weightClass = classes.computeIfAbsent(c.getCargoWeight() == null ? "" : c.getCargoWeight(), t::weightClass);
+			quotes.add(quote(t, weightClass, c.getDistanceKm(), mask));
+		}
+		return QuoteBatchDTO.Response.builder().fareVersion(t.version()).quotes(quotes).build();
+	}
+
+	private static QuoteDTO quote(FareTable t, int weightClass, double distanceKm, long mask) {
+		if (weightClass == FareTable.UNKNOWN) {
+			return QuoteDTO.builder().priced(false).build();
+		}
+		int base = t.baseCost(weightClass);
+		int distance = t.distanceCost(weightClass, distanceKm);
+		int special = t.specialOption(mask);
+		return QuoteDTO.builder()
+				.priced(true)
+				.baseCost(base)
+				.distanceCost(distance)
+				.specialOption(special)
+				.totalCost(base + distance + special)
+				.build();
+	}
+}
@@ -0,0 +1,176 @@
+package com.giproject.service.estimate.pricing;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giproject.dto.fees.FeesBasicDTO;
+import com.giproject.dto.fees.FeesExtraDTO;
+import com.giproject.service.fees.FareSnapshot;
+import com.giproject.utils.CargoWeightParser;
+
+/**
+ * 요금표 스냅샷을 계산용 배열로 컴파일한 불변 테이블.
+ *
+ * 금액은 모두 1/100원 단위 long 으로 보관 (fees_* 컬럼 scale = 2 이므로 손실 없음).
+ * 계산 경로에서는 BigDecimal 이나 DB 를 쓰지 않는다.
+ *
+ * - 중량 등급: 이름 → 인덱스, 등급별 ratePerKm / initialCharge
+ * - 추가요금: 이름 → 비트 위치, 여러 항목은 long 비트마스크로 넘긴다 (최대 64개)
+ */
+public final class FareTable {
+
+	public static final int UNKNOWN = -1;
+	private static final int MAX_EXTRAS = Long.SIZE;
+
+	private final long version;
+	private final Map<String, Integer> weightIndex;
+	private final String[] weightLabels;
+	private final long[] ratePerKmCenti;
+	private final long[] initialChargeCenti;
+	// 이름이 정확히 일치하지 않을 때 kg 로 가장 가까운 상위 등급을 찾기 위한 정렬 배열
+	private final int[] classKgSorted;
+	private final int[] classIdxByKg;
+
+	private final Map<String, Integer> extraBit;
+	private final long[] extraChargeCenti;
+
+	private FareTable(long version, List<FeesBasicDTO> basics, List<FeesExtraDTO> extras) {
+		this.version = version;
+
+		int n = basics.size();
+		this.weightIndex = new HashMap<>(n * 2);
+		this.weightLabels = new String[n];
+		this.ratePerKmCenti = new long[n];
+		this.initialChargeCenti = new long[n];
+		long[] kgIdx = new long[n];
+		int kgCount = 0;
+		for (int i = 0; i < n; i++) {
+			FeesBasicDTO b = basics.get(i);
+			weightLabels[i] = trim(b.getWeight());
+			weightIndex.putIfAbsent(weightLabels[i], i);
+			ratePerKmCenti[i] = centi(b.getRatePerKm());
+			initialChargeCenti[i] = centi(b.getInitialCharge());
+			Integer kg = CargoWeightParser.toKg(b.getWeight());
+			if (kg != null) {
+				kgIdx[kgCount++] = ((long) kg << 32) | i;
+			}
+		}
+		Arrays.sort(kgIdx, 0, kgCount);
+		this.classKgSorted = new int[kgCount];
+		this.classIdxByKg = new int[kgCount];
+		for (int i = 0; i < kgCount; i++) {
+			classKgSorted[i] = (int) (kgIdx[i] >>> 32);
+			classIdxByKg[i] = (int) kgIdx[i];
+		}
+
+		int m = Math.min(extras.size(), MAX_EXTRAS);
+		this.extraBit = new HashMap<>(m * 2);
+		this.extraChargeCenti = new long[m];
+		for (int i = 0; i < m; i++) {
+			FeesExtraDTO e = extras.get(i);
+			extraBit.putIfAbsent(trim(e.getExtraChargeTitle()), i);
+			extraChargeCenti[i] = centi(e.getExtraCharge());
+		}
+	}
+
+	public static FareTable compile(FareSnapshot snapshot) {
+		return new FareTable(snapshot.version(), snapshot.basics(), snapshot.extras());
+	}
+
+	/** 저장되지 않은 요금표(시뮬레이션용 가안)로 계산할 때. version 은 -1 */
+	public static FareTable of(List<FeesBasicDTO> basics, List<FeesExtraDTO> extras) {
+		return new FareTable(-1, basics, extras);
+	}
+
+	public long version() {
+		return version;
+	}
+
+	/**
+	 * 중량 문자열 → 등급 인덱스.
+	 * 요금표 이름과 정확히 같으면 그 등급, 아니면 kg 로 환산해 실을 수 있는 가장 작은 등급
+	 * (가장 큰 등급보다 무거우면 가장 큰 등급). 해석 불가면 {@link #UNKNOWN}.
+	 */
+	public int weightClass(String cargoWeight) {
+		Integer idx = weightIndex.get(trim(cargoWeight));
+		if (idx != null) {
+			return idx;
+		}
+		Integer kg = CargoWeightParser.toKg(cargoWeight);
+		if (kg == null || classKgSorted.length == 0) {
+			return UNKNOWN;
+		}
+		int pos = Arrays.binarySearch(classKgSorted, kg);
+		if (pos < 0) {
+			pos = Math.min(-pos - 1, classKgSorted.length - 1);
+		}
+		return classIdxByKg[pos];
+	}
+
+	public String weightLabel(int weightClass) {
+		return weightLabels[weightClass];
+	}
+
+	/** 추가요금 항목 이름들 → 비트마스크 (모르는 항목은 무시) */
+	public long extrasMask(Collection<String> titles) {
+		long mask = 0L;
+		if (titles != null) {
+			for (String title : titles) {
+				Integer bit = extraBit.get(trim(title));
+				if (bit != null) {
+					mask |= 1L << bit;
+				}
+			}
+		}
+		return mask;
+	}
+
+	/** 거리 요금 (원, 소수점 이하 버림) */
+	public int distanceCost(int weightClass, double distanceKm) {
+		return (int) (distanceKm * ratePerKmCenti[weightClass] / 100);
+	}
+
+	public int baseCost(int weightClass) {
+		return (int) (initialChargeCenti[weightClass] / 100);
+	}
+
+	public int specialOption(long extrasMask) {
+		long sum = 0;
+		long mask = extrasMask;
+		while (mask != 0) {
+			int bit = Long.numberOfTrailingZeros(mask);
+			if (bit < extraChargeCenti.length) {
+				sum += extraChargeCenti[bit];
+			}
+			mask &= mask - 1;
+		}
+		return (int) (sum / 100);
+	}
+
+	public int totalCost(int weightClass, double distanceKm, long extrasMask) {
+		return baseCost(weightClass) + distanceCost(weightClass, distanceKm) + specialOption(extrasMask);
+	}
+
+	/**
+	 * 같은 등급/추가요금으로 여러 경로를 한 번에 계산. 결과는 totalsOut 에 채운다 (할당 없음).
+	 */
+	public void totalCosts(int weightClass, long extrasMask, double[] distancesKm, int[] totalsOut) {
+		int fixed = baseCost(weightClass) + specialOption(extrasMask);
+		long rate = ratePerKmCenti[weightClass];
+		for (int i = 0; i < distancesKm.length; i++) {
+			totalsOut[i] = fixed + (int) (distancesKm[i] * rate / 100);
+		}
+	}
+
+	private static long centi(BigDecimal value) {
+		return value == null ? 0L : value.movePointRight(2).longValue();
+	}
+
+	private static String trim(String s) {
+		return s == null ? "" : s.trim();
+	}
+}
@@ -0,0 +1,161 @@
+package com.giproject.service.fees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 요금표 CSV 형식.
+ *
+ * 구분,항목,거리별 요금,기본 요금,추가요금
+ * 기본,1톤,1200,50000,
+ * 추가,냉동식품,,,10000
+ *
+ * - 구분은 "기본"/"basic", "추가"/"extra"
+ * - 금액의 천 단위 쉼표와 "원"은 무시 (쉼표가 들어간 값은 따옴표로 감싼다)
+ * - 오류는 모두 모아 행 번호와 함께 돌려주고, 하나라도 있으면 아무것도 저장하지 않는다
+ */
+public final class FareCsv {
+
+	public static final String HEADER = "구분,항목,거리별 요금,기본 요금,추가요금";
+	public static final int MAX_ROWS = 1_000;
+	private static final int MAX_NAME = 50;
+
+	public record BasicRow(String weight, BigDecimal ratePerKm, BigDecimal initialCharge) {}
+
+	public record ExtraRow(String title, BigDecimal extraCharge) {}
+
+	public record Parsed(List<BasicRow> basics, List<ExtraRow> extras, List<String> errors) {}
+
+	private FareCsv() {
+	}
+
+	public static Parsed parse(BufferedReader reader) throws IOException {
+		List<BasicRow> basics = new ArrayList<>();
+		List<ExtraRow> extras = new ArrayList<>();
+		List<String> errors = new ArrayList<>();
+		Set<String> seenBasic = new HashSet<>();
+		Set<String> seenExtra = new HashSet<>();
+
+		String line;
+		int lineNo = 0;
+		while ((line = reader.readLine()) != null) {
+			lineNo++;
+			if (lineNo == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+				line = line.substring(1);
+			}
+			if (line.isBlank() || (lineNo == 1 && line.startsWith("구분"))) {
+				continue;
+			}
+			if (basics.size() + extras.size() >= MAX_ROWS) {
+				errors.add("최대 " + MAX_ROWS + "행까지 가져올 수 있습니다");
+				break;
+			}
+			List<String> f = split(line);
+			String type = field(f, 0);
+			String name = field(f, 1);
+			if (name.isEmpty() || name.length() > MAX_NAME) {
+				errors.add(lineNo + "행: 항목 이름은 1~" + MAX_NAME + "자여야 합니다");
+				continue;
+			}
+			switch (type) {
+				case "기본", "basic" -> {
+					BigDecimal rate = amount(field(f, 2), lineNo, "거리별 요금", errors);
+					BigDecimal initial = amount(field(f, 3), lineNo, "기본 요금", errors);
+					if (!seenBasic.add(name)) {
+						errors.add(lineNo + "행: 중복된 중량입니다 - " + name);
+					} else if (rate != null && initial != null) {
+						basics.add(new BasicRow(name, rate, initial));
+					}
+				}
+				case "추가", "extra" -> {
+					BigDecimal charge = amount(field(f, 4), lineNo, "추가요금", errors);
+					if (!seenExtra.add(name)) {
+						errors.add(lineNo + "행: 중복된 추가요금 항목입니다 - " + name);
+					} else if (charge != null) {
+						extras.add(new ExtraRow(name, charge));
+					}
+				}
+				default -> errors.add(lineNo + "행: 구분은 '기본' 또는 '추가'여야 합니다 - " + type);
+			}
+		}
+		return new Parsed(basics, extras, errors);
+	}
+
+	public static void writeBasic(Writer out, String weight, BigDecimal ratePerKm, BigDecimal initialCharge) throws IOException {
+		out.write("기본," + escape(weight) + "," + plain(ratePerKm) + "," + plain(initialCharge) + ",\n");
+	}
+
+	public static void writeExtra(Writer out, String title, BigDecimal extraCharge) throws IOException {
+		out.write("추가," + escape(title) + ",,," + plain(extraCharge) + "\n");
+	}
+
+	private static BigDecimal amount(String value, int lineNo, String column, List<String> errors) {
+		String v = value.replace(",", "").replace("원", "").trim();
+		if (v.isEmpty()) {
+			errors.add(lineNo + "행: " + column + "이(가) 비어 있습니다");
+			return null;
+		}
+		try {
+			BigDecimal amount = new BigDecimal(v);
+			if (amount.signum() < 0 || amount.scale() > 2 || amount.precision() - amount.scale() > 10) {
+				errors.add(lineNo + "행: " + column + " 값이 범위를 벗어났습니다 - " + value);
+				return null;
+			}
+			return amount;
+		} catch (NumberFormatException e) {
+			errors.add(lineNo + "행: " + column + "이(가) 숫자가 아닙니다 - " + value);
+			return null;
+		}
+	}
+
+	private static String field(List<String> fields, int i) {
+		return i < fields.size() ? fields.get(i).trim() : "";
+	}
+
+	// 따옴표("...", 안의 "" 는 ") 를 지원하는 한 줄 분리
+	static List<String> split(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder sb = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					sb.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					sb.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(sb.toString());
+				sb.setLength(0);
+			} else {
+				sb.append(c);
+			}
+		}
+		fields.add(sb.toString());
+		return fields;
+	}
+
+	private static String escape(String value) {
+		String v = value == null ? "" : value;
+		if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0) {
+			return "\"" + v.replace("\"", "\"\"") + "\"";
+		}
+		return v;
+	}
+
+	private static String plain(BigDecimal value) {
+		return value == null ? "0" : value.stripTrailingZeros().toPlainString();
+	}
+}
@@ -0,0 +1,167 @@
+package com.giproject.service.fees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.fees.FareImportResultDTO;
+import com.giproject.dto.fees.FareScheduleDTO;
+import com.giproject.entity.fees.FareSchedule;
+import com.giproject.repository.fees.FareScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 요금표 예약.
+ *
+ * 예약은 저장과 동시에 {@link FareSnapshotHolder} 타임라인에 올라가므로 적용 시각부터 바로 계산에 쓰인다.
+ * 1분마다 적용 시각이 지난 예약을 fees_basic / fees_extra 에 반영하고 반영 완료로 표시한다
+ * (관리자 화면과 DB 를 실제 요금과 맞추는 후속 작업일 뿐, 요금 전환 자체는 타임라인이 한다).
+ * 반영에 실패한 예약은 실패 시각과 사유를 남기고 더 이상 재시도하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class FareScheduleService {
+
+	private final FareScheduleRepository fareScheduleRepository;
+	private final FeesBulkService feesBulkService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+
+	@Transactional(readOnly = true)
+	public List<FareScheduleDTO> list() {
+		return fareScheduleRepository.findAllByOrderByEffectiveFromDesc().stream().map(this::toDTO).toList();
+	}
+
+	@Transactional
+	public FareScheduleDTO create(String fareCsv, LocalDateTime effectiveFrom, String note) throws IOException {
+		if (effectiveFrom == null || !effectiveFrom.isAfter(LocalDateTime.now())) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "적용 시각은 현재 이후여야 합니다");
+		}
+		if (fareScheduleRepository.existsByEffectiveFrom(effectiveFrom)) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 시각에 예약된 요금표가 있습니다: " + effectiveFrom);
+		}
+		FareCsv.Parsed parsed = parse(fareCsv);
+		if (!parsed.errors().isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.join("\n", parsed.errors()));
+		}
+		if (parsed.basics().isEmpty() && parsed.extras().isEmpty()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "예약할 요금 행이 없습니다");
+		}
+		FareSchedule saved = fareScheduleRepository.save(FareSchedule.builder()
+				.effectiveFrom(effectiveFrom)
+				.fareCsv(fareCsv)
+				.note(note)
+				.createdAt(LocalDateTime.now())
+				.build());
+		eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.SCHEDULE));
+		return toDTO(saved);
+	}
+
+	@Transactional
+	public void cancel(Long id) {
+		FareSchedule schedule = fareScheduleRepository.findById(id)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "예약된 요금표가 없습니다: " + id));
+		if (schedule.getAppliedAt() != null || !schedule.getEffectiveFrom().isAfter(LocalDateTime.now())) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 적용된 요금표는 취소할 수 없습니다");
+		}
+		fareScheduleRepository.delete(schedule);
+		eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.SCHEDULE));
+	}
+
+	// 적용 시각이 지난 예약을 DB 에 반영. 같은 시각이 지난 예약이 여러 개면 순서대로 모두 반영.
+	// 예약마다 트랜잭션을 나눠, 하나가 실패해도 나머지 반영과 실패 기록은 커밋된다
+	@Scheduled(cron = "5 * * * * *")
+	public void applyDue() {
+		List<FareSchedule> due = fareScheduleRepository
+				.findByAppliedAtIsNullAndFailedAtIsNullAndEffectiveFromLessThanEqualOrderByEffectiveFromAsc(LocalDateTime.now());
+		for (FareSchedule schedule : due) {
+			String failure;
+			try {
+				failure = transactionTemplate.execute(status -> apply(schedule.getId()));
+			} catch (RuntimeException e) {
+				failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+			}
+			if (failure != null) {
+				// 같은 파일은 다시 돌려도 같은 오류가 나므로 실패로 표시하고 재시도하지 않는다
+				log.warn("예약 요금표 반영 실패 - id: {}: {}", schedule.getId(), failure);
+				markFailed(schedule.getId(), failure);
+			}
+		}
+	}
+
+	// 반영에 성공하면 null, 실패하면 사유
+	private String apply(Long id) {
+		FareSchedule schedule = fareScheduleRepository.findById(id).orElse(null);
+		if (schedule == null || schedule.getAppliedAt() != null || schedule.getFailedAt() != null) {
+			return null;
+		}
+		FareImportResultDTO result;
+		try {
+			result = feesBulkService.importCsv(new BufferedReader(new StringReader(schedule.getFareCsv())), true);
+		} catch (IOException e) {
+			return "IOException: " + e.getMessage();
+		}
+		if (!result.getErrors().isEmpty()) {
+			return String.join("\n", result.getErrors());
+		}
+		schedule.setAppliedAt(LocalDateTime.now());
+		log.info("예약 요금표 반영 - id: {}, 적용 시각: {}, 기본 {}건, 추가 {}건", schedule.getId(),
+				schedule.getEffectiveFrom(), result.getBasicUpserted(), result.getExtraUpserted());
+		return null;
+	}
+
+	private void markFailed(Long id, String reason) {
+		String trimmed = reason.length() > FareSchedule.FAILURE_REASON_LENGTH
+				? reason.substring(0, FareSchedule.FAILURE_REASON_LENGTH)
+				: reason;
+		try {
+			transactionTemplate.executeWithoutResult(status -> fareScheduleRepository.findById(id).ifPresent(s -> {
+				s.setFailedAt(LocalDateTime.now());
+				s.setFailureReason(trimmed);
+			}));
+		} catch (RuntimeException e) {
+			log.error("예약 요금표 실패 기록 실패 - id: {}", id, e);
+		}
+	}
+
+	private static FareCsv.Parsed parse(String fareCsv) throws IOException {
+		return FareCsv.parse(new BufferedReader(new StringReader(fareCsv == null ? "" : fareCsv)));
+	}
+
+	private FareScheduleDTO toDTO(FareSchedule schedule) {
+		int basics = 0;
+		int extras = 0;
+		try {
+			FareCsv.Parsed parsed = parse(schedule.getFareCsv());
+			basics = parsed.basics().size();
+			extras = parsed.extras().size();
+		} catch (IOException e) {
+			log.warn("예약 요금표 읽기 실패 - id: {}: {}", schedule.getId(), e.getMessage());
+		}
+		return FareScheduleDTO.builder()
+				.id(schedule.getId())
+				.effectiveFrom(schedule.getEffectiveFrom())
+				.note(schedule.getNote())
+				.status(schedule.getAppliedAt() != null ? "applied" : schedule.getFailedAt() != null ? "failed" : "pending")
+				.basicRows(basics)
+				.extraRows(extras)
+				.createdAt(schedule.getCreatedAt())
+				.appliedAt(schedule.getAppliedAt())
+				.failedAt(schedule.getFailedAt())
+				.failureReason(schedule.getFailureReason())
+				.build();
+	}
+}
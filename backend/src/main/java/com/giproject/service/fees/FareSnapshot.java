@@ -0,0 +1,112 @@
+package com.giproject.service.fees;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.giproject.dto.fees.FeesBasicDTO;
+import com.giproject.dto.fees.FeesExtraDTO;
+import com.giproject.entity.fees.FeesBasic;
+import com.giproject.entity.fees.FeesExtra;
+
+/**
+ * 요금표(fees_basic / fees_extra) 한 시점의 불변 스냅샷.
+ *
+ * 조회 화면에 필요한 형태(견적 화면 목록, 관리자 그리드 문자열)를 미리 만들어 두고
+ * 변경이 있을 때만 새 스냅샷으로 통째로 교체한다. 읽는 쪽은 잠금 없이 공유한다.
+ * 목록 안의 DTO 도 공유되므로 꺼내 쓰는 쪽에서 수정하면 안 된다.
+ */
+public record FareSnapshot(
+		long version,
+		String etag,
+		List<FeesBasicDTO> basics,              // ratePerKm 오름차순 (견적 화면 순서)
+		List<FeesExtraDTO> extras,
+		List<String> basicRows,                 // 중량 이름 정렬
+		List<String> extraRows,                 // 추가요금 항목 이름 정렬
+		Map<String, List<String>> basicCells,   // 중량 → [거리별 요금, 기본 요금]
+		Map<String, String> extraCells) {       // 항목 → 추가요금
+
+	static FareSnapshot of(long version, String bootId, List<FeesBasic> basicRows, List<FeesExtra> extraRows) {
+		List<FeesBasicDTO> basics = basicRows.stream()
+				.map(FareSnapshot::toDTO)
+				.sorted(Comparator.comparing(FeesBasicDTO::getRatePerKm, Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder())))
+				.toList();
+		List<FeesExtraDTO> extras = extraRows.stream().map(FareSnapshot::toDTO).toList();
+
+		Map<String, List<String>> basicCells = new LinkedHashMap<>();
+		for (FeesBasicDTO b : basics) {
+			String w = trim(b.getWeight());
+			if (!w.isEmpty()) {
+				basicCells.putIfAbsent(w, List.of(plain(b.getRatePerKm()), plain(b.getInitialCharge())));
+			}
+		}
+		Map<String, String> extraCells = new LinkedHashMap<>();
+		for (FeesExtraDTO e : extras) {
+			String t = trim(e.getExtraChargeTitle());
+			if (!t.isEmpty()) {
+				extraCells.putIfAbsent(t, plain(e.getExtraCharge()));
+			}
+		}
+
+		return new FareSnapshot(
+				version,
+				"\"fees-" + bootId + "-" + version + "\"",
+				basics,
+				extras,
+				basicCells.keySet().stream().sorted().toList(),
+				extraCells.keySet().stream().sorted().toList(),
+				Map.copyOf(basicCells),
+				Map.copyOf(extraCells));
+	}
+
+	/** 관리자 그리드: rows 순서대로 [거리별 요금, 기본 요금], 없는 행은 빈 칸 */
+	public List<List<String>> basicGrid(List<String> rows) {
+		List<List<String>> grid = new ArrayList<>(rows.size());
+		for (String w : rows) {
+			List<String> cells = basicCells.get(trim(w));
+			grid.add(new ArrayList<>(cells != null ? cells : List.of("", "")));
+		}
+		return grid;
+	}
+
+	/** 관리자 그리드: rows 순서대로 [추가요금], 없는 행은 빈 칸 */
+	public List<List<String>> extraGrid(List<String> rows) {
+		List<List<String>> grid = new ArrayList<>(rows.size());
+		for (String t : rows) {
+			grid.add(new ArrayList<>(List.of(Objects.requireNonNullElse(extraCells.get(trim(t)), ""))));
+		}
+		return grid;
+	}
+
+	private static FeesBasicDTO toDTO(FeesBasic entity) {
+		return FeesBasicDTO.builder()
+				.tno(entity.getTno())
+				.weight(entity.getWeight())
+				.ratePerKm(entity.getRatePerKm())
+				.initialCharge(entity.getInitialCharge())
+				.updatedAt(entity.getUpdatedAt())
+				.cargoImage(entity.getCargoImage())
+				.build();
+	}
+
+	private static FeesExtraDTO toDTO(FeesExtra entity) {
+		return FeesExtraDTO.builder()
+				.exno(entity.getExno())
+				.extraChargeTitle(entity.getExtraChargeTitle())
+				.extraCharge(entity.getExtraCharge())
+				.updatedAt(entity.getUpdatedAt())
+				.build();
+	}
+
+	private static String plain(BigDecimal value) {
+		return value == null ? "" : value.stripTrailingZeros().toPlainString();
+	}
+
+	private static String trim(String s) {
+		return s == null ? "" : s.trim();
+	}
+}
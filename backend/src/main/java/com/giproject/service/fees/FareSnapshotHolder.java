@@ -0,0 +1,161 @@
+package com.giproject.service.fees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.giproject.dto.fees.FeesBasicDTO;
+import com.giproject.dto.fees.FeesExtraDTO;
+import com.giproject.entity.fees.FareSchedule;
+import com.giproject.entity.fees.FeesBasic;
+import com.giproject.entity.fees.FeesExtra;
+import com.giproject.repository.fees.FareScheduleRepository;
+import com.giproject.repository.fees.FeesBasicRepository;
+import com.giproject.repository.fees.FeesExtraRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 요금표 스냅샷 보관소.
+ *
+ * - 기동 시 한 번 적재, 이후 {@link FeesChangedEvent} 커밋 후 새로 만들어 원자적으로 교체
+ * - 버전은 교체할 때마다 1씩 증가, ETag 에는 기동 시각을 섞어 재시작 후 충돌하지 않게 한다
+ * - 적용 대기 중인 예약 요금표({@link FareSchedule})도 미리 스냅샷으로 만들어
+ *   적용 시각 → 스냅샷 타임라인(TreeMap)에 올려 둔다. 시각별 조회는 floorEntry 한 번이고,
+ *   적용 시각이 되면 DB 반영을 기다리지 않고 바로 새 요금표가 보인다
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class FareSnapshotHolder {
+
+	private final FeesBasicRepository feesBasicRepository;
+	private final FeesExtraRepository feesExtraRepository;
+	private final FareScheduleRepository fareScheduleRepository;
+
+	private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+	private final AtomicLong version = new AtomicLong();
+	private final AtomicReference<NavigableMap<LocalDateTime, FareSnapshot>> timeline = new AtomicReference<>();
+
+	/** 지금 적용되는 요금표 */
+	public FareSnapshot current() {
+		return at(LocalDateTime.now());
+	}
+
+	/** at 시각에 적용되는 요금표 (null 이면 현재) */
+	public FareSnapshot at(LocalDateTime at) {
+		NavigableMap<LocalDateTime, FareSnapshot> t = timeline.get();
+		if (t == null) {
+			t = reload();
+		}
+		return t.floorEntry(at != null ? at : LocalDateTime.now()).getValue();
+	}
+
+	/** 적용 시각 → 스냅샷 (첫 항목은 LocalDateTime.MIN 의 현재 DB 요금표) */
+	public NavigableMap<LocalDateTime, FareSnapshot> timeline() {
+		NavigableMap<LocalDateTime, FareSnapshot> t = timeline.get();
+		return t != null ? t : reload();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		reload();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onChanged(FeesChangedEvent event) {
+		reload();
+	}
+
+	// 동시에 여러 변경이 커밋돼도 마지막에 읽은 상태가 가장 높은 버전으로 남도록 직렬화
+	private synchronized NavigableMap<LocalDateTime, FareSnapshot> reload() {
+		FareSnapshot base = FareSnapshot.of(version.incrementAndGet(), bootId,
+				feesBasicRepository.findAll(), feesExtraRepository.findAll());
+		NavigableMap<LocalDateTime, FareSnapshot> next = new TreeMap<>();
+		next.put(LocalDateTime.MIN, base);
+
+		// 예약은 직전 요금표 위에 차례로 덮어쓴다 (파일에 없는 구분은 직전 그대로)
+		FareSnapshot prev = base;
+		for (FareSchedule schedule : fareScheduleRepository.findByAppliedAtIsNullOrderByEffectiveFromAsc()) {
+			try {
+				FareCsv.Parsed parsed = FareCsv.parse(new BufferedReader(new StringReader(schedule.getFareCsv())));
+				prev = overlay(prev, parsed);
+				next.put(schedule.getEffectiveFrom(), prev);
+			} catch (IOException e) {
+				log.warn("예약 요금표 읽기 실패 - id: {}: {}", schedule.getId(), e.getMessage());
+			}
+		}
+		timeline.set(Collections.unmodifiableNavigableMap(next));
+		log.info("요금표 스냅샷 교체 - version: {}, 기본 {}건, 추가 {}건, 예약 {}건",
+				base.version(), base.basics().size(), base.extras().size(), next.size() - 1);
+		return next;
+	}
+
+	private FareSnapshot overlay(FareSnapshot prev, FareCsv.Parsed parsed) {
+		List<FeesBasic> basics;
+		if (parsed.basics().isEmpty()) {
+			basics = prev.basics().stream().map(FareSnapshotHolder::toEntity).toList();
+		} else {
+			// 차량 이미지 등 CSV 에 없는 값은 같은 중량의 직전 값을 유지
+			Map<String, FeesBasicDTO> byWeight = new HashMap<>();
+			prev.basics().forEach(b -> byWeight.put(b.getWeight(), b));
+			basics = parsed.basics().stream().map(row -> {
+				FeesBasicDTO old = byWeight.get(row.weight());
+				return FeesBasic.builder()
+						.tno(old != null ? old.getTno() : null)
+						.weight(row.weight())
+						.ratePerKm(row.ratePerKm())
+						.initialCharge(row.initialCharge())
+						.cargoImage(old != null ? old.getCargoImage() : null)
+						.build();
+			}).toList();
+		}
+		List<FeesExtra> extras;
+		if (parsed.extras().isEmpty()) {
+			extras = prev.extras().stream().map(FareSnapshotHolder::toEntity).toList();
+		} else {
+			extras = parsed.extras().stream()
+					.map(row -> FeesExtra.builder().extraChargeTitle(row.title()).extraCharge(row.extraCharge()).build())
+					.toList();
+		}
+		return FareSnapshot.of(version.incrementAndGet(), bootId, basics, extras);
+	}
+
+	private static FeesBasic toEntity(FeesBasicDTO dto) {
+		return FeesBasic.builder()
+				.tno(dto.getTno())
+				.weight(dto.getWeight())
+				.ratePerKm(dto.getRatePerKm())
+				.initialCharge(dto.getInitialCharge())
+				.updatedAt(dto.getUpdatedAt())
+				.cargoImage(dto.getCargoImage())
+				.build();
+	}
+
+	private static FeesExtra toEntity(FeesExtraDTO dto) {
+		return FeesExtra.builder()
+				.exno(dto.getExno())
+				.extraChargeTitle(dto.getExtraChargeTitle())
+				.extraCharge(dto.getExtraCharge())
+				.updatedAt(dto.getUpdatedAt())
+				.build();
+	}
+}
@@ -7,8 +7,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,7 +19,6 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +27,8 @@ import java.util.stream.Collectors;
 public class FeesBasicServiceImpl implements FeesBasicService {
 
 	private final FeesBasicRepository feesBasicRepository;
+	private final FareSnapshotHolder fareSnapshotHolder;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	@Value("${file.upload-dir:../uploads}")
 	private String uploadDir;
@@ -37,32 +39,18 @@ public class FeesBasicServiceImpl implements FeesBasicService {
 		return s == null ? "" : s.trim();
 	}
 
+	// 조회는 요금표 스냅샷에서 (DB 조회 없음, 트랜잭션·커넥션을 새로 열지 않음)
 	@Override
-	@Transactional(readOnly = true)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<String> getRowNames() {
-		return feesBasicRepository.findDistinctWeights().stream().filter(Objects::nonNull).map(String::trim)
-				.filter(s -> !s.isEmpty()).sorted().collect(Collectors.toList());
+		return new ArrayList<>(fareSnapshotHolder.current().basicRows());
 	}
 
 	@Override
-	@Transactional(readOnly = true)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<List<String>> getGrid() {
-		List<String> rows = getRowNames();
-		Map<String, FeesBasic> byWeight = feesBasicRepository.findAll().stream().filter(e -> e.getWeight() != null)
-				.collect(Collectors.toMap(e -> e.getWeight().trim(), e -> e, (a, b) -> a));
-
-		List<List<String>> grid = new ArrayList<>();
-		for (String w : rows) {
-			FeesBasic fb = byWeight.get(w);
-			String perKm = (fb != null && fb.getRatePerKm() != null)
-					? fb.getRatePerKm().stripTrailingZeros().toPlainString()
-					: "";
-			String base = (fb != null && fb.getInitialCharge() != null)
-					? fb.getInitialCharge().stripTrailingZeros().toPlainString()
-					: "";
-			grid.add(new ArrayList<>(List.of(perKm, base)));
-		}
-		return grid;
+		FareSnapshot snapshot = fareSnapshotHolder.current();
+		return snapshot.basicGrid(snapshot.basicRows());
 	}
 
 	@Override
@@ -81,7 +69,9 @@ public class FeesBasicServiceImpl implements FeesBasicService {
 			fb.setInitialCharge(price == null ? BigDecimal.ZERO : price);
 		}
 		fb.setUpdatedAt(LocalDateTime.now());
-		return entityToDTO(feesBasicRepository.save(fb));
+		FeesBasicDTO saved = entityToDTO(feesBasicRepository.save(fb));
+		eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.BASIC));
+		return saved;
 	}
 
 	@Override
@@ -91,6 +81,7 @@ public class FeesBasicServiceImpl implements FeesBasicService {
 			return;
 		feesBasicRepository.findByWeight(w).orElseGet(() -> feesBasicRepository.save(FeesBasic.builder().weight(w)
 				.ratePerKm(BigDecimal.ZERO).initialCharge(BigDecimal.ZERO).updatedAt(LocalDateTime.now()).build()));
+		eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.BASIC));
 	}
 
 	@Override
@@ -99,12 +90,13 @@ public class FeesBasicServiceImpl implements FeesBasicService {
 		if (w.isEmpty())
 			return;
 		feesBasicRepository.deleteByWeight(w);
+		eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.BASIC));
 	}
 
 	@Override
-	@Transactional(readOnly = true)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<FeesBasicDTO> findAllAsDto() {
-		return feesBasicRepository.findAll().stream().map(this::entityToDTO).collect(Collectors.toList());
+		return new ArrayList<>(fareSnapshotHolder.current().basics());
 	}
 
 	@Override
@@ -129,6 +121,7 @@ public class FeesBasicServiceImpl implements FeesBasicService {
 			    // DB에는 현재 컨벤션 유지: /g2i4/uploads/{fileName}
 			    basic.setCargoImage("/g2i4/uploads/" + fileName);
 			    feesBasicRepository.save(basic);
+			    eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.BASIC));
 
 			    return Map.of("이미지 업로드 성공", "success");
 			  } catch (Exception e) {
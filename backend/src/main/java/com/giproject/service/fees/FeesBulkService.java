@@ -0,0 +1,138 @@
+package com.giproject.service.fees;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.giproject.dto.fees.FareImportResultDTO;
+import com.giproject.dto.fees.FeesBasicDTO;
+import com.giproject.dto.fees.FeesExtraDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 요금표 전체를 CSV 로 한 번에 가져오기/내보내기.
+ *
+ * 가져오기는 검증을 모두 통과해야 한 트랜잭션 안에서 JDBC 배치로 upsert 하고,
+ * 변경 이벤트를 한 번만 발행해 스냅샷도 한 번만 교체된다 (셀 단위 저장 수백 번 → 요청 한 번).
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class FeesBulkService {
+
+	private static final String UPSERT_BASIC = """
+			INSERT INTO fees_basic (weight, rate_per_km, initial_charge, updated_at)
+			VALUES (?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE rate_per_km = VALUES(rate_per_km), initial_charge = VALUES(initial_charge),
+			                        updated_at = VALUES(updated_at)
+			""";
+	private static final String UPSERT_EXTRA = """
+			INSERT INTO fees_extra (extra_charge_title, extra_charge, updated_at)
+			VALUES (?, ?, ?)
+			ON DUPLICATE KEY UPDATE extra_charge = VALUES(extra_charge), updated_at = VALUES(updated_at)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final FareSnapshotHolder fareSnapshotHolder;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * replace 면 파일에 없는 행을 삭제해 파일과 똑같이 맞춘다.
+	 * 단, 파일에 해당 구분(기본/추가) 행이 하나도 없으면 그 표는 건드리지 않는다.
+	 */
+	@Transactional
+	public FareImportResultDTO importCsv(InputStream in, boolean replace) throws IOException {
+		return importCsv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), replace);
+	}
+
+	@Transactional
+	public FareImportResultDTO importCsv(BufferedReader reader, boolean replace) throws IOException {
+		FareCsv.Parsed parsed = FareCsv.parse(reader);
+		if (!parsed.errors().isEmpty()) {
+			return FareImportResultDTO.builder().errors(parsed.errors()).build();
+		}
+		if (parsed.basics().isEmpty() && parsed.extras().isEmpty()) {
+			return FareImportResultDTO.builder().errors(List.of("가져올 요금 행이 없습니다")).build();
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(UPSERT_BASIC, parsed.basics(), parsed.basics().size(), (ps, row) -> {
+			ps.setString(1, row.weight());
+			ps.setBigDecimal(2, row.ratePerKm());
+			ps.setBigDecimal(3, row.initialCharge());
+			ps.setTimestamp(4, now);
+		});
+		jdbcTemplate.batchUpdate(UPSERT_EXTRA, parsed.extras(), parsed.extras().size(), (ps, row) -> {
+			ps.setString(1, row.title());
+			ps.setBigDecimal(2, row.extraCharge());
+			ps.setTimestamp(3, now);
+		});
+
+		int basicDeleted = 0;
+		int extraDeleted = 0;
+		if (replace) {
+			// 스냅샷은 예약 요금표일 수 있으므로 삭제 대상은 DB 기준
+			if (!parsed.basics().isEmpty()) {
+				Set<String> keep = parsed.basics().stream().map(FareCsv.BasicRow::weight).collect(Collectors.toSet());
+				List<String> stale = jdbcTemplate.queryForList("SELECT weight FROM fees_basic", String.class).stream()
+						.filter(w -> !keep.contains(w)).toList();
+				basicDeleted = deleteAll("DELETE FROM fees_basic WHERE weight = ?", stale);
+			}
+			if (!parsed.extras().isEmpty()) {
+				Set<String> keep = parsed.extras().stream().map(FareCsv.ExtraRow::title).collect(Collectors.toSet());
+				List<String> stale = jdbcTemplate.queryForList("SELECT extra_charge_title FROM fees_extra", String.class).stream()
+						.filter(t -> !keep.contains(t)).toList();
+				extraDeleted = deleteAll("DELETE FROM fees_extra WHERE extra_charge_title = ?", stale);
+			}
+		}
+
+		// 커밋 후 스냅샷 한 번 교체
+		eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.ALL));
+		log.info("요금표 일괄 가져오기 - 기본 {}건, 추가 {}건, 삭제 {}/{}건",
+				parsed.basics().size(), parsed.extras().size(), basicDeleted, extraDeleted);
+		return FareImportResultDTO.builder()
+				.basicUpserted(parsed.basics().size())
+				.extraUpserted(parsed.extras().size())
+				.basicDeleted(basicDeleted)
+				.extraDeleted(extraDeleted)
+				.errors(List.of())
+				.build();
+	}
+
+	/** 현재 스냅샷을 CSV 로 한 줄씩 기록 (DB 조회 없음) */
+	public void exportCsv(Writer out) throws IOException {
+		FareSnapshot snapshot = fareSnapshotHolder.current();
+		out.write('\uFEFF'); // 엑셀에서 UTF-8 로 열리도록
+		out.write(FareCsv.HEADER + "\n");
+		for (FeesBasicDTO b : snapshot.basics()) {
+			FareCsv.writeBasic(out, b.getWeight(), b.getRatePerKm(), b.getInitialCharge());
+		}
+		for (FeesExtraDTO e : snapshot.extras()) {
+			FareCsv.writeExtra(out, e.getExtraChargeTitle(), e.getExtraCharge());
+		}
+		out.flush();
+	}
+
+	private int deleteAll(String sql, List<String> keys) {
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		jdbcTemplate.batchUpdate(sql, keys, keys.size(), (ps, key) -> ps.setString(1, key));
+		return keys.size();
+	}
+}
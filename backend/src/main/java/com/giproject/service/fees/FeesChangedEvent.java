@@ -0,0 +1,12 @@
+package com.giproject.service.fees;
+
+/**
+ * 요금표가 바뀌었음을 알리는 이벤트. 커밋 후 {@link FareSnapshotHolder} 가 스냅샷을 다시 만든다.
+ */
+public record FeesChangedEvent(String table) {
+
+	public static final String BASIC = "fees_basic";
+	public static final String EXTRA = "fees_extra";
+	public static final String ALL = "all";
+	public static final String SCHEDULE = "fare_schedule";
+}
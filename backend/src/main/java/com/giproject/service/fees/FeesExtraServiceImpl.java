@@ -5,13 +5,14 @@ import com.giproject.entity.fees.FeesExtra;
 import com.giproject.repository.fees.FeesExtraRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,35 +21,23 @@ import java.util.stream.Collectors;
 public class FeesExtraServiceImpl implements FeesExtraService {
 
 	private final FeesExtraRepository extraRepository;
+	private final FareSnapshotHolder fareSnapshotHolder;
+	private final ApplicationEventPublisher eventPublisher;
 
     private static String trim(String s) { return s == null ? "" : s.trim(); }
 
+    // 조회는 요금표 스냅샷에서 (DB 조회 없음, 트랜잭션·커넥션을 새로 열지 않음)
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<String> getRowNames() {
-        return extraRepository.findDistinctTitles().stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .sorted()
-                .collect(Collectors.toList());
+        return new ArrayList<>(fareSnapshotHolder.current().extraRows());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<List<String>> getGrid() {
-        List<String> rows = getRowNames();
-        Map<String, FeesExtra> byTitle = extraRepository.findAll().stream()
-                .filter(e -> e.getExtraChargeTitle() != null)
-                .collect(Collectors.toMap(e -> e.getExtraChargeTitle().trim(), e -> e, (a, b) -> a));
-
-        List<List<String>> grid = new ArrayList<>();
-        for (String t : rows) {
-            FeesExtra fe = byTitle.get(t);
-            String price = (fe != null && fe.getExtraCharge() != null) ? fe.getExtraCharge().stripTrailingZeros().toPlainString() : "";
-            grid.add(new ArrayList<>(List.of(price)));
-        }
-        return grid;
+        FareSnapshot snapshot = fareSnapshotHolder.current();
+        return snapshot.extraGrid(snapshot.extraRows());
     }
 
     @Override
@@ -64,7 +53,9 @@ public class FeesExtraServiceImpl implements FeesExtraService {
 
         fe.setExtraCharge(price == null ? BigDecimal.ZERO : price);
         fe.setUpdatedAt(LocalDateTime.now());
-        return entityToDTO(extraRepository.save(fe));
+        FeesExtraDTO saved = entityToDTO(extraRepository.save(fe));
+        eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.EXTRA));
+        return saved;
     }
 
     @Override
@@ -78,6 +69,7 @@ public class FeesExtraServiceImpl implements FeesExtraService {
                         .updatedAt(LocalDateTime.now())
                         .build())
         );
+        eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.EXTRA));
     }
 
     @Override
@@ -85,13 +77,12 @@ public class FeesExtraServiceImpl implements FeesExtraService {
         String t = trim(title);
         if (t.isEmpty()) return;
         extraRepository.deleteByExtraChargeTitle(t);
+        eventPublisher.publishEvent(new FeesChangedEvent(FeesChangedEvent.EXTRA));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<FeesExtraDTO> findAllAsDto() {
-        return extraRepository.findAll().stream()
-                .map(this::entityToDTO)
-                .collect(Collectors.toList());
+        return new ArrayList<>(fareSnapshotHolder.current().extras());
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.giproject.service.kakaomap;
+
+/**
+ * 연속 실패 횟수 기반 서킷 브레이커.
+ *
+ * - CLOSED: 정상. 연속 {@code failureThreshold}회 실패하면 OPEN
+ * - OPEN: {@code openMillis} 동안 호출을 바로 거절
+ * - HALF_OPEN: OPEN 시간이 지나면 한 건만 시험 호출을 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+class CircuitBreaker {
+
+	enum State { CLOSED, OPEN, HALF_OPEN }
+
+	private final int failureThreshold;
+	private final long openMillis;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean probing;
+
+	CircuitBreaker(int failureThreshold, long openMillis) {
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openMillis;
+	}
+
+	/** 호출해도 되는지. HALF_OPEN 에서는 시험 호출 한 건만 true */
+	synchronized boolean tryAcquire() {
+		if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+			state = State.HALF_OPEN;
+			probing = false;
+		}
+		return switch (state) {
+			case CLOSED -> true;
+			case OPEN -> false;
+			case HALF_OPEN -> {
+				if (probing) {
+					yield false;
+				}
+				probing = true;
+				yield true;
+			}
+		};
+	}
+
+	synchronized void onSuccess() {
+		consecutiveFailures = 0;
+		probing = false;
+		state = State.CLOSED;
+	}
+
+	synchronized void onFailure() {
+		consecutiveFailures++;
+		probing = false;
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+		}
+	}
+
+	synchronized State state() {
+		return state;
+	}
+}
@@ -0,0 +1,171 @@
+package com.giproject.service.kakaomap;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.giproject.dto.kakaomap.GeoPoint;
+import com.giproject.entity.kakaomap.GeocodeCacheEntry;
+import com.giproject.repository.kakaomap.GeocodeCacheRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 주소 → 좌표 2단 캐시.
+ *
+ * - 1차: 메모리 LRU (최대 {@value #MAX_ENTRIES}건, 7일 TTL). 검색 결과가 없던 주소도 10분간 기억
+ * - 2차: geocode_cache 테이블 (90일 TTL). 재시작 직후에도 자주 쓰는 주소는 API 를 타지 않는다
+ * - 키는 정규화한 주소 (공백/유니코드 정규화, 대소문자 무시)
+ * - 호출자 트랜잭션 안에서는 2차 캐시를 건너뛴다. 실패한 조회가 호출자 트랜잭션을 rollback-only 로 만들거나,
+ *   커넥션을 잡은 채 저장용 커넥션을 하나 더 꺼내지 않도록
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class GeocodeCache {
+
+	static final int MAX_ENTRIES = 10_000;
+	private static final long TTL_MS = 7L * 24 * 60 * 60 * 1000;
+	private static final long NEGATIVE_TTL_MS = 10L * 60 * 1000;
+	private static final int PERSISTENT_TTL_DAYS = 90;
+	private static final Pattern SPACES = Pattern.compile("\\s+");
+
+	private final GeocodeCacheRepository geocodeCacheRepository;
+
+	private record Entry(GeoPoint point, long expiresAt) {}
+
+	// 접근 순서 LinkedHashMap = LRU. 조회도 순서를 바꾸므로 모든 접근을 동기화
+	private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private final LongAdder memoryHits = new LongAdder();
+	private final LongAdder persistentHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder loadErrors = new LongAdder();
+
+	public static String normalize(String address) {
+		if (address == null) {
+			return "";
+		}
+		String s = Normalizer.normalize(address, Normalizer.Form.NFC);
+		return SPACES.matcher(s.trim()).replaceAll(" ").toLowerCase();
+	}
+
+	public interface Loader {
+		Optional<GeoPoint> load(String address) throws Exception;
+	}
+
+	/** 캐시에 없으면 loader 로 읽어 두 단계 모두에 저장 */
+	public Optional<GeoPoint> get(String address, Loader loader) throws Exception {
+		String key = normalize(address);
+		if (key.isEmpty()) {
+			return Optional.empty();
+		}
+		long now = System.currentTimeMillis();
+		Entry cached;
+		synchronized (entries) {
+			cached = entries.get(key);
+			if (cached != null && cached.expiresAt() < now) {
+				entries.remove(key);
+				cached = null;
+			}
+		}
+		if (cached != null) {
+			memoryHits.increment();
+			return Optional.ofNullable(cached.point());
+		}
+
+		boolean persistent = !TransactionSynchronizationManager.isActualTransactionActive();
+		Optional<GeoPoint> stored = persistent ? findPersistent(key) : Optional.empty();
+		if (stored.isPresent()) {
+			persistentHits.increment();
+			put(key, stored.get(), now + TTL_MS);
+			return stored;
+		}
+
+		misses.increment();
+		Optional<GeoPoint> loaded;
+		try {
+			loaded = loader.load(address);
+		} catch (Exception e) {
+			loadErrors.increment();
+			throw e;
+		}
+		if (loaded.isPresent()) {
+			put(key, loaded.get(), now + TTL_MS);
+			if (persistent) {
+				savePersistent(key, loaded.get());
+			}
+		} else {
+			put(key, null, now + NEGATIVE_TTL_MS);
+		}
+		return loaded;
+	}
+
+	public Map<String, Object> stats() {
+		long memory = memoryHits.sum();
+		long persistent = persistentHits.sum();
+		long miss = misses.sum();
+		long total = memory + persistent + miss;
+		int size;
+		synchronized (entries) {
+			size = entries.size();
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("requests", total);
+		stats.put("memoryHits", memory);
+		stats.put("persistentHits", persistent);
+		stats.put("misses", miss);
+		stats.put("loadErrors", loadErrors.sum());
+		stats.put("hitRate", total == 0 ? 0.0 : Math.round((memory + persistent) * 10000.0 / total) / 10000.0);
+		stats.put("memorySize", size);
+		stats.put("memoryCapacity", MAX_ENTRIES);
+		return stats;
+	}
+
+	private void put(String key, GeoPoint point, long expiresAt) {
+		synchronized (entries) {
+			entries.put(key, new Entry(point, expiresAt));
+		}
+	}
+
+	// 2차 캐시 장애는 API 호출로 대신하고 요청은 계속 진행
+	private Optional<GeoPoint> findPersistent(String key) {
+		try {
+			return geocodeCacheRepository
+					.findByAddressKeyAndUpdatedAtAfter(key, LocalDateTime.now().minusDays(PERSISTENT_TTL_DAYS))
+					.map(e -> new GeoPoint(e.getLng(), e.getLat()));
+		} catch (RuntimeException e) {
+			log.warn("geocode_cache 조회 실패 - {}: {}", key, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void savePersistent(String key, GeoPoint point) {
+		if (key.length() > 255) {
+			return;
+		}
+		try {
+			geocodeCacheRepository.save(GeocodeCacheEntry.builder()
+					.addressKey(key)
+					.lat(point.lat())
+					.lng(point.lng())
+					.updatedAt(LocalDateTime.now())
+					.build());
+		} catch (RuntimeException e) {
+			log.warn("geocode_cache 저장 실패 - {}: {}", key, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.giproject.service.kakaomap;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giproject.dto.kakaomap.GeoPoint;
+
+/**
+ * 카카오 로컬(주소 검색) / 모빌리티(길찾기) API 호출.
+ * HttpClient, ObjectMapper 는 스레드 안전하므로 하나씩만 만들어 재사용한다.
+ * 연결 2초 / 응답 4초 타임아웃. 호출 스레드 관리와 서킷 브레이커는 {@link MapClient} 가 맡는다.
+ */
+@Component
+public class KakaoMapProvider implements MapProvider {
+
+	private static final String KAKAO_API_KEY = "KakaoAK d381d00137ba5677a3ee0355c4c95abf";
+	private static final String COORD_URL = "https://dapi.kakao.com/v2/local/search/address.json?query=";
+	private static final String DIRECTIONS_URL = "https://apis-navi.kakaomobility.com/v1/directions";
+
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(4);
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(CONNECT_TIMEOUT)
+			.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Override
+	public Optional<GeoPoint> geocode(String address) throws Exception {
+		String body = get(COORD_URL + URLEncoder.encode(address, StandardCharsets.UTF_8));
+		JsonNode documents = objectMapper.readTree(body).path("documents");
+		if (documents.isEmpty()) {
+			return Optional.empty();
+		}
+		JsonNode first = documents.get(0);
+		return Optional.of(new GeoPoint(first.path("x").asDouble(), first.path("y").asDouble()));
+	}
+
+	@Override
+	public Route directions(GeoPoint start, GeoPoint end) throws Exception {
+		String url = DIRECTIONS_URL
+				+ "?origin=" + start.lng() + "," + start.lat()
+				+ "&destination=" + end.lng() + "," + end.lat();
+		JsonNode route = objectMapper.readTree(get(url)).path("routes").get(0);
+		JsonNode summary = route.path("summary");
+		int distance = summary.path("distance").asInt();
+		int duration = summary.path("duration").asInt();
+
+		// 좌표 path 추출 (vertexes 는 [x1, y1, x2, y2, ...]). 박싱 없이 그대로 이어 붙인다
+		double[] path = new double[256];
+		int n = 0;
+		for (JsonNode section : route.path("sections")) {
+			for (JsonNode road : section.path("roads")) {
+				JsonNode vertexes = road.path("vertexes");
+				int len = vertexes.size() & ~1;
+				if (n + len > path.length) {
+					path = Arrays.copyOf(path, Math.max(path.length * 2, n + len));
+				}
+				for (int i = 0; i < len; i++) {
+					path[n++] = vertexes.get(i).asDouble();
+				}
+			}
+		}
+		return Route.of(distance, duration, Arrays.copyOf(path, n));
+	}
+
+	private String get(String url) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+				.timeout(REQUEST_TIMEOUT)
+				.header("Authorization", KAKAO_API_KEY)
+				.GET()
+				.build();
+		HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() / 100 != 2) {
+			throw new IllegalStateException("카카오 API 오류 (HTTP " + response.statusCode() + ")");
+		}
+		return response.body();
+	}
+}
@@ -0,0 +1,123 @@
+package com.giproject.service.kakaomap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.kakaomap.DistanceDTO;
+import com.giproject.dto.kakaomap.GeoPoint;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 주소 → 좌표 변환과 경로 조회.
+ * 견적 등록 시 출발지 좌표 저장과 경로 조회에서 함께 사용한다.
+ * 좌표 변환은 {@link GeocodeCache}, 경로는 {@link RouteCache} 를 거치고,
+ * 실제 API 호출은 {@link MapClient} (타임아웃/벌크헤드/서킷 브레이커) 를 통해 {@link MapProvider} 가 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class KakaoMapService {
+
+	private final MapClient mapClient;
+	private final GeocodeCache geocodeCache;
+	private final RouteCache routeCache;
+	private final RegionMatrixStore regionMatrixStore;
+
+	/** 주소 검색 결과의 첫 번째 좌표. 결과가 없으면 empty */
+	public Optional<GeoPoint> geocode(String address) throws Exception {
+		return geocodeCache.get(address, mapClient::geocode);
+	}
+
+	/** 견적 등록처럼 실패해도 진행해야 하는 경로에서 사용. 오류는 로그만 남긴다 */
+	public Optional<GeoPoint> geocodeQuietly(String address) {
+		if (address == null || address.isBlank()) {
+			return Optional.empty();
+		}
+		try {
+			return geocode(address);
+		} catch (Exception e) {
+			log.warn("주소 좌표 변환 실패 - {}: {}", address, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/** 요청 스레드를 붙잡지 않는 좌표 변환 (실패는 empty) */
+	public CompletableFuture<Optional<GeoPoint>> geocodeAsync(String address) {
+		return mapClient.async(() -> geocodeQuietly(address));
+	}
+
+	/** 출발지/도착지 좌표 변환을 동시에 실행한 뒤 경로 조회 */
+	public Route directions(String startAddress, String endAddress) throws Exception {
+		CompletableFuture<Optional<GeoPoint>> startFuture = mapClient.async(() -> geocode(startAddress));
+		CompletableFuture<Optional<GeoPoint>> endFuture = mapClient.async(() -> geocode(endAddress));
+		GeoPoint start = join(startFuture)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "출발지 주소를 찾을 수 없습니다: " + startAddress));
+		GeoPoint end = join(endFuture)
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "도착지 주소를 찾을 수 없습니다: " + endAddress));
+		return routeCache.get(start, end, mapClient::directions);
+	}
+
+	/** 요청 스레드를 바로 돌려주기 위한 비동기 버전 (컨트롤러용) */
+	public CompletableFuture<Route> directionsAsync(String startAddress, String endAddress) {
+		return mapClient.async(() -> directions(startAddress, endAddress));
+	}
+
+	/** 지역 간 거리 행렬의 근사 거리. 행렬에 없는 지역 쌍이면 empty */
+	public Optional<DistanceDTO> approximateDistance(String startAddress, String endAddress) {
+		return regionMatrixStore.lookup(startAddress, endAddress)
+				.map(cell -> DistanceDTO.builder()
+						.distanceKm(cell.distanceKm())
+						.durationSec(cell.durationSec())
+						.source("matrix")
+						.samples(cell.samples())
+						.build());
+	}
+
+	/** exact 가 아니면 행렬 근사값을 바로 주고, 없거나 exact 면 실제 경로 조회 */
+	public CompletableFuture<DistanceDTO> distanceAsync(String startAddress, String endAddress, boolean exact) {
+		if (!exact) {
+			Optional<DistanceDTO> approx = approximateDistance(startAddress, endAddress);
+			if (approx.isPresent()) {
+				return CompletableFuture.completedFuture(approx.get());
+			}
+		}
+		return directionsAsync(startAddress, endAddress)
+				.thenApply(route -> DistanceDTO.builder()
+						.distanceKm(Math.round(route.distance() / 100.0) / 10.0)
+						.durationSec(route.duration())
+						.source("live")
+						.build());
+	}
+
+	private static <T> T join(CompletableFuture<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public Map<String, Object> geocodeStats() {
+		return geocodeCache.stats();
+	}
+
+	public Map<String, Object> cacheStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("geocode", geocodeCache.stats());
+		stats.put("route", routeCache.stats());
+		stats.put("client", mapClient.stats());
+		return stats;
+	}
+}
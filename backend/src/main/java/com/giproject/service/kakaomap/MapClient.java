@@ -0,0 +1,130 @@
+package com.giproject.service.kakaomap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.kakaomap.GeoPoint;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 외부 지도 API 호출 창구. {@link MapProvider} 호출을 가상 스레드에서 실행하고
+ * - 타임아웃: 호출 하나당 {@value #CALL_TIMEOUT_MS}ms 를 넘기면 504
+ * - 벌크헤드: 동시 호출 {@value #MAX_CONCURRENT}건까지. 자리가 안 나면 503
+ * - 서킷 브레이커: 연속 5회 실패하면 30초간 바로 503 (느린 API 를 계속 두드리지 않는다)
+ * 로 감싸 외부 API 가 느려져도 요청 스레드가 묶이지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class MapClient {
+
+	static final long CALL_TIMEOUT_MS = 5_000;
+	static final int MAX_CONCURRENT = 32;
+	private static final long BULKHEAD_WAIT_MS = 500;
+
+	private final MapProvider mapProvider;
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Semaphore bulkhead = new Semaphore(MAX_CONCURRENT);
+	private final CircuitBreaker breaker = new CircuitBreaker(5, 30_000);
+
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder timeouts = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public Optional<GeoPoint> geocode(String address) throws Exception {
+		return call("geocode", () -> mapProvider.geocode(address));
+	}
+
+	public Route directions(GeoPoint start, GeoPoint end) throws Exception {
+		return call("directions", () -> mapProvider.directions(start, end));
+	}
+
+	/** 작업을 가상 스레드에서 실행. 예외는 감싸지 않고 그대로 future 에 담는다 */
+	public <T> CompletableFuture<T> async(Callable<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		executor.execute(() -> {
+			try {
+				future.complete(task.call());
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
+	private <T> T call(String operation, Callable<T> task) throws Exception {
+		if (!bulkhead.tryAcquire(BULKHEAD_WAIT_MS, TimeUnit.MILLISECONDS)) {
+			rejected.increment();
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "지도 서비스 요청이 많습니다. 잠시 후 다시 시도해 주세요");
+		}
+		if (!breaker.tryAcquire()) {
+			bulkhead.release();
+			rejected.increment();
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "지도 서비스가 일시적으로 응답하지 않습니다");
+		}
+		calls.increment();
+		Future<T> future = executor.submit(task);
+		try {
+			T result = future.get(CALL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+			breaker.onSuccess();
+			return result;
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			timeouts.increment();
+			breaker.onFailure();
+			log.warn("지도 API {} 시간 초과 ({}ms)", operation, CALL_TIMEOUT_MS);
+			throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "지도 서비스 응답 시간이 초과되었습니다");
+		} catch (ExecutionException e) {
+			failures.increment();
+			breaker.onFailure();
+			Throwable cause = e.getCause();
+			log.warn("지도 API {} 실패: {}", operation, cause.getMessage());
+			if (cause instanceof Exception ex) {
+				throw ex;
+			}
+			throw e;
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw e;
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("circuit", breaker.state().name());
+		stats.put("calls", calls.sum());
+		stats.put("failures", failures.sum());
+		stats.put("timeouts", timeouts.sum());
+		stats.put("rejected", rejected.sum());
+		stats.put("inFlight", MAX_CONCURRENT - bulkhead.availablePermits());
+		return stats;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+}
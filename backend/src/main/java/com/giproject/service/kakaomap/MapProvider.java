@@ -0,0 +1,18 @@
+package com.giproject.service.kakaomap;
+
+import java.util.Optional;
+
+import com.giproject.dto.kakaomap.GeoPoint;
+
+/**
+ * 외부 지도 API 호출부. 운영은 {@link KakaoMapProvider}, 테스트에서는 스텁으로 교체한다.
+ * 캐시는 이 바깥({@link KakaoMapService})에서 처리하므로 구현체는 호출만 책임진다.
+ */
+public interface MapProvider {
+
+	/** 주소 → 좌표. 검색 결과가 없으면 empty */
+	Optional<GeoPoint> geocode(String address) throws Exception;
+
+	/** 두 좌표 사이 자동차 경로 (거리 m, 소요 시간 초, 경로 좌표) */
+	Route directions(GeoPoint start, GeoPoint end) throws Exception;
+}
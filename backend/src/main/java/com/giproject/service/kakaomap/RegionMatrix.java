@@ -0,0 +1,126 @@
+package com.giproject.service.kakaomap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지역(시/도 + 구) 쌍별 대표 거리/소요 시간 행렬. 파일을 메모리 매핑해 읽기만 한다.
+ *
+ * 파일 형식 (big-endian)
+ * - 헤더: magic "RGMX", version(int), 지역 수 n(int), 생성 시각 epoch ms(long)
+ * - 지역 이름 n개: 길이(short) + UTF-8 바이트
+ * - 행렬 n*n 칸: 거리 0.1km 단위(int), 소요 시간 초(int), 표본 수(int). 거리 0 = 데이터 없음
+ *
+ * 지역 이름 → 번호 맵만 힙에 올리고 칸 값은 매핑된 버퍼에서 바로 읽는다.
+ */
+public final class RegionMatrix {
+
+	private static final int MAGIC = 0x52474D58; // "RGMX"
+	private static final int VERSION = 1;
+	private static final int CELL_BYTES = 12;
+
+	public record Cell(double distanceKm, int durationSec, int samples) {}
+
+	private final Map<String, Integer> regionIndex;
+	private final ByteBuffer cells;
+	private final int size;
+	private final long builtAt;
+
+	private RegionMatrix(Map<String, Integer> regionIndex, ByteBuffer cells, int size, long builtAt) {
+		this.regionIndex = regionIndex;
+		this.cells = cells;
+		this.size = size;
+		this.builtAt = builtAt;
+	}
+
+	public static RegionMatrix map(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buf.getInt() != MAGIC || buf.getInt() != VERSION) {
+				throw new IOException("지역 거리 행렬 파일 형식이 아닙니다: " + file);
+			}
+			int n = buf.getInt();
+			long builtAt = buf.getLong();
+			Map<String, Integer> index = new HashMap<>(n * 2);
+			for (int i = 0; i < n; i++) {
+				byte[] name = new byte[buf.getShort()];
+				buf.get(name);
+				index.put(new String(name, StandardCharsets.UTF_8), i);
+			}
+			if (buf.remaining() < (long) n * n * CELL_BYTES) {
+				throw new IOException("지역 거리 행렬 파일이 손상되었습니다: " + file);
+			}
+			// 매핑은 채널을 닫아도 유지된다
+			ByteBuffer cells = buf.slice();
+			return new RegionMatrix(Map.copyOf(index), cells, n, builtAt);
+		}
+	}
+
+	/**
+	 * regions 순서대로 n*n 칸을 기록. 임시 파일에 쓴 뒤 이름을 바꾸므로 읽는 쪽이 반쯤 쓴 파일을 보지 않는다.
+	 * file 은 새 파일이어야 한다 (매핑 중인 파일은 Windows 에서 덮어쓸 수 없으므로 버전마다 다른 이름, {@link RegionMatrixStore}).
+	 * distanceDeciKm/durationSec/samples 는 [from * n + to] 위치 값
+	 */
+	public static void write(Path file, List<String> regions, int[] distanceDeciKm, int[] durationSec, int[] samples)
+			throws IOException {
+		int n = regions.size();
+		Path dir = file.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		Path tmp = Files.createTempFile(dir, "region-matrix", ".tmp");
+		try (OutputStream out = Files.newOutputStream(tmp)) {
+			ByteBuffer header = ByteBuffer.allocate(20);
+			header.putInt(MAGIC).putInt(VERSION).putInt(n).putLong(System.currentTimeMillis());
+			out.write(header.array());
+			for (String region : regions) {
+				byte[] name = region.getBytes(StandardCharsets.UTF_8);
+				out.write(ByteBuffer.allocate(2).putShort((short) name.length).array());
+				out.write(name);
+			}
+			ByteBuffer row = ByteBuffer.allocate(n * CELL_BYTES);
+			for (int from = 0; from < n; from++) {
+				row.clear();
+				for (int to = 0; to < n; to++) {
+					int i = from * n + to;
+					row.putInt(distanceDeciKm[i]).putInt(durationSec[i]).putInt(samples[i]);
+				}
+				out.write(row.array());
+			}
+		}
+		Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	public Optional<Cell> lookup(String fromRegion, String toRegion) {
+		Integer from = regionIndex.get(fromRegion);
+		Integer to = regionIndex.get(toRegion);
+		if (from == null || to == null) {
+			return Optional.empty();
+		}
+		// 절대 위치 읽기만 하므로 여러 스레드가 같은 버퍼를 써도 안전
+		int offset = (from * size + to) * CELL_BYTES;
+		int deciKm = cells.getInt(offset);
+		if (deciKm == 0) {
+			return Optional.empty();
+		}
+		return Optional.of(new Cell(deciKm / 10.0, cells.getInt(offset + 4), cells.getInt(offset + 8)));
+	}
+
+	public int regions() {
+		return size;
+	}
+
+	public long builtAt() {
+		return builtAt;
+	}
+}
@@ -0,0 +1,227 @@
+package com.giproject.service.kakaomap;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.giproject.repository.estimate.EsmateRepository;
+import com.giproject.repository.estimate.EstimateRouteRow;
+import com.giproject.service.address.AddressService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 지역 간 거리 행렬 파일 관리.
+ *
+ * - 기동 시 파일이 있으면 메모리 매핑해 두고, 견적 등록/거리 조회에서 지도 API 없이 근사 거리를 준다
+ * - 파일은 요청 경로 밖에서(관리자 재생성) 과거 견적 거리의 지역 쌍별 평균으로 만든다 (쌍마다 합계/건수만 누적)
+ * - 재생성은 매번 새 이름(region-matrix.<생성시각>.bin)으로 쓰고 참조를 바꾼다. 매핑 중인 파일은 Windows 에서
+ *   덮어쓰거나 지울 수 없으므로, 이전 파일은 지울 수 있을 때(다음 재생성/기동 시) 정리한다
+ * - 견적에는 소요 시간이 저장되지 않으므로 소요 시간은 평균 {@value #AVERAGE_SPEED_KMH}km/h 로 환산한 근사값
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class RegionMatrixStore {
+
+	static final int AVERAGE_SPEED_KMH = 60;
+	private static final int CHUNK = 5_000;
+
+	private final EsmateRepository esmateRepository;
+	private final AddressService addressService;
+
+	@Value("${region-matrix.path:data/region-matrix.bin}")
+	private String matrixPath;
+
+	private final AtomicReference<RegionMatrix> current = new AtomicReference<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		Path file = versionFiles().stream().findFirst().orElse(Paths.get(matrixPath));
+		if (!Files.exists(file)) {
+			log.info("지역 거리 행렬 파일 없음 - {} (관리자 재생성 전까지 실시간 경로만 사용)", file.toAbsolutePath());
+			return;
+		}
+		try {
+			RegionMatrix matrix = RegionMatrix.map(file);
+			current.set(matrix);
+			log.info("지역 거리 행렬 로드 - {}, 지역 {}개", file.getFileName(), matrix.regions());
+			deleteStale(file);
+		} catch (IOException e) {
+			log.warn("지역 거리 행렬 로드 실패 - {}: {}", file, e.getMessage());
+		}
+	}
+
+	/** 주소 → 행렬 키 (정식 시/도 명칭 + 시/군/구) */
+	public String regionOf(String address) {
+		return addressService.region(address);
+	}
+
+	public Optional<RegionMatrix.Cell> lookup(String startAddress, String endAddress) {
+		RegionMatrix matrix = current.get();
+		if (matrix == null) {
+			return Optional.empty();
+		}
+		return matrix.lookup(regionOf(startAddress), regionOf(endAddress));
+	}
+
+	/** 과거 견적으로 행렬 파일을 다시 만들고 교체 */
+	public synchronized Map<String, Object> rebuild() throws IOException {
+		long started = System.currentTimeMillis();
+		Map<String, Map<String, PairStat>> samples = new HashMap<>();
+		TreeSet<String> regions = new TreeSet<>();
+		long rows = 0;
+		long afterEno = 0L;
+		while (true) {
+			List<EstimateRouteRow> chunk = esmateRepository.findRouteRowsAfter(afterEno, PageRequest.of(0, CHUNK));
+			for (EstimateRouteRow row : chunk) {
+				String from = regionOf(row.getStartAddress());
+				String to = regionOf(row.getEndAddress());
+				if (from.isEmpty() || to.isEmpty()) {
+					continue;
+				}
+				regions.add(from);
+				regions.add(to);
+				samples.computeIfAbsent(from, k -> new HashMap<>())
+						.computeIfAbsent(to, k -> new PairStat())
+						.add(row.getDistanceKm());
+				rows++;
+			}
+			if (chunk.size() < CHUNK) {
+				break;
+			}
+			afterEno = chunk.get(chunk.size() - 1).getEno();
+		}
+
+		List<String> names = new ArrayList<>(regions);
+		Map<String, Integer> index = new HashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			index.put(names.get(i), i);
+		}
+		int n = names.size();
+		int[] distance = new int[n * n];
+		int[] duration = new int[n * n];
+		int[] count = new int[n * n];
+		int pairs = 0;
+		for (var fromEntry : samples.entrySet()) {
+			int from = index.get(fromEntry.getKey());
+			for (var toEntry : fromEntry.getValue().entrySet()) {
+				int cell = from * n + index.get(toEntry.getKey());
+				PairStat stat = toEntry.getValue();
+				double km = stat.mean();
+				distance[cell] = Math.max(1, (int) Math.round(km * 10));
+				duration[cell] = (int) Math.round(km * 3600 / AVERAGE_SPEED_KMH);
+				count[cell] = stat.count;
+				pairs++;
+			}
+		}
+
+		Path file = versionFile(System.currentTimeMillis());
+		RegionMatrix.write(file, names, distance, duration, count);
+		current.set(RegionMatrix.map(file));
+		deleteStale(file);
+
+		long elapsed = System.currentTimeMillis() - started;
+		log.info("지역 거리 행렬 재생성 - 견적 {}건, 지역 {}개, 지역 쌍 {}개, {}ms", rows, n, pairs, elapsed);
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("estimates", rows);
+		result.put("regions", n);
+		result.put("pairs", pairs);
+		result.put("fileBytes", Files.size(file));
+		result.put("elapsedMs", elapsed);
+		return result;
+	}
+
+	/** 지역 쌍별 누적 (표본을 모아 두지 않는다) */
+	private static final class PairStat {
+		private double sum;
+		private int count;
+
+		void add(double km) {
+			sum += km;
+			count++;
+		}
+
+		double mean() {
+			return sum / count;
+		}
+	}
+
+	// data/region-matrix.bin → data/region-matrix.<버전>.bin
+	private Path versionFile(long version) {
+		Path base = Paths.get(matrixPath).toAbsolutePath();
+		return base.resolveSibling(stem(base) + "." + version + extension(base));
+	}
+
+	/** 버전 파일 목록 (최신 순) */
+	private List<Path> versionFiles() {
+		Path base = Paths.get(matrixPath).toAbsolutePath();
+		Path dir = base.getParent();
+		if (dir == null || !Files.isDirectory(dir)) {
+			return List.of();
+		}
+		Pattern name = Pattern.compile(Pattern.quote(stem(base)) + "\\.(\\d+)" + Pattern.quote(extension(base)));
+		try (Stream<Path> files = Files.list(dir)) {
+			return files
+					.filter(f -> name.matcher(f.getFileName().toString()).matches())
+					.sorted(Comparator.comparingLong((Path f) -> version(name, f)).reversed())
+					.toList();
+		} catch (IOException e) {
+			log.warn("지역 거리 행렬 폴더 조회 실패 - {}: {}", dir, e.getMessage());
+			return List.of();
+		}
+	}
+
+	// 사용 중인 파일 외에는 지운다. 아직 매핑이 남은 파일(Windows)은 실패하므로 다음 기회에
+	private void deleteStale(Path inUse) {
+		List<Path> stale = new ArrayList<>(versionFiles());
+		stale.add(Paths.get(matrixPath).toAbsolutePath()); // 버전 도입 전 파일
+		for (Path f : stale) {
+			if (f.equals(inUse.toAbsolutePath())) {
+				continue;
+			}
+			try {
+				Files.deleteIfExists(f);
+			} catch (IOException e) {
+				log.debug("이전 지역 거리 행렬 파일 삭제 보류 - {}: {}", f.getFileName(), e.getMessage());
+			}
+		}
+	}
+
+	private static long version(Pattern name, Path file) {
+		Matcher m = name.matcher(file.getFileName().toString());
+		return m.matches() ? Long.parseLong(m.group(1)) : 0L;
+	}
+
+	private static String stem(Path file) {
+		String name = file.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		return dot < 0 ? name : name.substring(0, dot);
+	}
+
+	private static String extension(Path file) {
+		String name = file.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		return dot < 0 ? "" : name.substring(dot);
+	}
+}
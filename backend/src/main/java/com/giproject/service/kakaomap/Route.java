@@ -0,0 +1,42 @@
+package com.giproject.service.kakaomap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.giproject.dto.kakaomap.KakaoMapCompactDTO;
+import com.giproject.dto.kakaomap.KakaoMapDTO;
+import com.giproject.utils.PolylineCodec;
+
+/**
+ * 경로 조회 결과 (캐시 보관용).
+ * 좌표는 박싱 없는 [경도, 위도, ...] 배열로 들고, 압축 응답용 polyline 은 만들 때 한 번만 인코딩한다.
+ */
+public record Route(int distance, int duration, double[] path, String polyline) {
+
+	public static Route of(int distance, int duration, double[] path) {
+		return new Route(distance, duration, path, PolylineCodec.encode(path));
+	}
+
+	public int points() {
+		return path.length / 2;
+	}
+
+	/** 기존 응답 형식 ([[경도, 위도], ...]) */
+	public KakaoMapDTO toDTO() {
+		List<List<Double>> list = new ArrayList<>(points());
+		for (int i = 0; i + 1 < path.length; i += 2) {
+			list.add(List.of(path[i], path[i + 1]));
+		}
+		return new KakaoMapDTO(distance, duration, list);
+	}
+
+	public KakaoMapCompactDTO toCompactDTO() {
+		return KakaoMapCompactDTO.builder()
+				.distance(distance)
+				.duration(duration)
+				.points(points())
+				.precision(PolylineCodec.PRECISION)
+				.polyline(polyline)
+				.build();
+	}
+}
@@ -0,0 +1,94 @@
+package com.giproject.service.kakaomap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.giproject.dto.kakaomap.GeoPoint;
+
+/**
+ * 출발/도착 좌표 쌍 → 경로 결과 메모리 LRU.
+ *
+ * - 키는 1e-5도(≒1m) 단위로 반올림한 좌표 쌍. 주소 표기가 달라도 같은 지점이면 같은 경로를 쓴다
+ * - 소요 시간이 교통 상황에 따라 바뀌므로 TTL 은 30분
+ * - 경로 좌표는 double[] 로 보관해 경로 하나에 수천 개씩 생기던 Double/List 객체를 없앴다
+ */
+@Component
+public class RouteCache {
+
+	static final int MAX_ENTRIES = 2_000;
+	private static final long TTL_MS = 30L * 60 * 1000;
+
+	private record Key(long startLng, long startLat, long endLng, long endLat) {
+		static Key of(GeoPoint start, GeoPoint end) {
+			return new Key(round(start.lng()), round(start.lat()), round(end.lng()), round(end.lat()));
+		}
+
+		private static long round(double v) {
+			return Math.round(v * 1e5);
+		}
+	}
+
+	private record Entry(Route route, long expiresAt) {}
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public interface Loader {
+		Route load(GeoPoint start, GeoPoint end) throws Exception;
+	}
+
+	public Route get(GeoPoint start, GeoPoint end, Loader loader) throws Exception {
+		Key key = Key.of(start, end);
+		long now = System.currentTimeMillis();
+		synchronized (entries) {
+			Entry cached = entries.get(key);
+			if (cached != null && cached.expiresAt() >= now) {
+				hits.increment();
+				return cached.route();
+			}
+			if (cached != null) {
+				entries.remove(key);
+			}
+		}
+		misses.increment();
+		// API 호출은 락 밖에서. 같은 경로가 동시에 들어오면 중복 호출될 수 있지만 결과는 같다
+		Route route = loader.load(start, end);
+		synchronized (entries) {
+			entries.put(key, new Entry(route, now + TTL_MS));
+		}
+		return route;
+	}
+
+	public Map<String, Object> stats() {
+		long hit = hits.sum();
+		long miss = misses.sum();
+		long total = hit + miss;
+		int size;
+		long points = 0;
+		synchronized (entries) {
+			size = entries.size();
+			for (Entry e : entries.values()) {
+				points += e.route().points();
+			}
+		}
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("requests", total);
+		stats.put("hits", hit);
+		stats.put("misses", miss);
+		stats.put("hitRate", total == 0 ? 0.0 : Math.round(hit * 10000.0 / total) / 10000.0);
+		stats.put("memorySize", size);
+		stats.put("memoryCapacity", MAX_ENTRIES);
+		stats.put("cachedPoints", points);
+		return stats;
+	}
+}
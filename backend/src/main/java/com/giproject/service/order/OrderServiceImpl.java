@@ -1,5 +1,6 @@
 package com.giproject.service.order;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.giproject.dto.order.OrderFormDTO;
@@ -12,6 +13,9 @@ import com.giproject.entity.member.Member;
 import com.giproject.entity.order.OrderSheet;
 import com.giproject.repository.matching.MatchingRepository;
 import com.giproject.repository.order.OrderRepository;
+import com.giproject.service.delivery.DriverJobChangedEvent;
+
+import jakarta.transaction.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +25,7 @@ public class OrderServiceImpl implements OrderService{
 	
 	private final OrderRepository orderRepository;
 	private final MatchingRepository matchingRepository;
+	private final ApplicationEventPublisher eventPublisher;
 	 
 	@Override
 	public OrderFormDTO loadOrderForm(Long matchingNo) {
@@ -64,11 +69,13 @@ public class OrderServiceImpl implements OrderService{
 				
 	}
 
+	@Transactional
 	@Override
 	public Long placeOrderFromPayment(OrderSheetDTO dto,Long matchingNo) {
 		Matching matching= matchingRepository.findById(dto.getMatchingNo()).orElseThrow();
 		OrderSheet sheet = dtoToEntity(dto, matching);
 		OrderSheet ordersheet= orderRepository.save(sheet);
+		eventPublisher.publishEvent(new DriverJobChangedEvent(matching.getMatchingNo()));
 		return ordersheet.getOrderNo();
 	}
 
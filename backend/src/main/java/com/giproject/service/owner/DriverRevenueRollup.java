@@ -0,0 +1,133 @@
+package com.giproject.service.owner;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.repository.owner.DriverRevenueDailyRepository;
+import com.giproject.repository.owner.DriverRevenueMonthlyRepository;
+import com.giproject.repository.owner.RevenueSourceRow;
+import com.giproject.service.delivery.DeliveryStatusChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 기사 매출 집계 (driver_revenue_daily / driver_revenue_monthly) 유지.
+ *
+ * - 배송완료 이벤트를 커밋 전(@EventListener)에 받아 완료일/완료월 행에 매출을 더한다 (INSERT ... ON DUPLICATE KEY UPDATE).
+ *   완료 전이는 상태 머신이 배송마다 한 번만 일으키고, 같은 트랜잭션이라 롤백되면 증가분도 같이 사라진다
+ * - 테이블이 비어 있으면 기동 시, 그 외에는 관리자 요청으로 배송 원본에서 전체를 다시 만든다
+ * - 두 작업은 revenue_rollup_lock 의 한 행으로 직렬화한다. 증가분은 공유 잠금, 재구성은 배타 잠금을 잡고
+ *   커밋까지 유지하므로, 재구성은 진행 중인 완료 트랜잭션이 모두 커밋된 뒤에 원본을 읽고
+ *   재구성 중에 완료된 배송은 재구성이 커밋된 뒤에 더해진다 (지워지거나 두 번 더해지지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+@Log4j2
+public class DriverRevenueRollup {
+
+    private static final int BATCH = 1_000;
+
+    private static final String UPSERT_DAILY = """
+            INSERT INTO driver_revenue_daily (cargo_id, day, revenue, deliveries) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE revenue = revenue + VALUES(revenue), deliveries = deliveries + VALUES(deliveries)
+            """;
+    private static final String UPSERT_MONTHLY = """
+            INSERT INTO driver_revenue_monthly (cargo_id, ym, revenue, deliveries) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE revenue = revenue + VALUES(revenue), deliveries = deliveries + VALUES(deliveries)
+            """;
+    // 월 집계는 일 집계에서 만든다
+    private static final String MONTHLY_FROM_DAILY = """
+            INSERT INTO driver_revenue_monthly (cargo_id, ym, revenue, deliveries)
+            SELECT cargo_id, YEAR(day) * 100 + MONTH(day), SUM(revenue), SUM(deliveries)
+            FROM driver_revenue_daily
+            GROUP BY cargo_id, YEAR(day) * 100 + MONTH(day)
+            """;
+    private static final String LOCK_NAME = "driver_revenue";
+    private static final String LOCK_SHARED = "SELECT name FROM revenue_rollup_lock WHERE name = ? LOCK IN SHARE MODE";
+    private static final String LOCK_EXCLUSIVE = "SELECT name FROM revenue_rollup_lock WHERE name = ? FOR UPDATE";
+    private static final String CREATE_LOCK = "INSERT IGNORE INTO revenue_rollup_lock (name) VALUES (?)";
+
+    private final DriverRevenueDailyRepository dailyRepository;
+    private final DriverRevenueMonthlyRepository monthlyRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onDeliveryChanged(DeliveryStatusChangedEvent event) {
+        if (event.to() != DeliveryStatus.COMPLETED) {
+            return;
+        }
+        lock(LOCK_SHARED);
+        dailyRepository.findSource(event.deliveryNo())
+                .filter(row -> row.getCargoId() != null)
+                .ifPresent(row -> {
+                    long revenue = row.getRevenue() == null ? 0L : row.getRevenue();
+                    jdbcTemplate.update(UPSERT_DAILY, row.getCargoId(), Date.valueOf(day(row)), revenue, 1);
+                    jdbcTemplate.update(UPSERT_MONTHLY, row.getCargoId(), ym(row), revenue, 1);
+                });
+    }
+
+    /** 배송 원본에서 두 집계 테이블을 다시 만든다 (관리 작업) */
+    public synchronized Map<String, Object> rebuild() {
+        long started = System.currentTimeMillis();
+        // 원본을 읽기 전에 잠근다 (MySQL 은 첫 일반 조회 시점의 스냅샷을 쓰므로 잠금 뒤에 읽어야 최신)
+        lock(LOCK_EXCLUSIVE);
+        List<RevenueSourceRow> rows = dailyRepository.findAllSources();
+
+        jdbcTemplate.update("DELETE FROM driver_revenue_daily");
+        jdbcTemplate.update("DELETE FROM driver_revenue_monthly");
+        jdbcTemplate.batchUpdate(UPSERT_DAILY, rows, BATCH, (ps, row) -> {
+            ps.setString(1, row.getCargoId());
+            ps.setDate(2, Date.valueOf(day(row)));
+            ps.setLong(3, row.getRevenue() == null ? 0L : row.getRevenue());
+            ps.setLong(4, row.getDeliveries() == null ? 0L : row.getDeliveries());
+        });
+        int months = jdbcTemplate.update(MONTHLY_FROM_DAILY);
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.info("기사 매출 집계 재구성 - 일 {}행, 월 {}행, {}ms", rows.size(), months, elapsed);
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("dailyRows", rows.size());
+        out.put("monthlyRows", months);
+        out.put("elapsedMs", elapsed);
+        return out;
+    }
+
+    @Order(3) // driver_job_view, 도착 예정 통계 다음
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        lock(LOCK_EXCLUSIVE);
+        if (monthlyRepository.count() > 0) {
+            return;
+        }
+        rebuild();
+    }
+
+    // 잠금 행을 잡는다. 행이 없으면(첫 실행) 만든 뒤 다시 잡는다
+    private void lock(String sql) {
+        if (jdbcTemplate.queryForList(sql, String.class, LOCK_NAME).isEmpty()) {
+            jdbcTemplate.update(CREATE_LOCK, LOCK_NAME);
+            jdbcTemplate.queryForList(sql, String.class, LOCK_NAME);
+        }
+    }
+
+    private static LocalDate day(RevenueSourceRow row) {
+        return LocalDate.of(row.getY(), row.getM(), row.getD());
+    }
+
+    private static int ym(RevenueSourceRow row) {
+        return row.getY() * 100 + row.getM();
+    }
+}
@@ -1,21 +1,183 @@
 package com.giproject.service.owner;
 
 import com.giproject.dto.owner.MonthlyRevenueDTO;
-import com.giproject.repository.delivery.DeliveryRepository;
-import com.giproject.repository.owner.MonthlyRevenueRow;
+import com.giproject.dto.owner.RevenueSeriesDTO;
+import com.giproject.entity.owner.DriverRevenueDaily;
+import com.giproject.entity.owner.DriverRevenueMonthly;
+import com.giproject.repository.owner.DriverRevenueDailyRepository;
+import com.giproject.repository.owner.DriverRevenueMonthlyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
+/**
+ * 기사 매출 조회. 배송 원본을 집계하지 않고 {@link DriverRevenueRollup} 이 유지하는 집계 테이블의 PK 범위만 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class OwnerMetricsService {
-    private final DeliveryRepository deliveryRepo;
+
+    private static final int MAX_DAYS = 366;
+    private static final int MAX_WEEKS = 104;
+    private static final int MAX_MONTHS = 120;
+
+    private final DriverRevenueMonthlyRepository monthlyRepo;
+    private final DriverRevenueDailyRepository dailyRepo;
 
     public List<MonthlyRevenueDTO> monthlyRevenue(String cargoId) {
-        return deliveryRepo.findMonthlyRevenueByCargoId(cargoId).stream()
-                .map(r -> new MonthlyRevenueDTO(r.getY(), r.getM(), r.getRevenue()))
+        return monthlyRepo.findByCargoIdOrderByYmAsc(cargoId).stream()
+                .map(r -> new MonthlyRevenueDTO(r.getYm() / 100, r.getYm() % 100, r.getRevenue()))
                 .toList();
     }
+
+    /**
+     * 일/주/월 단위 매출 추이와 전년 동기 비교.
+     * 현재 구간과 전년 구간을 PK 범위로 한 번씩 읽고, 매출이 없는 구간은 0 으로 채운다.
+     * 비교 대상은 일 = 1년 전 같은 날, 주 = 52주 전 같은 요일의 주(ISO 주), 월 = 1년 전 같은 달.
+     */
+    public RevenueSeriesDTO revenue(String cargoId, String unit, LocalDate from, LocalDate to) {
+        String u = unit == null || unit.isBlank() ? "month" : unit.trim().toLowerCase();
+        LocalDate end = to == null ? LocalDate.now() : to;
+        List<RevenueSeriesDTO.Point> points;
+        switch (u) {
+            case "day" -> {
+                LocalDate start = from == null ? end.minusDays(29) : from;
+                checkRange(start, end, ChronoUnit.DAYS.between(start, end) + 1, MAX_DAYS);
+                points = dailyPoints(cargoId, start, end, 1, d -> d.minusYears(1));
+                from = start;
+            }
+            case "week" -> {
+                LocalDate start = (from == null ? end.minusWeeks(11) : from).with(DayOfWeek.MONDAY);
+                end = end.with(DayOfWeek.SUNDAY);
+                checkRange(start, end, (ChronoUnit.DAYS.between(start, end) + 1) / 7, MAX_WEEKS);
+                points = dailyPoints(cargoId, start, end, 7, d -> d.minusWeeks(52));
+                from = start;
+            }
+            case "month" -> {
+                YearMonth first = YearMonth.from(from == null ? end.minusMonths(11) : from);
+                YearMonth last = YearMonth.from(end);
+                checkRange(first.atDay(1), last.atEndOfMonth(), ChronoUnit.MONTHS.between(first, last) + 1, MAX_MONTHS);
+                points = monthlyPoints(cargoId, first, last);
+                from = first.atDay(1);
+                end = last.atEndOfMonth();
+            }
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unit 은 day, week, month 중 하나여야 합니다.");
+        }
+
+        long revenue = points.stream().mapToLong(RevenueSeriesDTO.Point::getRevenue).sum();
+        long previous = points.stream().mapToLong(RevenueSeriesDTO.Point::getPreviousRevenue).sum();
+        return RevenueSeriesDTO.builder()
+                .unit(u)
+                .from(from)
+                .to(end)
+                .revenue(revenue)
+                .previousRevenue(previous)
+                .growthRate(growthRate(revenue, previous))
+                .points(points)
+                .build();
+    }
+
+    // 일 집계를 step 일씩 묶는다 (일 = 1, 주 = 7)
+    private List<RevenueSeriesDTO.Point> dailyPoints(String cargoId, LocalDate from, LocalDate to, int step,
+                                                     UnaryOperator<LocalDate> lastYear) {
+        Map<LocalDate, DriverRevenueDaily> current = byDay(dailyRepo.findByCargoIdAndDayBetweenOrderByDayAsc(cargoId, from, to));
+        Map<LocalDate, DriverRevenueDaily> previous = byDay(dailyRepo.findByCargoIdAndDayBetweenOrderByDayAsc(
+                cargoId, lastYear.apply(from), lastYear.apply(to)));
+
+        List<RevenueSeriesDTO.Point> points = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(step)) {
+            long revenue = 0;
+            long prevRevenue = 0;
+            int deliveries = 0;
+            for (int i = 0; i < step; i++) {
+                LocalDate day = start.plusDays(i);
+                DriverRevenueDaily cur = current.get(day);
+                DriverRevenueDaily prev = previous.get(lastYear.apply(day));
+                if (cur != null) {
+                    revenue += cur.getRevenue();
+                    deliveries += cur.getDeliveries();
+                }
+                if (prev != null) {
+                    prevRevenue += prev.getRevenue();
+                }
+            }
+            String label = step == 1 ? start.toString()
+                    : String.format("%d-W%02d", start.get(IsoFields.WEEK_BASED_YEAR), start.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            points.add(point(label, start, revenue, deliveries, prevRevenue));
+        }
+        return points;
+    }
+
+    private List<RevenueSeriesDTO.Point> monthlyPoints(String cargoId, YearMonth first, YearMonth last) {
+        Map<Integer, DriverRevenueMonthly> current = byYm(monthlyRepo.findByCargoIdAndYmBetweenOrderByYmAsc(
+                cargoId, ym(first), ym(last)));
+        Map<Integer, DriverRevenueMonthly> previous = byYm(monthlyRepo.findByCargoIdAndYmBetweenOrderByYmAsc(
+                cargoId, ym(first.minusYears(1)), ym(last.minusYears(1))));
+
+        List<RevenueSeriesDTO.Point> points = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            DriverRevenueMonthly cur = current.get(ym(month));
+            DriverRevenueMonthly prev = previous.get(ym(month.minusYears(1)));
+            points.add(point(month.toString(), month.atDay(1),
+                    cur == null ? 0 : cur.getRevenue(),
+                    cur == null ? 0 : cur.getDeliveries(),
+                    prev == null ? 0 : prev.getRevenue()));
+        }
+        return points;
+    }
+
+    private static RevenueSeriesDTO.Point point(String label, LocalDate start, long revenue, int deliveries, long previous) {
+        return RevenueSeriesDTO.Point.builder()
+                .label(label)
+                .start(start)
+                .revenue(revenue)
+                .deliveries(deliveries)
+                .previousRevenue(previous)
+                .growthRate(growthRate(revenue, previous))
+                .build();
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to, long buckets, int max) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "시작일이 종료일보다 늦습니다.");
+        }
+        if (buckets > max) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 구간은 최대 " + max + "개까지 가능합니다.");
+        }
+    }
+
+    // 전년 대비 증감률(%), 소수 첫째 자리
+    private static Double growthRate(long current, long previous) {
+        if (previous == 0) {
+            return null;
+        }
+        return Math.round((current - previous) * 1000.0 / previous) / 10.0;
+    }
+
+    private static int ym(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static Map<LocalDate, DriverRevenueDaily> byDay(List<DriverRevenueDaily> rows) {
+        return rows.stream().collect(Collectors.toMap(DriverRevenueDaily::getDay, Function.identity()));
+    }
+
+    private static Map<Integer, DriverRevenueMonthly> byYm(List<DriverRevenueMonthly> rows) {
+        return rows.stream().collect(Collectors.toMap(DriverRevenueMonthly::getYm, Function.identity()));
+    }
 }
@@ -1,5 +1,6 @@
 package com.giproject.service.payment;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.giproject.dto.payment.PaymentCompleteDTO;
@@ -11,6 +12,7 @@ import com.giproject.entity.order.OrderSheet;
 import com.giproject.entity.payment.Payment;
 import com.giproject.repository.order.OrderRepository;
 import com.giproject.repository.payment.PaymentRepository;
+import com.giproject.service.delivery.DriverJobChangedEvent;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 public class PaymentServiceImpl implements PaymentService  {
 		private final PaymentRepository paymentRepository;
 		private final OrderRepository orderRepository;
+		private final ApplicationEventPublisher eventPublisher;
 	
 	@Override
 	public Long acceptedPayment(PaymentDTO.CreateRequest dto) {
@@ -29,6 +32,7 @@ public class PaymentServiceImpl implements PaymentService  {
 		Payment payment = dtoToEntity(dto, orderSheet);
 		
 		Long paymentNo = paymentRepository.save(payment).getPaymentNo();
+		eventPublisher.publishEvent(new DriverJobChangedEvent(orderSheet.getMatching().getMatchingNo()));
 		return paymentNo;
 	}
 
@@ -0,0 +1,150 @@
+package com.giproject.utils;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 주소 정규화/분해.
+ *
+ * - 시/도 표기("서울", "서울시", "서울특별시")를 행정구역 코드(앞 2자리)와 정식 명칭으로 통일
+ * - 같은 주소가 견적/주문서/배송에 반복해서 나오므로 분해 결과를 캐시하고, 지역 문자열은 하나의 인스턴스로 공유
+ * - 정규식은 모두 미리 컴파일해 둔다
+ */
+public final class AddressNormalizer {
+
+	/**
+	 * raw 를 분해한 결과.
+	 * simple: 앞의 두 토큰 그대로 (기존 simpleAddress 결과),
+	 * region: 정식 시/도 + 시/군/구 ("서울특별시 강남구"), sidoCode: 시/도 코드 (모르면 null)
+	 */
+	public record Parsed(String sidoCode, String sido, String sigungu, String region, String simple) {}
+
+	private static final Pattern SPACES = Pattern.compile("\\s+");
+	private static final Pattern SIGUNGU = Pattern.compile(".+[시군구]");
+	private static final Pattern ROUTE_SEPARATOR = Pattern.compile("[→\\-~—–⟶⟹➡️]");
+	// parseRoute 는 이 순서대로 처음 나오는 구분자로 나눈다
+	private static final String[] ROUTE_SEPARATORS = { "→", "->", "-", "~", "—", "–", "⟶", "⟹", "➡️" };
+
+	private static final int MAX_CACHED = 20_000;
+	private static final Parsed EMPTY = new Parsed(null, "", "", "", "");
+
+	private static final Map<String, String[]> SIDO = new HashMap<>();
+	private static final Map<String, Parsed> cache = new ConcurrentHashMap<>();
+	private static final Map<String, String> pool = new ConcurrentHashMap<>();
+
+	static {
+		sido("11", "서울특별시", "서울", "서울시");
+		sido("26", "부산광역시", "부산", "부산시");
+		sido("27", "대구광역시", "대구", "대구시");
+		sido("28", "인천광역시", "인천", "인천시");
+		sido("29", "광주광역시", "광주", "광주시");
+		sido("30", "대전광역시", "대전", "대전시");
+		sido("31", "울산광역시", "울산", "울산시");
+		sido("36", "세종특별자치시", "세종", "세종시");
+		sido("41", "경기도", "경기");
+		sido("42", "강원특별자치도", "강원", "강원도");
+		sido("43", "충청북도", "충북");
+		sido("44", "충청남도", "충남");
+		sido("45", "전북특별자치도", "전북", "전라북도");
+		sido("46", "전라남도", "전남");
+		sido("47", "경상북도", "경북");
+		sido("48", "경상남도", "경남");
+		sido("50", "제주특별자치도", "제주", "제주도");
+	}
+
+	private static void sido(String code, String name, String... aliases) {
+		String[] entry = { code, name };
+		SIDO.put(name, entry);
+		SIDO.put(code, entry);
+		for (String alias : aliases) {
+			SIDO.put(alias, entry);
+		}
+	}
+
+	private AddressNormalizer() {
+	}
+
+	/** 유니코드(NFC) 정규화 + 앞뒤 공백 제거 + 연속 공백 하나로 */
+	public static String normalize(String address) {
+		if (address == null) {
+			return "";
+		}
+		String s = address.trim();
+		if (s.isEmpty()) {
+			return s;
+		}
+		if (!Normalizer.isNormalized(s, Normalizer.Form.NFC)) {
+			s = Normalizer.normalize(s, Normalizer.Form.NFC);
+		}
+		return SPACES.matcher(s).replaceAll(" ");
+	}
+
+	public static Parsed parse(String address) {
+		String key = normalize(address);
+		if (key.isEmpty()) {
+			return EMPTY;
+		}
+		Parsed parsed = cache.get(key);
+		if (parsed != null) {
+			return parsed;
+		}
+		if (cache.size() >= MAX_CACHED) {
+			cache.clear();
+		}
+		parsed = doParse(key);
+		cache.put(key, parsed);
+		return parsed;
+	}
+
+	/**
+	 * 시/도 코드. "11", "서울", "서울특별시", "서울 강남구 역삼동" 모두 "11".
+	 * 알 수 없으면 null
+	 */
+	public static String sidoCode(String value) {
+		return parse(value).sidoCode();
+	}
+
+	/** 목록 지역 필터로 들어온 값이 있는데 시/도로 인식되지 않음 (비어 있으면 필터 없음이라 false) */
+	public static boolean isUnknownRegion(String value) {
+		return value != null && !value.isBlank() && sidoCode(value) == null;
+	}
+
+	public static boolean looksLikeRoute(String value) {
+		return value != null && ROUTE_SEPARATOR.matcher(value).find();
+	}
+
+	/** 구분자로 출발/도착 원문을 나눈다. 구분자가 없으면 [raw, ""] */
+	public static String[] splitRoute(String route) {
+		String raw = route == null ? "" : route.trim();
+		for (String sep : ROUTE_SEPARATORS) {
+			int at = raw.indexOf(sep);
+			if (at >= 0) {
+				return new String[] { raw.substring(0, at).trim(), raw.substring(at + sep.length()).trim() };
+			}
+		}
+		return new String[] { raw, "" };
+	}
+
+	private static Parsed doParse(String address) {
+		String[] parts = SPACES.split(address, 3);
+		String simple = parts.length >= 2 ? parts[0] + " " + parts[1] : address;
+		String[] sido = SIDO.get(parts[0]);
+		if (sido == null) {
+			return new Parsed(null, "", "", intern(simple), intern(simple));
+		}
+		String sigungu = parts.length >= 2 && SIGUNGU.matcher(parts[1]).matches() ? parts[1] : "";
+		String region = sigungu.isEmpty() ? sido[1] : sido[1] + " " + sigungu;
+		return new Parsed(sido[0], sido[1], intern(sigungu), intern(region), intern(simple));
+	}
+
+	private static String intern(String s) {
+		if (pool.size() >= MAX_CACHED * 2) {
+			pool.clear();
+		}
+		String pooled = pool.putIfAbsent(s, s);
+		return pooled != null ? pooled : s;
+	}
+}
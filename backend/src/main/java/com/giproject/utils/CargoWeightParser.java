@@ -0,0 +1,30 @@
+package com.giproject.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 입력 중량 문자열("0.5톤", "1톤", "5톤이상", "25톤 이상", "500kg")을 kg 정수로 변환.
+ * 단위가 없으면 톤으로 본다. 해석할 수 없으면 null.
+ */
+public final class CargoWeightParser {
+
+	private static final Pattern WEIGHT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(kg|킬로|t|톤)?", Pattern.CASE_INSENSITIVE);
+
+	private CargoWeightParser() {
+	}
+
+	public static Integer toKg(String text) {
+		if (text == null || text.isBlank()) {
+			return null;
+		}
+		Matcher m = WEIGHT.matcher(text.replace(",", ""));
+		if (!m.find()) {
+			return null;
+		}
+		double value = Double.parseDouble(m.group(1));
+		String unit = m.group(2);
+		boolean kg = unit != null && (unit.equalsIgnoreCase("kg") || unit.equals("킬로"));
+		return (int) Math.round(kg ? value : value * 1000);
+	}
+}
@@ -0,0 +1,69 @@
+package com.giproject.utils;
+
+import java.util.Arrays;
+
+/**
+ * 경로 좌표 압축 (Google Encoded Polyline, 정밀도 1e-5 ≒ 1m).
+ * 입력/출력 좌표 배열은 카카오 vertexes 와 같은 [경도, 위도, 경도, 위도, ...] 순서,
+ * 인코딩 문자열 안에서는 표준대로 위도, 경도 순서로 기록한다.
+ */
+public final class PolylineCodec {
+
+	public static final int PRECISION = 5;
+	private static final double FACTOR = 1e5;
+
+	private PolylineCodec() {
+	}
+
+	public static String encode(double[] lngLat) {
+		StringBuilder sb = new StringBuilder(lngLat.length * 3);
+		long prevLat = 0, prevLng = 0;
+		for (int i = 0; i + 1 < lngLat.length; i += 2) {
+			long lat = Math.round(lngLat[i + 1] * FACTOR);
+			long lng = Math.round(lngLat[i] * FACTOR);
+			writeSigned(sb, lat - prevLat);
+			writeSigned(sb, lng - prevLng);
+			prevLat = lat;
+			prevLng = lng;
+		}
+		return sb.toString();
+	}
+
+	public static double[] decode(String polyline) {
+		double[] out = new double[polyline.length() * 2];
+		int n = 0;
+		int[] pos = { 0 };
+		long lat = 0, lng = 0;
+		while (pos[0] < polyline.length()) {
+			lat += readSigned(polyline, pos);
+			lng += readSigned(polyline, pos);
+			out[n++] = lng / FACTOR;
+			out[n++] = lat / FACTOR;
+		}
+		return Arrays.copyOf(out, n);
+	}
+
+	private static void writeSigned(StringBuilder sb, long value) {
+		long v = value < 0 ? ~(value << 1) : value << 1;
+		while (v >= 0x20) {
+			sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+			v >>= 5;
+		}
+		sb.append((char) (v + 63));
+	}
+
+	private static long readSigned(String s, int[] pos) {
+		long result = 0;
+		int shift = 0;
+		int b;
+		do {
+			if (pos[0] >= s.length()) {
+				throw new IllegalArgumentException("잘못된 polyline 문자열입니다");
+			}
+			b = s.charAt(pos[0]++) - 63;
+			result |= (long) (b & 0x1f) << shift;
+			shift += 5;
+		} while (b >= 0x20);
+		return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+	}
+}
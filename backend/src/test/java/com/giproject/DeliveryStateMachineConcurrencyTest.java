@@ -0,0 +1,263 @@
+package com.giproject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.entity.account.UserIndex;
+import com.giproject.entity.cargo.CargoOwner;
+import com.giproject.entity.delivery.DeliveryEvent;
+import com.giproject.entity.delivery.DeliveryIdempotencyKey;
+import com.giproject.entity.delivery.DeliveryStatus;
+import com.giproject.entity.estimate.Estimate;
+import com.giproject.entity.matching.Matching;
+import com.giproject.entity.member.Member;
+import com.giproject.entity.order.OrderSheet;
+import com.giproject.entity.payment.Payment;
+import com.giproject.repository.account.UserIndexRepository;
+import com.giproject.repository.cargo.CargoOwnerRepository;
+import com.giproject.repository.delivery.DeliveryEventRepository;
+import com.giproject.repository.delivery.DeliveryIdempotencyKeyRepository;
+import com.giproject.repository.delivery.DeliveryRepository;
+import com.giproject.repository.delivery.DriverJobViewRepository;
+import com.giproject.repository.estimate.EsmateRepository;
+import com.giproject.repository.matching.MatchingRepository;
+import com.giproject.repository.member.MemberRepository;
+import com.giproject.repository.order.OrderRepository;
+import com.giproject.repository.payment.PaymentRepository;
+import com.giproject.service.delivery.DeliveryStateMachine;
+
+/**
+ * 배송 상태 머신의 동시성/멱등성.
+ * - 같은 결제로 동시에 배송을 만들어도 배송은 하나이고, 모두 같은 배송을 받는다 (driver_job_view 도 그 배송을 가리킨다)
+ * - 같은 Idempotency-Key 재시도는 아무것도 하지 않고, 같은 키를 다른 상태에 다시 쓰면 409
+ * - 같은 전이를 동시에 보내면 하나만 반영되고 나머지는 오류 없이 재시도로 처리되며 키가 남는다
+ * 각 호출이 별도 트랜잭션으로 커밋되어야 하므로 클래스에 @Transactional 을 두지 않고 직접 정리한다.
+ * (완료 전이는 매출 집계/메일이 따라오므로 배송중까지만 사용)
+ */
+@SpringBootTest
+public class DeliveryStateMachineConcurrencyTest {
+
+	private static final int THREADS = 8;
+
+	@Autowired
+	DeliveryStateMachine deliveryStateMachine;
+	@Autowired
+	DeliveryRepository deliveryRepository;
+	@Autowired
+	DeliveryEventRepository deliveryEventRepository;
+	@Autowired
+	DeliveryIdempotencyKeyRepository idempotencyKeyRepository;
+	@Autowired
+	DriverJobViewRepository driverJobViewRepository;
+	@Autowired
+	PaymentRepository paymentRepository;
+	@Autowired
+	OrderRepository orderRepository;
+	@Autowired
+	MatchingRepository matchingRepository;
+	@Autowired
+	EsmateRepository esmateRepository;
+	@Autowired
+	MemberRepository memberRepository;
+	@Autowired
+	CargoOwnerRepository cargoOwnerRepository;
+	@Autowired
+	UserIndexRepository userIndexRepository;
+	@Autowired
+	TransactionTemplate transactionTemplate;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private final String prefix = "ds" + UUID.randomUUID().toString().substring(0, 8);
+	private Member shipper;
+	private CargoOwner driver;
+	private Estimate estimate;
+	private Matching matching;
+	private OrderSheet orderSheet;
+	private Payment payment;
+
+	@BeforeEach
+	void setUp() {
+		String shipperId = prefix + "s";
+		userIndexRepository.save(UserIndex.builder()
+				.loginId(shipperId).role(UserIndex.Role.SHIPPER).email(shipperId + "@test.local").build());
+		shipper = memberRepository.save(Member.builder()
+				.memId(shipperId).memEmail(shipperId + "@test.local").memPw("pw").memName("배송화주").build());
+
+		String cargoId = prefix + "d";
+		userIndexRepository.save(UserIndex.builder()
+				.loginId(cargoId).role(UserIndex.Role.DRIVER).email(cargoId + "@test.local").build());
+		driver = cargoOwnerRepository.save(CargoOwner.builder()
+				.cargoId(cargoId).cargoPw("pw").cargoEmail(cargoId + "@test.local").cargoName("배송기사").build());
+
+		estimate = esmateRepository.save(Estimate.builder()
+				.startAddress("서울특별시 강남구 역삼동")
+				.endAddress("경기도 김포시 장기동")
+				.cargoWeight("1톤")
+				.cargoType("일반")
+				.startTime(LocalDateTime.now().plusDays(1))
+				.totalCost(100000)
+				.member(shipper)
+				.build());
+		matching = matchingRepository.save(Matching.builder()
+				.estimate(estimate).cargoOwner(driver).isAccepted(true).acceptedTime(LocalDateTime.now()).build());
+		orderSheet = orderRepository.save(OrderSheet.builder()
+				.matching(matching).orderUuid(prefix + "-order").orderTime(LocalDateTime.now()).build());
+		payment = paymentRepository.save(Payment.builder().orderSheet(orderSheet).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		deliveryRepository.findDeliveryNoByPayment(payment.getPaymentNo()).ifPresent(deliveryNo -> {
+			jdbcTemplate.update("DELETE FROM delivery_idempotency_key WHERE delivery_no = ?", deliveryNo);
+			jdbcTemplate.update("DELETE FROM delivery_event WHERE delivery_no = ?", deliveryNo);
+			deliveryRepository.deleteById(deliveryNo);
+		});
+		driverJobViewRepository.deleteById(matching.getMatchingNo());
+		paymentRepository.deleteById(payment.getPaymentNo());
+		orderRepository.deleteById(orderSheet.getOrderNo());
+		matchingRepository.deleteById(matching.getMatchingNo());
+		esmateRepository.deleteById(estimate.getEno());
+		cargoOwnerRepository.deleteById(driver.getCargoId());
+		memberRepository.deleteById(shipper.getMemId());
+		userIndexRepository.deleteById(driver.getCargoId());
+		userIndexRepository.deleteById(shipper.getMemId());
+	}
+
+	@Test
+	void concurrentCreateMakesOneDelivery() throws Exception {
+		List<Long> deliveryNos = runConcurrently(() -> transactionTemplate.execute(status -> deliveryStateMachine
+				.create(paymentRepository.findById(payment.getPaymentNo()).orElseThrow(), DeliveryStateMachine.SYSTEM)
+				.getDeliveryNo()));
+
+		// 배송이 둘 이상이면 단건 조회가 실패한다
+		Long deliveryNo = deliveryRepository.findDeliveryNoByPayment(payment.getPaymentNo()).orElseThrow();
+		assertEquals(Set.of(deliveryNo), new HashSet<>(deliveryNos));
+		assertEquals(1, deliveryEventRepository.findByDeliveryNoOrderByIdAsc(deliveryNo).size());
+
+		// 생성 이벤트로 갱신된 기사 목록 행이 새 배송을 가리켜야 한다
+		var view = driverJobViewRepository.findById(matching.getMatchingNo()).orElseThrow();
+		assertEquals(deliveryNo, view.getDeliveryNo());
+		assertEquals(DeliveryStatus.PENDING, view.getDeliveryStatus());
+	}
+
+	@Test
+	void sameKeyReplaysAndReusedKeyConflicts() {
+		Long deliveryNo = create();
+		String key = prefix + "-k1";
+
+		assertTrue(deliveryStateMachine.transition(deliveryNo, DeliveryStatus.IN_TRANSIT, DeliveryStateMachine.SYSTEM, key));
+		assertFalse(deliveryStateMachine.transition(deliveryNo, DeliveryStatus.IN_TRANSIT, DeliveryStateMachine.SYSTEM, key));
+
+		// 이미 배송중인데 새 키로 같은 요청 → 아무것도 바꾸지 않지만 키는 남는다
+		String noop = prefix + "-k2";
+		assertFalse(deliveryStateMachine.transition(deliveryNo, DeliveryStatus.IN_TRANSIT, DeliveryStateMachine.SYSTEM, noop));
+		assertTrue(idempotencyKeyRepository
+				.findById(new DeliveryIdempotencyKey.Key(DeliveryStateMachine.SYSTEM, noop)).isPresent());
+
+		// 같은 키를 다른 목표 상태에 다시 쓰면 409, 상태는 그대로
+		for (String reused : List.of(key, noop)) {
+			ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> deliveryStateMachine
+					.transition(deliveryNo, DeliveryStatus.COMPLETED, DeliveryStateMachine.SYSTEM, reused));
+			assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+		}
+		assertEquals(DeliveryStatus.IN_TRANSIT, deliveryRepository.findById(deliveryNo).orElseThrow().getStatus());
+
+		List<DeliveryEvent> events = deliveryEventRepository.findByDeliveryNoOrderByIdAsc(deliveryNo);
+		assertEquals(2, events.size());
+		assertEquals(key, events.get(1).getIdempotencyKey());
+	}
+
+	@Test
+	void concurrentSameTransitionAppliesOnce() throws Exception {
+		Long deliveryNo = create();
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			keys.add(prefix + "-t" + i);
+		}
+		CountDownLatch ready = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		List<Future<Boolean>> futures = new ArrayList<>();
+		for (String key : keys) {
+			futures.add(pool.submit(() -> {
+				ready.await();
+				return deliveryStateMachine.transition(deliveryNo, DeliveryStatus.IN_TRANSIT, DeliveryStateMachine.SYSTEM, key);
+			}));
+		}
+		ready.countDown();
+		int changed = 0;
+		for (Future<Boolean> f : futures) {
+			// 진 쪽도 409 없이 false (같은 목표의 재시도)
+			if (f.get(30, TimeUnit.SECONDS)) {
+				changed++;
+			}
+		}
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(1, changed);
+		List<DeliveryEvent> events = deliveryEventRepository.findByDeliveryNoOrderByIdAsc(deliveryNo);
+		assertEquals(2, events.size());
+		String winner = events.get(1).getIdempotencyKey();
+
+		// 진 요청의 키는 모두 남아 재시도로 인식된다
+		for (String key : keys) {
+			if (!key.equals(winner)) {
+				assertTrue(idempotencyKeyRepository
+						.findById(new DeliveryIdempotencyKey.Key(DeliveryStateMachine.SYSTEM, key)).isPresent());
+				assertFalse(deliveryStateMachine.transition(deliveryNo, DeliveryStatus.IN_TRANSIT, DeliveryStateMachine.SYSTEM, key));
+			}
+		}
+	}
+
+	private Long create() {
+		return transactionTemplate.execute(status -> deliveryStateMachine
+				.create(paymentRepository.findById(payment.getPaymentNo()).orElseThrow(), DeliveryStateMachine.SYSTEM)
+				.getDeliveryNo());
+	}
+
+	private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch ready = new CountDownLatch(1);
+		List<Future<T>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(pool.submit(() -> {
+				ready.await();
+				return task.call();
+			}));
+		}
+		ready.countDown();
+		List<T> results = new ArrayList<>();
+		for (Future<T> f : futures) {
+			results.add(f.get(30, TimeUnit.SECONDS));
+		}
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+		return results;
+	}
+}
@@ -0,0 +1,95 @@
+package com.giproject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.giproject.dto.estimate.EstimateDTO;
+import com.giproject.entity.account.UserIndex;
+import com.giproject.entity.estimate.Estimate;
+import com.giproject.entity.matching.Matching;
+import com.giproject.entity.member.Member;
+import com.giproject.repository.account.UserIndexRepository;
+import com.giproject.repository.estimate.EsmateRepository;
+import com.giproject.repository.matching.MatchingRepository;
+import com.giproject.repository.member.MemberRepository;
+import com.giproject.service.estimate.EstimateService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 화주 견적 목록 조회가 견적 수와 무관하게 고정된 쿼리 수로 끝나는지 확인 (N+1 회귀 방지)
+ */
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EstimateQueryCountTest {
+
+	private static final int ESTIMATES = 30;
+
+	@Autowired
+	EstimateService estimateService;
+	@Autowired
+	EsmateRepository esmateRepository;
+	@Autowired
+	MatchingRepository matchingRepository;
+	@Autowired
+	MemberRepository memberRepository;
+	@Autowired
+	UserIndexRepository userIndexRepository;
+	@Autowired
+	EntityManager em;
+	@Autowired
+	EntityManagerFactory emf;
+
+	private final String memId = "qc" + UUID.randomUUID().toString().substring(0, 8);
+
+	@BeforeEach
+	void setUp() {
+		userIndexRepository.save(UserIndex.builder()
+				.loginId(memId).role(UserIndex.Role.SHIPPER).email(memId + "@test.local").build());
+		Member member = memberRepository.save(Member.builder()
+				.memId(memId).memEmail(memId + "@test.local").memPw("pw").memName("쿼리수화주").build());
+
+		for (int i = 0; i < ESTIMATES; i++) {
+			Estimate estimate = esmateRepository.save(Estimate.builder()
+					.startAddress("서울특별시 강남구 역삼동")
+					.endAddress("대구광역시 달서구 월성동")
+					.cargoWeight("1톤")
+					.cargoType("일반")
+					.startTime(LocalDateTime.now().plusDays(1))
+					.totalCost(100000 + i)
+					.member(member)
+					.build());
+			matchingRepository.save(Matching.builder().estimate(estimate).isAccepted(i % 3 == 0).build());
+		}
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	void myEstimateListRunsConstantNumberOfQueries() {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+
+		List<EstimateDTO> list = estimateService.myEstimateList(memId);
+
+		assertEquals(ESTIMATES, list.size());
+		assertEquals(ESTIMATES / 3, list.stream().filter(EstimateDTO::isAccepted).count());
+		assertTrue(list.stream().allMatch(dto -> dto.getMatchingNo() != null));
+		// 견적 조회 1회 + 매칭 상태 일괄 조회 1회
+		assertTrue(stats.getPrepareStatementCount() <= 2,
+				"myEstimateList 쿼리 수: " + stats.getPrepareStatementCount());
+	}
+}
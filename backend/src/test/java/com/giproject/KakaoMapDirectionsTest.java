@@ -0,0 +1,140 @@
+package com.giproject;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.dto.kakaomap.GeoPoint;
+import com.giproject.dto.kakaomap.KakaoMapCompactDTO;
+import com.giproject.dto.kakaomap.KakaoMapDTO;
+import com.giproject.repository.kakaomap.GeocodeCacheRepository;
+import com.giproject.service.kakaomap.GeocodeCache;
+import com.giproject.service.kakaomap.KakaoMapService;
+import com.giproject.service.kakaomap.MapClient;
+import com.giproject.service.kakaomap.MapProvider;
+import com.giproject.service.kakaomap.Route;
+import com.giproject.utils.PolylineCodec;
+
+/**
+ * 경로 조회가 카카오 API 없이 스텁 공급자로 동작하고, 같은 주소는 좌표 변환/경로 조회를 한 번만 하는지 확인
+ */
+@SpringBootTest
+public class KakaoMapDirectionsTest {
+
+	static final AtomicInteger geocodeCalls = new AtomicInteger();
+	static final AtomicInteger directionsCalls = new AtomicInteger();
+
+	@TestConfiguration
+	static class StubProviderConfig {
+		@Bean
+		@Primary
+		MapProvider stubMapProvider() {
+			return new MapProvider() {
+				@Override
+				public Optional<GeoPoint> geocode(String address) {
+					geocodeCalls.incrementAndGet();
+					if (address.contains("없는주소")) {
+						return Optional.empty();
+					}
+					return Optional.of(new GeoPoint(127.0 + address.length() * 0.001, 37.5));
+				}
+
+				@Override
+				public Route directions(GeoPoint start, GeoPoint end) {
+					directionsCalls.incrementAndGet();
+					return Route.of(12000, 900, new double[] {
+							start.lng(), start.lat(), 127.12345, 37.54321, end.lng(), end.lat() });
+				}
+			};
+		}
+	}
+
+	@Autowired
+	KakaoMapService kakaoMapService;
+	@Autowired
+	GeocodeCacheRepository geocodeCacheRepository;
+
+	private final String tag = UUID.randomUUID().toString().substring(0, 8);
+	private final String depot = "서울특별시 강남구 테헤란로 " + tag;
+	private final String dest = "대구광역시 달서구 월성동 " + tag;
+
+	@AfterEach
+	void tearDown() {
+		geocodeCacheRepository.deleteAllById(List.of(GeocodeCache.normalize(depot), GeocodeCache.normalize(dest)));
+	}
+
+	@Test
+	void directionsUseStubProviderAndCache() throws Exception {
+		int geocodesBefore = geocodeCalls.get();
+		int directionsBefore = directionsCalls.get();
+
+		Route first = kakaoMapService.directions(depot, dest);
+		// 공백/대소문자만 다른 같은 주소는 캐시 적중
+		Route second = kakaoMapService.directions("  " + depot.replace(" ", "  "), dest);
+
+		assertSame(first, second);
+		assertEquals(2, geocodeCalls.get() - geocodesBefore, "주소별 좌표 변환은 한 번만");
+		assertEquals(1, directionsCalls.get() - directionsBefore, "같은 좌표 쌍 경로 조회는 한 번만");
+
+		KakaoMapDTO full = first.toDTO();
+		assertEquals(12000, full.getDistance());
+		assertEquals(900, full.getDuration());
+		assertEquals(List.of(127.12345, 37.54321), full.getPath().get(1));
+
+		KakaoMapCompactDTO compact = first.toCompactDTO();
+		assertEquals(3, compact.getPoints());
+		assertArrayEquals(first.path(), PolylineCodec.decode(compact.getPolyline()), 1e-5);
+
+		Map<String, Object> stats = kakaoMapService.geocodeStats();
+		assertEquals(true, ((Number) stats.get("memoryHits")).longValue() >= 2);
+	}
+
+	@Test
+	void unknownAddressIsBadRequest() {
+		assertThrows(ResponseStatusException.class,
+				() -> kakaoMapService.directions("없는주소 " + tag, dest));
+	}
+
+	@Test
+	void circuitOpensAfterConsecutiveFailures() {
+		AtomicInteger calls = new AtomicInteger();
+		MapClient client = new MapClient(new MapProvider() {
+			@Override
+			public Optional<GeoPoint> geocode(String address) {
+				calls.incrementAndGet();
+				throw new IllegalStateException("카카오 API 오류 (HTTP 500)");
+			}
+
+			@Override
+			public Route directions(GeoPoint start, GeoPoint end) {
+				throw new UnsupportedOperationException();
+			}
+		});
+
+		for (int i = 0; i < 5; i++) {
+			assertThrows(IllegalStateException.class, () -> client.geocode(depot));
+		}
+		// 연속 5회 실패 후에는 공급자를 호출하지 않고 바로 503
+		ResponseStatusException open = assertThrows(ResponseStatusException.class, () -> client.geocode(depot));
+		assertEquals(HttpStatus.SERVICE_UNAVAILABLE, open.getStatusCode());
+		assertEquals(5, calls.get());
+		assertEquals("OPEN", client.stats().get("circuit"));
+	}
+}
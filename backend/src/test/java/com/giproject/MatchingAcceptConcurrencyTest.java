@@ -0,0 +1,138 @@
+package com.giproject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.giproject.entity.account.UserIndex;
+import com.giproject.entity.cargo.CargoOwner;
+import com.giproject.entity.estimate.Estimate;
+import com.giproject.entity.matching.Matching;
+import com.giproject.entity.member.Member;
+import com.giproject.repository.account.UserIndexRepository;
+import com.giproject.repository.cargo.CargoOwnerRepository;
+import com.giproject.repository.estimate.EsmateRepository;
+import com.giproject.repository.matching.MatchingRepository;
+import com.giproject.repository.member.MemberRepository;
+import com.giproject.service.estimate.matching.MatchingService;
+
+/**
+ * 같은 견적에 N명의 기사가 동시에 수락해도 정확히 1명만 성공해야 한다.
+ * 각 수락이 별도 트랜잭션으로 커밋되어야 하므로 클래스에 @Transactional 을 두지 않고 직접 정리한다.
+ */
+@SpringBootTest
+public class MatchingAcceptConcurrencyTest {
+
+	private static final int DRIVERS = 16;
+
+	@Autowired
+	MatchingService matchingService;
+	@Autowired
+	MatchingRepository matchingRepository;
+	@Autowired
+	EsmateRepository esmateRepository;
+	@Autowired
+	MemberRepository memberRepository;
+	@Autowired
+	CargoOwnerRepository cargoOwnerRepository;
+	@Autowired
+	UserIndexRepository userIndexRepository;
+
+	private final String prefix = "cc" + UUID.randomUUID().toString().substring(0, 8);
+	private final List<CargoOwner> drivers = new ArrayList<>();
+	private Member shipper;
+	private Estimate estimate;
+	private Matching matching;
+
+	@BeforeEach
+	void setUp() {
+		String shipperId = prefix + "s";
+		userIndexRepository.save(UserIndex.builder()
+				.loginId(shipperId).role(UserIndex.Role.SHIPPER).email(shipperId + "@test.local").build());
+		shipper = memberRepository.save(Member.builder()
+				.memId(shipperId).memEmail(shipperId + "@test.local").memPw("pw").memName("동시성화주").build());
+
+		for (int i = 0; i < DRIVERS; i++) {
+			String cargoId = prefix + "d" + i;
+			userIndexRepository.save(UserIndex.builder()
+					.loginId(cargoId).role(UserIndex.Role.DRIVER).email(cargoId + "@test.local").build());
+			drivers.add(cargoOwnerRepository.save(CargoOwner.builder()
+					.cargoId(cargoId).cargoPw("pw").cargoEmail(cargoId + "@test.local").cargoName("기사" + i).build()));
+		}
+
+		estimate = esmateRepository.save(Estimate.builder()
+				.startAddress("서울특별시 강남구 역삼동")
+				.endAddress("경기도 김포시 장기동")
+				.cargoWeight("1톤")
+				.cargoType("일반")
+				.startTime(LocalDateTime.now().plusDays(1))
+				.totalCost(100000)
+				.member(shipper)
+				.build());
+		matching = matchingRepository.save(Matching.builder().estimate(estimate).isAccepted(false).build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		matchingRepository.deleteById(matching.getMatchingNo());
+		esmateRepository.deleteById(estimate.getEno());
+		drivers.forEach(d -> cargoOwnerRepository.deleteById(d.getCargoId()));
+		memberRepository.deleteById(shipper.getMemId());
+		drivers.forEach(d -> userIndexRepository.deleteById(d.getCargoId()));
+		userIndexRepository.deleteById(shipper.getMemId());
+	}
+
+	@Test
+	void onlyOneDriverWinsConcurrentAccept() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(DRIVERS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger winners = new AtomicInteger();
+		AtomicInteger losers = new AtomicInteger();
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (CargoOwner driver : drivers) {
+			futures.add(pool.submit(() -> {
+				start.await();
+				try {
+					matchingService.acceptMatching(estimate.getEno(), driver);
+					winners.incrementAndGet();
+				} catch (ResponseStatusException e) {
+					assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+					losers.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> f : futures) {
+			f.get(30, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(1, winners.get());
+		assertEquals(DRIVERS - 1, losers.get());
+
+		Matching saved = matchingRepository.findById(matching.getMatchingNo()).orElseThrow();
+		assertTrue(saved.isAccepted());
+		assertTrue(esmateRepository.findById(estimate.getEno()).orElseThrow().isMatched());
+	}
+}
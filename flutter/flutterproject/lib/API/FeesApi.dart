@@ -11,17 +11,27 @@ class FeesApi {
     headers: {"Content-Type": "application/json"},
   ));
 
-  Future<List<FeesModel>> fetchFees() async {
-    final response = await _dio.post("/g2i4/estimate/subpath/searchfeesbasic");
+  // at: 운송 시작 시각. 주면 그 시각에 적용될 요금표 (예약된 요금 변경 반영)
+  Future<List<FeesModel>> fetchFees({DateTime? at}) async {
+    final response = await _dio.post(
+      "/g2i4/estimate/subpath/searchfeesbasic",
+      queryParameters: _atParam(at),
+    );
     final List<dynamic> data = response.data;
     return data.map((e) => FeesDTO.fromJson(e).toModel()).toList();
   }
 
-  Future<List<FeesExtraModel>> fetchFeesExtra() async {
-    final response = await _dio.post('/g2i4/estimate/subpath/searchfeesextra');
+  Future<List<FeesExtraModel>> fetchFeesExtra({DateTime? at}) async {
+    final response = await _dio.post(
+      '/g2i4/estimate/subpath/searchfeesextra',
+      queryParameters: _atParam(at),
+    );
     final List<dynamic> data =response.data;
     print(data);
     return data.map((e) => FeesExtraDTO.fromJson(e).toModel()).toList();
 
   }
+
+  Map<String, dynamic>? _atParam(DateTime? at) =>
+      at == null ? null : {'at': at.toIso8601String().split('.').first};
 }
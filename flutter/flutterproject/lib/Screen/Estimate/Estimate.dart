@@ -115,12 +115,18 @@ class _EstimateState extends State<Estimate> {
   }
 
   Future<void> _loadFees() async {
-    setState(() => _loadingFees = true);
+    // 시작 시각 변경으로 다시 읽을 때는 선택 목록을 비우지 않는다 (선택값이 목록에 있어야 함)
+    setState(() => _loadingFees = _fees.isEmpty);
     try {
-      final list = await _feesApi.fetchFees();
+      final list = await _feesApi.fetchFees(at: _startTime);
       if (!mounted) return;
       setState(() {
         _fees = list;
+        // 선택한 중량은 새 요금표의 같은 항목으로
+        final weight = _selectedFee?.weight;
+        _selectedFee = weight == null
+            ? null
+            : list.where((f) => f.weight == weight).firstOrNull;
         _loadingFees = false;
       });
     } catch (e) {
@@ -135,11 +141,22 @@ class _EstimateState extends State<Estimate> {
   Future<void> _loadExtras() async {
     setState(() => _loadingExtras = true);
     try {
-      final list = await _feesApi.fetchFeesExtra();
+      final list = await _feesApi.fetchFeesExtra(at: _startTime);
 
       if (!mounted) return;
       setState(() {
+        // 선택한 추가요금은 이름으로 유지
+        final titles = _selectedExtraIdx
+            .where((i) => i < _extras.length)
+            .map((i) => _extras[i].extraChargeTitle)
+            .toSet();
         _extras = list;
+        _selectedExtraIdx
+          ..clear()
+          ..addAll([
+            for (var i = 0; i < list.length; i++)
+              if (titles.contains(list[i].extraChargeTitle)) i,
+          ]);
         _loadingExtras = false;
       });
     } catch (e) {
@@ -256,6 +273,9 @@ class _EstimateState extends State<Estimate> {
         time.minute,
       );
     });
+    // 요금표는 운송 시작 시각 기준 (예약된 요금 변경 반영)
+    _loadFees();
+    _loadExtras();
   }
 
   Future<void> _submitEstimate() async {
@@ -307,13 +327,8 @@ class _EstimateState extends State<Estimate> {
       'baseCost': _baseCost,
       'distanceCost': _distanceCost,
       'specialOption': _specialCost,
-      'specialNotes': [
-        for (final e in selectedExtra)
-          {
-            'title': e.extraChargeTitle, // ✅ 필드명 맞춤
-            'amount': e.extraCharge,
-          },
-      ],
+      // 서버는 추가요금 항목 이름만 받아 요금을 다시 계산한다
+      'specialNotes': [for (final e in selectedExtra) e.extraChargeTitle],
     };
 
     final ok = await showDialog<bool>(
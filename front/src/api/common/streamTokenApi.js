@@ -0,0 +1,11 @@
+import axios from "axios";
+import { API_SERVER_HOST } from "../serverConfig";
+
+// SSE 구독용 단기 토큰 (1분). EventSource 는 헤더를 못 보내 토큰이 URL 에 실리므로 액세스 토큰 대신 사용
+export const fetchStreamToken = async () => {
+  const accessToken = localStorage.getItem("accessToken") || sessionStorage.getItem("accessToken");
+  const res = await axios.post(`${API_SERVER_HOST}/api/auth/stream-token`, null, {
+    headers: { Authorization: `Bearer ${accessToken ?? ""}` },
+  });
+  return res.data.streamToken;
+};
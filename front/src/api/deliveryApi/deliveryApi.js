@@ -1,5 +1,6 @@
 import axios from "axios";
 import { API_SERVER_HOST } from "../serverConfig";
+import { fetchStreamToken } from "../common/streamTokenApi";
 
 const prefix = `${API_SERVER_HOST}/g2i4/delivery`;
 
@@ -17,4 +18,13 @@ export const createDelivery = async (paymentNo) =>{
   const res = await axios.post(`${prefix}/create`,{paymentNo:paymentNo})
 
   return res.data
-}
\ No newline at end of file
+}
+// 화주 실시간 배송 위치 (SSE). EventSource 는 헤더를 못 보내므로 단기 스트림 토큰을 쿼리로 전달
+// 사용: const es = await openTrackingStream(matchingNo); es.addEventListener("position", e => JSON.parse(e.data)); 끝나면 es.close()
+// 토큰이 만료된 뒤 끊기면 자동 재연결이 401 로 닫히므로 (readyState === EventSource.CLOSED) 다시 호출해서 연다
+export const openTrackingStream = async (matchingNo) => {
+  const streamToken = await fetchStreamToken();
+  return new EventSource(
+    `${prefix}/tracking/${matchingNo}/stream?stream_token=${encodeURIComponent(streamToken)}`
+  );
+};
@@ -1,5 +1,6 @@
 import axios from "axios";
 import { API_SERVER_HOST } from "../serverConfig";
+import { fetchStreamToken } from "../common/streamTokenApi";
 
 const prefix = `${API_SERVER_HOST}/g2i4/estimate`
 
@@ -100,8 +101,9 @@ export const getMyUnpaidEstimateList = async ({ page, size }) => {
   return res.data; // List<EstimateDTO>
 };
 
-export const postSearchFeesBasic = async () => {
-  const res = await axios.post(`${prefix}/subpath/searchfeesbasic`)
+// at: 운송 시작 시각 ("YYYY-MM-DDTHH:mm:ss"). 주면 그 시각에 적용될 요금표 (예약된 요금 변경 반영)
+export const postSearchFeesBasic = async (at) => {
+  const res = await axios.get(`${prefix}/subpath/searchfeesbasic`, { params: at ? { at } : {} })
   return res.data;
 }
 export const getMyPaidEstimateList = async ({ page, size }) => {
@@ -117,7 +119,13 @@ export const getMyPaidEstimateList = async ({ page, size }) => {
   return res.data;
 }
 
-export const postSearchFeesExtra = async () => {
-  const res = await axios.post(`${prefix}/subpath/searchfeesextra`)
+export const postSearchFeesExtra = async (at) => {
+  const res = await axios.get(`${prefix}/subpath/searchfeesextra`, { params: at ? { at } : {} })
   return res.data;
-}
\ No newline at end of file
+}
+// 기사용 신규 견적/철회 실시간 수신 (SSE). EventSource 는 헤더를 못 보내므로 단기 스트림 토큰을 쿼리로 전달
+// 토큰이 만료된 뒤 끊기면 자동 재연결이 401 로 닫히므로 다시 호출해서 연다
+export const openEstimateStream = async () => {
+  const streamToken = await fetchStreamToken();
+  return new EventSource(`${prefix}/stream?stream_token=${encodeURIComponent(streamToken)}`);
+};
@@ -77,10 +77,14 @@ const EstimateComponent = () => {
       navigate("/", { replace: true });
       return;
     }
+  }, [roles, email, navigate]);
 
+  // 요금표는 운송 시작 시각 기준 (예약된 요금 변경이 있으면 서버가 등록 시 쓰는 요금과 같게)
+  const feesAt = estimate.startTime ? estimate.startTime.format('YYYY-MM-DDTHH:mm:ss') : null;
+  useEffect(() => {
     const fetchData = async () => {
       try {
-        const data = await postSearchFeesBasic();
+        const data = await postSearchFeesBasic(feesAt);
         setFees(data);
       } catch (error) {
         console.log("API 호출 실패", error)
@@ -90,14 +94,18 @@ const EstimateComponent = () => {
 
     const extraFetchData = async () => {
       try {
-        const data = await postSearchFeesExtra()
+        const data = await postSearchFeesExtra(feesAt)
         setExtra(data)
+        // 선택한 추가요금은 이름으로 유지하고 금액만 새 요금표로
+        setSpecialNotes(prev => prev
+          .map(n => data.find(d => d.extraChargeTitle === n.extraChargeTitle))
+          .filter(Boolean))
       } catch (error) {
         console.log("Extra API 호출 실패", error)
       }
     }
     extraFetchData();
-  }, [roles, email, navigate]);
+  }, [feesAt]);
   useEffect(() => {
     const fee = fees.find(f => f.weight === estimate.cargoWeight) || null
     const base = fee ? Number(fee.initialCharge) : 0;
@@ -111,7 +119,8 @@ const EstimateComponent = () => {
       totalCost: base + distCost + extra,
       baseCost: base,
       distanceCost: distCost,
-      specialOption: extra
+      specialOption: extra,
+      specialNotes: specialNotes.map(n => n.extraChargeTitle)
     }))
 
 
@@ -163,6 +172,9 @@ const EstimateComponent = () => {
           };
           postAdd(estimateToSend)
             .then(result => {
+              if (result?.totalCost != null && Math.round(result.totalCost) !== Math.round(estimate.totalCost)) {
+                alert(`요금표 변경으로 금액이 ${Number(result.totalCost).toLocaleString()}원으로 확정되었습니다.`)
+              }
               alert('견적서 제출이 완료되었습니다.')
               moveToHome();
             })